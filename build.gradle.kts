@@ -46,14 +46,46 @@ dependencies {
     implementation(libs.bundles.flare)
     api(libs.gson)
     implementation(libs.jcTools)
+    implementation(libs.lz4)
 
     testImplementation(project(":testing"))
 }
 
+// Binary images of the static registry data, read at startup instead of parsing the JSON files
+val registrySnapshot = tasks.register<JavaExec>("registrySnapshot") {
+    val outputDir = layout.buildDirectory.dir("generated/registry-snapshot")
+    classpath = sourceSets.main.get().runtimeClasspath
+    mainClass.set("net.minestom.server.registry.RegistrySnapshot")
+    inputs.files(classpath)
+    outputs.dir(outputDir)
+    doFirst { delete(outputDir) }
+    argumentProviders.add { listOf(outputDir.get().asFile.absolutePath) }
+}
+
+tasks.jar {
+    from(registrySnapshot)
+}
+
 tasks.withType<JavaCompile> {
     options.compilerArgs.add("-Xlint:-requires-transitive-automatic") // Adventure dependencies are automatic until 5.0.0, see https://github.com/KyoriPowered/adventure/issues/1287
 }
 
+tasks.register<Test>("testForeignNetworkBuffer") {
+    group = "verification"
+    description = "Runs the network buffer tests with the foreign memory backend."
+
+    testClassesDirs = sourceSets["test"].output.classesDirs
+    classpath = sourceSets["test"].runtimeClasspath
+    jvmArgs("-Dminestom.network-buffer-foreign-memory=true")
+    filter {
+        includeTestsMatching("net.minestom.server.network.NetworkBuffer*")
+    }
+}
+
+tasks.check {
+    dependsOn("testForeignNetworkBuffer")
+}
+
 // GraalVM Native Image configuration
 tasks.register<Test>("testWithAgent") {
     group = "verification"
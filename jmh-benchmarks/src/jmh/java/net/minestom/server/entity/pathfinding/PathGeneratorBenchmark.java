@@ -0,0 +1,58 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.pathfinding.generators.FlyingNodeGenerator;
+import net.minestom.server.entity.pathfinding.generators.GroundNodeGenerator;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.entity.pathfinding.generators.WaterNodeGenerator;
+import net.minestom.server.instance.block.Block;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures path searches across a fixed world: a stone floor at y=40 with a grid of 3 blocks high pillars.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Thread)
+public class PathGeneratorBenchmark {
+    private static final Block.Getter WORLD = (x, y, z, condition) -> {
+        if (y < 40) return Block.STONE;
+        if (y < 43 && Math.floorMod(x, 6) == 0 && Math.floorMod(z, 4) == 0) return Block.STONE;
+        return Block.AIR;
+    };
+    private static final BoundingBox BOUNDING_BOX = new BoundingBox(0.6, 1.95, 0.6);
+
+    @Param({"ground", "flying", "water"})
+    public String generatorType;
+
+    @Param({"16", "40"})
+    public int distance;
+
+    private NodeGenerator generator;
+    private Pos start;
+    private Pos target;
+
+    @Setup
+    public void setup() {
+        this.generator = switch (generatorType) {
+            case "ground" -> new GroundNodeGenerator();
+            case "flying" -> new FlyingNodeGenerator();
+            case "water" -> new WaterNodeGenerator();
+            default -> throw new IllegalArgumentException(generatorType);
+        };
+        this.start = new Pos(0.5, 40, 0.5);
+        this.target = new Pos(distance + 0.5, 40, distance / 2 + 0.5);
+    }
+
+    @Benchmark
+    public PPath generate() {
+        return PathGenerator.generate(WORLD, start, target, 1, 50, 20,
+                BOUNDING_BOX, true, generator, null);
+    }
+}
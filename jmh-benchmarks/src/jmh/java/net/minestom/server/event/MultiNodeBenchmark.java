@@ -12,10 +12,13 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 public class MultiNodeBenchmark {
 
-    @Param({"0", "1", "3", "10"})
+    @Param({"0", "1", "3", "10", "1000"})
     public int children;
 
     private EventNode<Event> node;
+    private EventNode<Event> mappedNode;
+    // Mapped nodes are only weakly referenced by their owner
+    private Object[] owners;
 
     record TestEvent() implements Event {
     }
@@ -23,6 +26,9 @@ public class MultiNodeBenchmark {
     record TestEvent2() implements Event {
     }
 
+    record OwnedEvent(Object owner) implements Event {
+    }
+
     @Setup
     public void setup() {
         node = EventNode.all("node");
@@ -40,10 +46,30 @@ public class MultiNodeBenchmark {
                 // Empty
             }).call(new TestEvent2());
         }
+
+        mappedNode = EventNode.all("mapped");
+        final EventFilter<OwnedEvent, Object> filter = EventFilter.from(OwnedEvent.class, Object.class, OwnedEvent::owner);
+        owners = new Object[Math.max(children, 1)];
+        for (int i = 0; i < owners.length; i++) {
+            owners[i] = new Object();
+            mappedNode.map(owners[i], filter).addListener(OwnedEvent.class, e -> {
+                // Empty
+            });
+        }
     }
 
     @Benchmark
     public void call() {
         node.call(new TestEvent());
     }
+
+    @Benchmark
+    public boolean hasListener() {
+        return node.hasListener(TestEvent.class);
+    }
+
+    @Benchmark
+    public void mappedCall() {
+        mappedNode.call(new OwnedEvent(owners[owners.length / 2]));
+    }
 }
@@ -12,7 +12,7 @@ import java.util.concurrent.TimeUnit;
 @State(Scope.Benchmark)
 public class SingleNodeBenchmark {
 
-    @Param({"0", "1", "2", "3", "5", "10"})
+    @Param({"0", "1", "2", "3", "5", "10", "1000"})
     public int listenerCount;
 
     private EventNode<Event> node;
@@ -51,4 +51,9 @@ public class SingleNodeBenchmark {
     public void handleCall() {
         handle.call(new TestEvent());
     }
+
+    @Benchmark
+    public boolean hasListener() {
+        return node.hasListener(TestEvent.class);
+    }
 }
@@ -0,0 +1,107 @@
+package net.minestom.server.instance.anvil;
+
+import net.kyori.adventure.nbt.BinaryTagTypes;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.kyori.adventure.nbt.ListBinaryTag;
+import net.kyori.adventure.nbt.LongArrayBinaryTag;
+import org.openjdk.jmh.annotations.*;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Random;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Compares the load and save throughput of the region file implementations and compressions,
+ * on a region filled with chunk-like data.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RegionFileBenchmark {
+    @Param({"random-access", "mapped"})
+    public String implementation;
+
+    @Param({"ZLIB", "LZ4", "NONE"})
+    public RegionCompression compression;
+
+    private Path path;
+    private RegionFile regionFile;
+    private CompoundBinaryTag chunkData;
+
+    @Setup
+    public void setup() throws IOException {
+        this.path = Files.createTempFile("minestom-region-benchmark", ".mca");
+        this.regionFile = open(path);
+        this.chunkData = chunkData(new Random(0));
+        for (int chunkX = 0; chunkX < 32; chunkX++) {
+            for (int chunkZ = 0; chunkZ < 32; chunkZ++) {
+                regionFile.writeChunkData(chunkX, chunkZ, chunkData);
+            }
+        }
+    }
+
+    @TearDown
+    public void tearDown() throws IOException {
+        regionFile.close();
+        Files.deleteIfExists(path);
+    }
+
+    @Benchmark
+    public CompoundBinaryTag load() throws IOException {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        return regionFile.readChunkData(random.nextInt(32), random.nextInt(32));
+    }
+
+    @Benchmark
+    @Threads(4)
+    public CompoundBinaryTag loadParallel() throws IOException {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        return regionFile.readChunkData(random.nextInt(32), random.nextInt(32));
+    }
+
+    @Benchmark
+    public void save() throws IOException {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        regionFile.writeChunkData(random.nextInt(32), random.nextInt(32), chunkData);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void saveParallel() throws IOException {
+        final ThreadLocalRandom random = ThreadLocalRandom.current();
+        regionFile.writeChunkData(random.nextInt(32), random.nextInt(32), chunkData);
+    }
+
+    private RegionFile open(Path path) throws IOException {
+        return switch (implementation) {
+            case "random-access" -> new RandomAccessRegionFile(path, compression);
+            case "mapped" -> new MappedRegionFile(path, compression);
+            default -> throw new IllegalArgumentException("Unknown implementation: " + implementation);
+        };
+    }
+
+    private static CompoundBinaryTag chunkData(Random random) {
+        // Roughly the shape of a saved chunk, with partially compressible palettes
+        ListBinaryTag.Builder<CompoundBinaryTag> sections = ListBinaryTag.builder(BinaryTagTypes.COMPOUND);
+        for (int y = -4; y < 20; y++) {
+            long[] data = new long[256];
+            for (int i = 0; i < data.length; i++) data[i] = random.nextInt(16) == 0 ? random.nextLong() : 0;
+            sections.add(CompoundBinaryTag.builder()
+                    .putByte("Y", (byte) y)
+                    .put("block_states", CompoundBinaryTag.builder()
+                            .put("data", LongArrayBinaryTag.longArrayBinaryTag(data))
+                            .build())
+                    .build());
+        }
+        return CompoundBinaryTag.builder()
+                .putString("status", "minecraft:full")
+                .put("sections", sections.build())
+                .build();
+    }
+}
@@ -6,6 +6,7 @@ import net.minestom.server.instance.palette.Palette;
 import org.openjdk.jmh.annotations.*;
 import org.openjdk.jmh.infra.Blackhole;
 
+import java.util.Random;
 import java.util.concurrent.TimeUnit;
 
 @Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
@@ -121,5 +122,47 @@ public class LightComputeBenchmark {
         byte[] result = LightCompute.bake(content1, content2);
         blackhole.consume(result);
     }
+
+    @Benchmark
+    public void editStorm_full(EditStorm storm, Blackhole blackhole) {
+        var queue = BlockLight.buildInternalQueue(storm.palette);
+        blackhole.consume(LightCompute.compute(storm.palette, queue));
+    }
+
+    @Benchmark
+    public void editStorm_incremental(EditStorm storm, Blackhole blackhole) {
+        blackhole.consume(LightCompute.update(storm.palette, storm.content, storm.changes));
+    }
+
+    /**
+     * Section with scattered light sources, relit after a burst of block changes.
+     */
+    @State(Scope.Benchmark)
+    public static class EditStorm {
+        private static final Block[] BLOCKS = {Block.AIR, Block.STONE, Block.GLOWSTONE, Block.TORCH};
+
+        @Param({"1", "16", "64"})
+        public int edits;
+
+        private Palette palette;
+        private byte[] content;
+        private short[] changes;
+
+        @Setup
+        public void setup() {
+            final Random random = new Random(1);
+            palette = Palette.blocks();
+            for (int i = 0; i < 1024; i++) {
+                palette.set(random.nextInt(16), random.nextInt(16), random.nextInt(16), BLOCKS[random.nextInt(BLOCKS.length)].stateId());
+            }
+            content = LightCompute.compute(palette, BlockLight.buildInternalQueue(palette));
+            changes = new short[edits];
+            for (int i = 0; i < edits; i++) {
+                final int x = random.nextInt(16), y = random.nextInt(16), z = random.nextInt(16);
+                palette.set(x, y, z, BLOCKS[random.nextInt(BLOCKS.length)].stateId());
+                changes[i] = (short) (x | (z << 4) | (y << 8));
+            }
+        }
+    }
 }
 
@@ -0,0 +1,79 @@
+package net.minestom.server.network;
+
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.minestom.server.network.NetworkBuffer.*;
+
+/**
+ * Compares the Unsafe and foreign memory backends of {@link NetworkBuffer}.
+ * <p>
+ * The backend is fixed for the whole JVM, {@link Foreign} runs the same benchmarks in forks using the foreign one.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Thread)
+public class NetworkBufferBenchmark {
+    private static final int VALUE_COUNT = 1024;
+
+    @Param({"16", "4096"})
+    public int copyLength;
+
+    private int[] varInts;
+    private String[] strings;
+    private NetworkBuffer buffer;
+    private NetworkBuffer source;
+    private NetworkBuffer target;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        this.varInts = new int[VALUE_COUNT];
+        this.strings = new String[VALUE_COUNT];
+        for (int i = 0; i < VALUE_COUNT; i++) {
+            varInts[i] = i * 0x9E3779B1 >>> (i % 32);
+            strings[i] = "minecraft:entity_" + i;
+        }
+        this.buffer = allocate(VALUE_COUNT * 64L);
+        this.source = allocate(copyLength);
+        for (int i = 0; i < copyLength; i++) source.write(BYTE, (byte) i);
+        this.target = allocate(copyLength);
+    }
+
+    @Benchmark
+    public void varInt(Blackhole blackhole) {
+        NetworkBuffer buffer = this.buffer.clear();
+        for (int value : varInts) buffer.write(VAR_INT, value);
+        for (int i = 0; i < VALUE_COUNT; i++) blackhole.consume(buffer.read(VAR_INT));
+    }
+
+    @Benchmark
+    public void string(Blackhole blackhole) {
+        NetworkBuffer buffer = this.buffer.clear();
+        for (String value : strings) buffer.write(STRING, value);
+        for (int i = 0; i < VALUE_COUNT; i++) blackhole.consume(buffer.read(STRING));
+    }
+
+    @Benchmark
+    public void bulkCopy(Blackhole blackhole) {
+        NetworkBuffer.copy(source, 0, target, 0, copyLength);
+        blackhole.consume(target);
+    }
+
+    @Benchmark
+    public NetworkBuffer copy() {
+        return source.copy(0, copyLength);
+    }
+
+    private static NetworkBuffer allocate(long size) {
+        return NetworkBufferImpl.allocate(size, 0, 0, null, null);
+    }
+
+    @Fork(value = 3, jvmArgsAppend = "-Dminestom.network-buffer-foreign-memory=true")
+    public static class Foreign extends NetworkBufferBenchmark {
+    }
+}
@@ -0,0 +1,74 @@
+package net.minestom.server.network;
+
+import net.minestom.server.network.packet.PacketWriting;
+import org.openjdk.jmh.annotations.*;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+
+import static net.minestom.server.network.NetworkBuffer.STRING;
+
+/**
+ * Compares the per-packet pooled compression against a connection-owned {@link PacketWriting.CompressionContext}.
+ * <p>
+ * Each invocation writes a full flush worth of packets, the bytes produced are reported as a secondary metric.
+ */
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Thread)
+public class PacketCompressionBenchmark {
+    private static final int THRESHOLD = 256;
+
+    @Param({"16", "64"})
+    public int packetCount;
+
+    @Param({"300", "4000"})
+    public int packetSize;
+
+    private String payload;
+    private NetworkBuffer buffer;
+    private PacketWriting.CompressionContext compressionContext;
+
+    @AuxCounters(AuxCounters.Type.OPERATIONS)
+    @State(Scope.Thread)
+    public static class Bytes {
+        public long bytes;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            this.bytes = 0;
+        }
+    }
+
+    @Setup
+    public void setup() {
+        StringBuilder builder = new StringBuilder(packetSize);
+        for (int i = 0; i < packetSize; i++) builder.append((char) ('a' + (i * 31 % 7)));
+        this.payload = builder.toString();
+        this.buffer = NetworkBuffer.resizableBuffer((long) packetCount * packetSize * 2);
+        this.compressionContext = new PacketWriting.CompressionContext();
+    }
+
+    @Benchmark
+    public void pooled(Bytes bytes, Blackhole blackhole) {
+        NetworkBuffer buffer = this.buffer.clear();
+        for (int i = 0; i < packetCount; i++) {
+            PacketWriting.writeFramedPacket(buffer, STRING, 1, payload, THRESHOLD);
+        }
+        bytes.bytes += buffer.writeIndex();
+        blackhole.consume(buffer);
+    }
+
+    @Benchmark
+    public void connectionContext(Bytes bytes, Blackhole blackhole) {
+        NetworkBuffer buffer = this.buffer.clear();
+        for (int i = 0; i < packetCount; i++) {
+            PacketWriting.writeFramedPacket(buffer, STRING, 1, payload, THRESHOLD, compressionContext);
+        }
+        bytes.bytes += buffer.writeIndex();
+        blackhole.consume(buffer);
+    }
+}
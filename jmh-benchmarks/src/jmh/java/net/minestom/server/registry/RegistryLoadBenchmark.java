@@ -0,0 +1,45 @@
+package net.minestom.server.registry;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.concurrent.TimeUnit;
+
+@Warmup(iterations = 5, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Measurement(iterations = 10, time = 1000, timeUnit = TimeUnit.MILLISECONDS)
+@Fork(3)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class RegistryLoadBenchmark {
+
+    @Param({"block.json", "item.json", "tags/block.json"})
+    public String file;
+
+    private byte[] json;
+    private byte[] snapshot;
+
+    @Setup
+    public void setup() throws IOException {
+        try (InputStream input = RegistryData.loadRegistryFile(file)) {
+            if (input == null) throw new IllegalStateException("Missing registry file " + file);
+            this.json = input.readAllBytes();
+        }
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RegistrySnapshot.write(out, RegistryData.readJson(new ByteArrayInputStream(json)), json.length);
+        this.snapshot = out.toByteArray();
+    }
+
+    @Benchmark
+    public RegistryData.Properties json() throws IOException {
+        return RegistryData.readJson(new ByteArrayInputStream(json));
+    }
+
+    @Benchmark
+    public RegistryData.Properties snapshot() throws IOException {
+        return RegistrySnapshot.read(new ByteArrayInputStream(snapshot), json.length);
+    }
+}
@@ -11,23 +11,43 @@ import java.util.concurrent.TimeUnit;
 @OutputTimeUnit(TimeUnit.NANOSECONDS)
 @State(Scope.Benchmark)
 public class SchedulerTickBenchmark {
+    private static final Runnable NOOP = () -> {
+    };
 
     @Param({"0", "1", "5"})
     public int tickTasks;
 
+    // Cooldown-like tasks waiting in the scheduler, a fraction of them expiring every tick
+    @Param({"0", "100000"})
+    public int pendingTasks;
+
     Scheduler scheduler;
 
     @Setup
     public void setup() {
         this.scheduler = Scheduler.newScheduler();
         for (int i = 0; i < this.tickTasks; i++) {
-            this.scheduler.scheduleTask(() -> {
-            }, TaskSchedule.nextTick(), TaskSchedule.nextTick());
+            this.scheduler.scheduleTask(NOOP, TaskSchedule.nextTick(), TaskSchedule.nextTick());
+        }
+        for (int i = 0; i < this.pendingTasks; i++) {
+            if (i % 2 == 0) {
+                this.scheduler.scheduleTask(NOOP, TaskSchedule.tick(1 + i % 6000), TaskSchedule.tick(6000));
+            } else {
+                this.scheduler.scheduleTask(NOOP, TaskSchedule.millis(1 + i % 300_000), TaskSchedule.minutes(5));
+            }
         }
+        this.scheduler.process();
     }
 
     @Benchmark
     public void call() {
         this.scheduler.processTick();
     }
+
+    @Benchmark
+    public void scheduleCancel() {
+        Task task = this.scheduler.buildTask(NOOP).delay(TaskSchedule.tick(100)).schedule();
+        task.cancel();
+        this.scheduler.process();
+    }
 }
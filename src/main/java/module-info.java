@@ -16,6 +16,7 @@ module net.minestom.server {
     requires net.kyori.adventure.text.serializer.ansi;
     requires org.slf4j;
     requires org.jctools.core;
+    requires org.lz4.java;
     requires jdk.jfr;
     requires java.desktop;
     requires java.management;
@@ -47,6 +47,7 @@ public final class ServerFlag {
     public static final boolean GROUPED_PACKET = booleanProperty("minestom.grouped-packet", true);
     public static final boolean CACHED_PACKET = booleanProperty("minestom.cached-packet", true);
     public static final boolean VIEWABLE_PACKET = booleanProperty("minestom.viewable-packet", true);
+    public static final boolean VIEWABLE_PACKET_BROADCAST = booleanProperty("minestom.viewable-packet.broadcast", false);
 
     // Tags
     public static final boolean TAG_HANDLER_CACHE_ENABLED = booleanProperty("minestom.tag-handler-cache", true);
@@ -70,7 +71,31 @@ public final class ServerFlag {
     public static final boolean REGISTRY_UNSAFE_OPS = booleanProperty("minestom.registry.unsafe-ops");
     public static final boolean EVENT_NODE_ALLOW_MULTIPLE_PARENTS = booleanProperty("minestom.event.multiple-parents");
     public static final boolean FASTER_SOCKET_WRITES = booleanProperty("minestom.new-socket-write-lock"); // TODO: promote to default
+    public static final boolean TICK_ALIGNED_SOCKET_WRITES = booleanProperty("minestom.tick-aligned-socket-writes");
+    public static final boolean GATHERING_SOCKET_WRITES = booleanProperty("minestom.gathering-socket-writes");
+    public static final int SOCKET_EVENT_LOOPS = intProperty("minestom.socket-event-loops", 0, 0, Integer.MAX_VALUE); // 0 = virtual thread per connection
+    public static final boolean CONNECTION_COMPRESSION_CONTEXT = booleanProperty("minestom.connection-compression-context");
+    public static final boolean CHUNK_SAVE_QUEUE = booleanProperty("minestom.chunk-save-queue");
+    public static final int CHUNK_SAVE_BYTES_PER_SECOND = intProperty("minestom.chunk-save-bytes-per-second", 0, 0, Integer.MAX_VALUE); // 0 = unlimited
+    public static final boolean ANVIL_MAPPED_REGION_FILES = booleanProperty("minestom.anvil.mapped-region-files");
+    public static final boolean ANVIL_REGION_FILE_SYNC = booleanProperty("minestom.anvil.region-file-sync"); // Force every mapped chunk write to disk
+    public static final boolean DISPATCHER_BALANCING = booleanProperty("minestom.dispatcher-balancing");
+    public static final int CHUNK_PACKET_PREPARATION_THREADS = intProperty("minestom.chunk-packet-preparation-threads", 0, 0, Integer.MAX_VALUE); // 0 = serialized on send
+    // When positive, instance ticks and their InstanceTickEvent listeners run concurrently across instances
+    public static final int INSTANCE_TICK_THREADS = intProperty("minestom.instance-tick-threads", 0, 0, Integer.MAX_VALUE); // 0 = ticked sequentially
+    public static final int PATHFINDING_THREADS = intProperty("minestom.pathfinding-threads", 0, 0, Integer.MAX_VALUE); // 0 = computed by the caller
+    public static final int PATHFINDING_NODE_BUDGET = intProperty("minestom.pathfinding-node-budget", 0, 0, Integer.MAX_VALUE); // Per tick, 0 = unlimited
+    public static final boolean ENTITY_SPATIAL_INDEX = booleanProperty("minestom.entity-spatial-index");
+    public static final boolean NETWORK_BUFFER_FOREIGN_MEMORY = booleanProperty("minestom.network-buffer-foreign-memory");
     public static final boolean ACQUIRABLE_STRICT = booleanProperty("minestom.acquirable-strict", false);
+    public static final boolean REGISTRY_SNAPSHOT = booleanProperty("minestom.registry.snapshot"); // Falls back to JSON if missing or outdated
+    public static final int LIGHT_ENGINE_THREADS = intProperty("minestom.light-engine-threads", 0, 0, Integer.MAX_VALUE); // 0 = relit when sent
+    public static final int LIGHT_ENGINE_BUDGET = intProperty("minestom.light-engine-budget", 10, 0, Integer.MAX_VALUE); // Milliseconds per instance tick, 0 = unlimited
+    public static final boolean METADATA_COALESCING = booleanProperty("minestom.metadata-coalescing"); // Merge the metadata changes of an entity tick
+    public static final int ENTITY_ACTIVATION_RANGE = intProperty("minestom.entity-activation-range", 0, 0, Integer.MAX_VALUE); // Blocks, 0 = always active
+    public static final boolean ENTITY_SLEEPING = booleanProperty("minestom.entity-sleeping");
+    public static final int ENTITY_INACTIVE_INTERVAL = intProperty("minestom.entity-inactive-interval", 20, 1, Integer.MAX_VALUE); // Ticks between full ticks of skipped entities
+    public static final int ENTITY_MOVEMENT_LOD_DISTANCE = intProperty("minestom.entity-movement-lod-distance", 0, 0, Integer.MAX_VALUE); // Chunks per movement band, 0 = full rate
 
     public static boolean INSIDE_TEST = booleanProperty("minestom.inside-test", false);
 
@@ -9,6 +9,7 @@ import net.minestom.server.command.CommandManager;
 import net.minestom.server.component.DataComponents;
 import net.minestom.server.dialog.Dialog;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityActivation;
 import net.minestom.server.entity.damage.DamageType;
 import net.minestom.server.entity.metadata.animal.ChickenVariant;
 import net.minestom.server.entity.metadata.animal.CowVariant;
@@ -170,7 +171,8 @@ final class ServerProcessImpl implements ServerProcess {
 
         this.server = new Server(packetParser);
 
-        this.dispatcher = ThreadDispatcher.dispatcher(ThreadProvider.counter(), ServerFlag.DISPATCHER_THREADS);
+        this.dispatcher = ThreadDispatcher.dispatcher(ServerFlag.DISPATCHER_BALANCING ?
+                ThreadProvider.balanced() : ThreadProvider.counter(), ServerFlag.DISPATCHER_THREADS);
         this.ticker = new TickerImpl();
     }
 
@@ -431,6 +433,7 @@ final class ServerProcessImpl implements ServerProcess {
         scheduler.shutdown();
         connection.shutdown();
         server.stop();
+        instance.shutdown();
         LOGGER.info("Shutting down all thread pools.");
         benchmark.disable();
         dispatcher.shutdown();
@@ -475,12 +478,14 @@ final class ServerProcessImpl implements ServerProcess {
 
             // Flush all waiting packets
             PacketViewableUtils.flush();
+            connection().flushConnections();
 
             // Monitoring
             {
                 final double acquisitionTimeMs = Acquirable.resetAcquiringTime() / 1e6D;
                 final double tickTimeMs = (System.nanoTime() - nanoTime) / 1e6D;
-                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs);
+                final TickMonitor tickMonitor = new TickMonitor(tickTimeMs, acquisitionTimeMs,
+                        EntityActivation.resetActiveCount(), EntityActivation.resetSleepingCount());
                 EventDispatcher.call(new ServerTickMonitorEvent(tickMonitor));
             }
             serverTickEvent.commit();
@@ -489,13 +494,7 @@ final class ServerProcessImpl implements ServerProcess {
         private void serverTick(long nanoStart) {
             long milliStart = TimeUnit.NANOSECONDS.toMillis(nanoStart);
             // Tick all instances
-            for (Instance instance : instance().getInstances()) {
-                try {
-                    instance.tick(milliStart);
-                } catch (Exception e) {
-                    exception().handleException(e);
-                }
-            }
+            instance().tick(milliStart);
             // Tick all chunks (and entities inside)
             dispatcher().updateAndAwait(nanoStart);
 
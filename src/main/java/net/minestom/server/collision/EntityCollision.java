@@ -1,12 +1,15 @@
 package net.minestom.server.collision;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.instance.EntityTracker;
 import net.minestom.server.instance.Instance;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.List;
 import java.util.function.Function;
 
@@ -16,10 +19,27 @@ final class EntityCollision {
 
         List<EntityCollisionResult> result = new ArrayList<>();
 
-        var maxDistance = Math.pow(boundingBox.height() * boundingBox.height() + boundingBox.depth() / 2 * boundingBox.depth() / 2 + boundingBox.width() / 2 * boundingBox.width() / 2, 1 / 3.0);
-        double projectileDistance = entityVelocity.length();
+        final Collection<Entity> candidates;
+        if (ServerFlag.ENTITY_SPATIAL_INDEX) {
+            // Broadphase, only entities intersecting the swept bounding box can collide
+            final Vec start = new Vec(
+                    point.x() + boundingBox.minX() + Math.min(0, entityVelocity.x()) - extendRadius,
+                    point.y() + boundingBox.minY() + Math.min(0, entityVelocity.y()) - extendRadius,
+                    point.z() + boundingBox.minZ() + Math.min(0, entityVelocity.z()) - extendRadius);
+            final Vec end = new Vec(
+                    point.x() + boundingBox.maxX() + Math.max(0, entityVelocity.x()) + extendRadius,
+                    point.y() + boundingBox.maxY() + Math.max(0, entityVelocity.y()) + extendRadius,
+                    point.z() + boundingBox.maxZ() + Math.max(0, entityVelocity.z()) + extendRadius);
+            List<Entity> intersecting = new ArrayList<>();
+            instance.getEntityTracker().intersectingEntities(start, end, EntityTracker.Target.ENTITIES, intersecting::add);
+            candidates = intersecting;
+        } else {
+            var maxDistance = Math.pow(boundingBox.height() * boundingBox.height() + boundingBox.depth() / 2 * boundingBox.depth() / 2 + boundingBox.width() / 2 * boundingBox.width() / 2, 1 / 3.0);
+            double projectileDistance = entityVelocity.length();
+            candidates = instance.getNearbyEntities(point, extendRadius + maxDistance + projectileDistance);
+        }
 
-        for (Entity e : instance.getNearbyEntities(point, extendRadius + maxDistance + projectileDistance)) {
+        for (Entity e : candidates) {
             SweepResult sweepResult = new SweepResult(minimumRes, 0, 0, 0, null, 0, 0, 0, 0, 0, 0);
 
             if (!entityFilter.apply(e)) continue;
@@ -7,12 +7,15 @@ import net.minestom.server.command.builder.ParsedCommand;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.player.PlayerCommandEvent;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.SendablePacket;
 import net.minestom.server.network.packet.server.play.DeclareCommandsPacket;
 import net.minestom.server.utils.callback.CommandCallback;
 import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Manager used to register {@link Command commands}.
@@ -22,6 +25,8 @@ import java.util.*;
 public final class CommandManager {
 
     public static final String COMMAND_PREFIX = "/";
+    // Distinct condition outcomes kept, further ones are converted for each player
+    private static final int DECLARE_COMMANDS_CACHE_SIZE = 256;
 
     private final ServerSender serverSender = new ServerSender();
     private final ConsoleSender consoleSender = new ConsoleSender();
@@ -31,7 +36,7 @@ public final class CommandManager {
     private final Set<Command> commands = new HashSet<>();
 
     private CommandCallback unknownCommandCallback;
-    private volatile @Nullable Graph cachedGraph;
+    private volatile @Nullable GraphCache cachedGraph;
 
     public CommandManager() {
     }
@@ -190,6 +195,30 @@ public final class CommandManager {
         return GraphConverter.createPacket(getGraph(), player);
     }
 
+    /**
+     * Gets the commands packet for a specific player, shared by every player seeing the same commands.
+     * <p>
+     * Packets are cached by the outcome of the command conditions for the player,
+     * until a command is registered or unregistered.
+     *
+     * @param player the player to get the commands packet
+     * @return the commands packet for {@code player}
+     */
+    public SendablePacket declareCommandsPacket(Player player) {
+        final GraphCache cache = getGraphCache();
+        final BitSet fingerprint = new BitSet();
+        fingerprint(cache.graph().root(), player, fingerprint, 0);
+        final Map<BitSet, CachedPacket> packets = cache.declareCommandsPackets();
+        CachedPacket packet = packets.get(fingerprint);
+        if (packet != null) return packet;
+        packet = new CachedPacket(GraphConverter.createPacket(cache.graph(), player));
+        if (packets.size() < DECLARE_COMMANDS_CACHE_SIZE) {
+            final CachedPacket previous = packets.putIfAbsent(fingerprint, packet);
+            if (previous != null) packet = previous;
+        }
+        return packet;
+    }
+
     public Set<Command> getCommands() {
         return Collections.unmodifiableSet(commands);
     }
@@ -205,23 +234,49 @@ public final class CommandManager {
     }
 
     private Graph getGraph() {
-        Graph graph = cachedGraph;
-        if (graph == null) {
+        return getGraphCache().graph();
+    }
+
+    private GraphCache getGraphCache() {
+        GraphCache cache = cachedGraph;
+        if (cache == null) {
             synchronized (this) {
-                graph = cachedGraph;
-                if (graph == null) {
-                    graph = cachedGraph = Graph.merge(getCommands());
+                cache = cachedGraph;
+                if (cache == null) {
+                    cache = cachedGraph = new GraphCache(Graph.merge(getCommands()), new ConcurrentHashMap<>());
                 }
             }
         }
 
-        return graph;
+        return cache;
+    }
+
+    /**
+     * Records the outcome of every condition visited by {@link GraphConverter} for the player,
+     * conditions below a hidden node are skipped the same way.
+     */
+    private static int fingerprint(Graph.Node node, Player player, BitSet fingerprint, int index) {
+        final Graph.Execution execution = node.execution();
+        if (execution != null) {
+            final boolean visible = execution.test(player);
+            if (visible) fingerprint.set(index);
+            index++;
+            if (!visible) return index;
+        }
+        for (Graph.Node child : node.next()) {
+            index = fingerprint(child, player, fingerprint, index);
+        }
+        return index;
     }
 
     private void invalidateGraphCache() {
         cachedGraph = null;
     }
 
+    // Packets are tied to the graph they were converted from, both are dropped together
+    private record GraphCache(Graph graph, Map<BitSet, CachedPacket> declareCommandsPackets) {
+    }
+
     private static CommandResult resultConverter(ExecutableCommand executable,
                                                  ExecutableCommand.Result newResult,
                                                  String input) {
@@ -41,6 +41,7 @@ import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.item.component.CustomData;
 import net.minestom.server.monitoring.EventsJFR;
 import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.packet.server.play.*;
 import net.minestom.server.potion.Potion;
 import net.minestom.server.potion.PotionEffect;
@@ -185,6 +186,9 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     // Network synchronization, send the absolute position of the entity every n ticks
     private long synchronizationTicks = ServerFlag.ENTITY_SYNCHRONIZATION_TICKS;
     private long nextSynchronizationTick = synchronizationTicks;
+    // Position last sent to each movement band, null if every viewer is updated at full rate
+    private final Pos @Nullable [] bandSyncedPositions = ServerFlag.ENTITY_MOVEMENT_LOD_DISTANCE > 0 ?
+            new Pos[PacketViewableUtils.MOVEMENT_BANDS] : null;
 
     protected MetadataHolder metadata = new MetadataHolder(this);
     protected EntityMeta entityMeta;
@@ -193,6 +197,11 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
     // Tick related
     private long ticks;
+    // Activation, see EntityActivation
+    boolean inActivationRange = true;
+    int restTicks;
+    @Nullable Pos restPosition;
+    @Nullable Vec restVelocity;
 
     private final Acquirable<Entity> acquirable = Acquirable.unassigned(this);
 
@@ -204,6 +213,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         this.headRotation = 0;
         this.previousPosition = Pos.ZERO;
         this.lastSyncedPosition = Pos.ZERO;
+        resetMovementBands(Pos.ZERO);
 
         this.entityMeta = MetadataHolder.createMeta(entityType, this, this.metadata);
 
@@ -550,6 +560,12 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         }
         // Head position
         player.sendPacket(new EntityHeadLookPacket(getEntityId(), headRotation));
+        // Movement band, the next relative movements are based on the position last sent to it
+        final Chunk chunk = this.currentChunk;
+        if (bandSyncedPositions != null && chunk != null && ServerFlag.VIEWABLE_PACKET && hasPredictableViewers()) {
+            final int band = PacketViewableUtils.movementBand(chunk, player);
+            PacketViewableUtils.prepareBandPacket(chunk, band, getMovementBandSyncPacket(band), this);
+        }
     }
 
     /**
@@ -612,6 +628,10 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
      */
     @Override
     public void tick(long time) {
+        tick(time, EntityActivation.DEFAULT);
+    }
+
+    void tick(long time, EntityActivation activation) {
         if (instance == null || isRemoved() || !ChunkUtils.isLoaded(currentChunk))
             return;
 
@@ -621,14 +641,20 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
         // Entity tick
         {
-            // handle position and velocity updates
-            movementTick();
-
-            // handle block contacts
-            touchTick();
+            final EntityActivation.State state = activation.enabled() ?
+                    activation.state(this) : EntityActivation.State.ACTIVE;
+            if (state == EntityActivation.State.ACTIVE) {
+                // handle position and velocity updates
+                final Pos previousPosition = this.position;
+                movementTick();
+                if (activation.enabled()) activation.moved(this, previousPosition);
+
+                // handle block contacts
+                touchTick();
+            }
 
             // Call the abstract update method
-            update(time);
+            if (state != EntityActivation.State.INACTIVE) update(time);
 
             ticks++;
             EventDispatcher.call(new EntityTickEvent(this));
@@ -640,9 +666,13 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         if (vehicle == null && ticks >= nextSynchronizationTick) {
             synchronizePosition();
             sendPacketToViewers(getVelocityPacket());
+        } else if (bandSyncedPositions != null) {
+            synchronizeMovementBands();
         }
         // End of tick scheduled tasks
         this.scheduler.processTickEnd();
+        // Metadata changed during the tick
+        this.metadata.flushChanges();
     }
 
     @ApiStatus.Internal
@@ -800,6 +830,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
      */
     public void setBoundingBox(BoundingBox boundingBox) {
         this.boundingBox = boundingBox;
+        final Instance instance = this.instance;
+        if (instance != null) instance.getEntityTracker().boundingBoxUpdate(this);
     }
 
     /**
@@ -854,6 +886,7 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         setPositionInternal(spawnPosition, spawnPosition.yaw());
         this.previousPosition = spawnPosition;
         this.lastSyncedPosition = spawnPosition;
+        resetMovementBands(spawnPosition);
         this.previousPhysicsResult = null;
         this.instance = instance;
         return instance.loadOptionalChunk(spawnPosition).thenAccept(chunk -> {
@@ -923,6 +956,33 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
         });
     }
 
+    /**
+     * Gets if the entity is resting on the ground.
+     * <p>
+     * Only tracked when {@link EntityActivation#isEnabled()}, with {@link ServerFlag#ENTITY_SLEEPING}
+     * the physics of resting entities are only ticked periodically.
+     *
+     * @return true if the entity has not moved for a while
+     * @see EntityActivation
+     */
+    @ApiStatus.Experimental
+    public boolean isResting() {
+        return restPosition != null;
+    }
+
+    /**
+     * Wakes the entity up, its physics are ticked again until it comes back to rest.
+     *
+     * @see EntityActivation
+     */
+    @ApiStatus.Experimental
+    public void wake() {
+        this.restTicks = 0;
+        this.restPosition = null;
+        this.restVelocity = null;
+        this.inActivationRange = true;
+    }
+
     /**
      * Gets if the entity currently has a velocity applied.
      *
@@ -1318,35 +1378,97 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
             return;
         }
         // Update viewers
-        final boolean viewChange = !position.sameView(lastSyncedPosition);
-        final double distanceX = Math.abs(position.x() - lastSyncedPosition.x());
-        final double distanceY = Math.abs(position.y() - lastSyncedPosition.y());
-        final double distanceZ = Math.abs(position.z() - lastSyncedPosition.z());
-        final boolean positionChange = (distanceX + distanceY + distanceZ) > 0;
-
         final Chunk chunk = getChunk();
         assert chunk != null;
+        if (bandSyncedPositions != null && ServerFlag.VIEWABLE_PACKET && hasPredictableViewers()) {
+            // Further bands are updated at the end of the tick
+            sendMovement(chunk, 0, position, lastSyncedPosition);
+        } else {
+            sendMovement(chunk, -1, position, lastSyncedPosition);
+            resetMovementBands(position);
+        }
+        this.lastSyncedPosition = position;
+    }
+
+    /**
+     * Sends the movement from {@code lastPosition} to {@code position}.
+     *
+     * @param band the movement band of the viewers, -1 for every viewer
+     */
+    private void sendMovement(Chunk chunk, int band, Pos position, Pos lastPosition) {
+        final boolean viewChange = !position.sameView(lastPosition);
+        final double distanceX = Math.abs(position.x() - lastPosition.x());
+        final double distanceY = Math.abs(position.y() - lastPosition.y());
+        final double distanceZ = Math.abs(position.z() - lastPosition.z());
+        final boolean positionChange = (distanceX + distanceY + distanceZ) > 0;
+
         if (distanceX > 8 || distanceY > 8 || distanceZ > 8) {
             // Send relative 0 velocity to avoid affecting it in this case
-            PacketViewableUtils.prepareViewablePacket(chunk, new EntityTeleportPacket(getEntityId(), position,
-                    Vec.ZERO, RelativeFlags.DELTA_COORD, isOnGround()), this);
-            nextSynchronizationTick = synchronizationTicks + 1;
+            sendMovementPacket(chunk, band, new EntityTeleportPacket(getEntityId(), position,
+                    Vec.ZERO, RelativeFlags.DELTA_COORD, isOnGround()));
+            if (band <= 0) nextSynchronizationTick = synchronizationTicks + 1;
         } else if (positionChange && viewChange) {
-            PacketViewableUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, isOnGround()), this);
+            sendMovementPacket(chunk, band, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
+                    lastPosition, isOnGround()));
             // Fix head rotation
-            PacketViewableUtils.prepareViewablePacket(chunk, new EntityHeadLookPacket(getEntityId(), headRotation), this);
+            sendMovementPacket(chunk, band, new EntityHeadLookPacket(getEntityId(), headRotation));
         } else if (positionChange) {
             // This is a confusing fix for a confusing issue. If rotation is only sent when the entity actually changes, then spawning an entity
             // on the ground causes the entity not to update its rotation correctly. It works fine if the entity is spawned in the air. Very weird.
-            PacketViewableUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, onGround), this);
+            sendMovementPacket(chunk, band, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
+                    lastPosition, onGround));
         } else if (viewChange) {
-            PacketViewableUtils.prepareViewablePacket(chunk, new EntityHeadLookPacket(getEntityId(), headRotation), this);
-            PacketViewableUtils.prepareViewablePacket(chunk, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
-                    lastSyncedPosition, isOnGround()), this);
+            sendMovementPacket(chunk, band, new EntityHeadLookPacket(getEntityId(), headRotation));
+            sendMovementPacket(chunk, band, EntityPositionAndRotationPacket.getPacket(getEntityId(), position,
+                    lastPosition, isOnGround()));
+        }
+    }
+
+    private void sendMovementPacket(Chunk chunk, int band, ServerPacket packet) {
+        if (band < 0) {
+            PacketViewableUtils.prepareViewablePacket(chunk, packet, this);
+        } else {
+            PacketViewableUtils.prepareBandPacket(chunk, band, packet, this);
+        }
+    }
+
+    /**
+     * Sends the movement accumulated since the last update of each distant band whose interval has elapsed.
+     */
+    private void synchronizeMovementBands() {
+        final Chunk chunk = this.currentChunk;
+        if (chunk == null || !ServerFlag.VIEWABLE_PACKET || !hasPredictableViewers()) return;
+        final Pos position = this.position;
+        final Pos[] positions = this.bandSyncedPositions;
+        for (int band = 1; band < positions.length; band++) {
+            // Spread the updates of the entities sharing a band over its interval
+            if (((ticks + id) & ((1L << band) - 1)) != 0) continue;
+            final Pos lastPosition = positions[band];
+            if (position.equals(lastPosition)) continue;
+            sendMovement(chunk, band, position, lastPosition);
+            positions[band] = position;
         }
-        this.lastSyncedPosition = position;
+    }
+
+    /**
+     * Gets the absolute position last sent to the viewers of a movement band.
+     * <p>
+     * Sent to the viewers joining the band, as its relative movements are based on that position.
+     *
+     * @param band the movement band
+     * @return the synchronization packet
+     */
+    @ApiStatus.Internal
+    public EntityPositionSyncPacket getMovementBandSyncPacket(int band) {
+        final Pos[] positions = this.bandSyncedPositions;
+        // The first band is updated with every movement
+        final Pos position = positions == null || band == 0 ? lastSyncedPosition : positions[band];
+        return new EntityPositionSyncPacket(getEntityId(), position, Vec.ZERO, position.yaw(), position.pitch(), isOnGround());
+    }
+
+    private void resetMovementBands(Pos position) {
+        final Pos[] positions = this.bandSyncedPositions;
+        if (positions != null) Arrays.fill(positions, position);
     }
 
     @ApiStatus.Internal
@@ -1408,6 +1530,8 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
             Check.notNull(newChunk, "The entity {0} tried to move in an unloaded chunk at {1}", getEntityId(), newPosition);
             if (this instanceof Player player) player.sendChunkUpdates(newChunk);
             refreshCurrentChunk(newChunk);
+            // Bands are based on the chunk distance, synchronize every viewer at the end of the tick
+            if (bandSyncedPositions != null) this.nextSynchronizationTick = ticks;
         }
     }
 
@@ -1559,11 +1683,15 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
 
         MinecraftServer.process().dispatcher().removeElement(this);
         this.removed = true;
-        if (!permanent) {
+        if (permanent) {
+            // The scheduler will never be processed again
+            this.scheduler.cancelAll();
+        } else {
             // Reset some state to be ready for re-use
             setPositionInternal(Pos.ZERO, 0);
             this.previousPosition = Pos.ZERO;
             this.lastSyncedPosition = Pos.ZERO;
+            resetMovementBands(Pos.ZERO);
         }
         Instance currentInstance = this.instance;
         if (currentInstance != null) {
@@ -1648,9 +1776,16 @@ public class Entity implements Viewable, Tickable, Schedulable, Snapshotable, Ev
     protected void synchronizePosition() {
         final Pos posCache = this.position;
         final Pos delta = posCache.sub(lastSyncedPosition);
-        PacketViewableUtils.prepareViewablePacket(currentChunk, new EntityPositionSyncPacket(getEntityId(), posCache, delta, posCache.yaw(), posCache.pitch(), isOnGround()), this);
+        final EntityPositionSyncPacket packet = new EntityPositionSyncPacket(getEntityId(), posCache, delta, posCache.yaw(), posCache.pitch(), isOnGround());
+        if (bandSyncedPositions != null && currentChunk != null && ServerFlag.VIEWABLE_PACKET && hasPredictableViewers()) {
+            // Keep the sync after the band movements of this tick, they are flushed after the viewable packets
+            PacketViewableUtils.prepareBandsPacket(currentChunk, packet, this);
+        } else {
+            PacketViewableUtils.prepareViewablePacket(currentChunk, packet, this);
+        }
         nextSynchronizationTick = ticks + synchronizationTicks;
         this.lastSyncedPosition = posCache;
+        resetMovementBands(posCache);
     }
 
     private void synchronizeView() {
@@ -0,0 +1,171 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.instance.EntityTracker;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.SharedInstance;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Decides which parts of an entity tick are run.
+ * <p>
+ * Entities further than {@link ServerFlag#ENTITY_ACTIVATION_RANGE} blocks from every player skip their physics,
+ * block touches and {@link Entity#update(long)}. With {@link ServerFlag#ENTITY_SLEEPING}, entities resting on the ground
+ * skip their physics and block touches. Both still run them once every {@link ServerFlag#ENTITY_INACTIVE_INTERVAL} ticks.
+ * <p>
+ * Resting entities wake up once their velocity or position is changed, when damaged, or when a block is set next to them.
+ * Players are always active.
+ */
+@ApiStatus.Experimental
+public final class EntityActivation {
+    static final EntityActivation DEFAULT = new EntityActivation(ServerFlag.ENTITY_ACTIVATION_RANGE,
+            ServerFlag.ENTITY_SLEEPING, ServerFlag.ENTITY_INACTIVE_INTERVAL);
+
+    // Ticks an entity must stay still before resting
+    private static final int REST_TICKS = 20;
+    // Distance from a changed block in which entities are woken up
+    private static final double WAKE_RANGE = 2;
+
+    // Metrics, reset every server tick
+    private static final LongAdder ACTIVE = new LongAdder();
+    private static final LongAdder SLEEPING_COUNT = new LongAdder();
+
+    enum State {
+        /**
+         * Full tick.
+         */
+        ACTIVE,
+        /**
+         * Resting, physics and block touches are skipped.
+         */
+        SLEEPING,
+        /**
+         * Out of range, physics, block touches and update are skipped.
+         */
+        INACTIVE
+    }
+
+    private final int range;
+    private final boolean sleeping;
+    private final int interval;
+    private final boolean enabled;
+
+    EntityActivation(int range, boolean sleeping, int interval) {
+        this.range = range;
+        this.sleeping = sleeping;
+        this.interval = interval;
+        this.enabled = range > 0 || sleeping;
+    }
+
+    /**
+     * Gets if entity ticks can be skipped.
+     *
+     * @return true if an activation range or sleeping is enabled
+     */
+    public static boolean isEnabled() {
+        return DEFAULT.enabled;
+    }
+
+    /**
+     * Wakes up the entities next to a changed block.
+     *
+     * @param instance the instance of the block
+     * @param x        the block X
+     * @param y        the block Y
+     * @param z        the block Z
+     */
+    @ApiStatus.Internal
+    public static void wakeNearby(Instance instance, int x, int y, int z) {
+        if (!DEFAULT.sleeping) return;
+        instance.getEntityTracker().nearbyEntities(new Vec(x + 0.5, y + 0.5, z + 0.5), WAKE_RANGE,
+                EntityTracker.Target.ENTITIES, Entity::wake);
+    }
+
+    /**
+     * Gets and resets the number of full entity ticks since the last call.
+     *
+     * @return the active entity count
+     */
+    @ApiStatus.Internal
+    public static int resetActiveCount() {
+        return (int) ACTIVE.sumThenReset();
+    }
+
+    /**
+     * Gets and resets the number of entity ticks which skipped their physics since the last call.
+     *
+     * @return the sleeping and inactive entity count
+     */
+    @ApiStatus.Internal
+    public static int resetSleepingCount() {
+        return (int) SLEEPING_COUNT.sumThenReset();
+    }
+
+    boolean enabled() {
+        return enabled;
+    }
+
+    State state(Entity entity) {
+        if (entity instanceof Player) {
+            ACTIVE.increment();
+            return State.ACTIVE;
+        }
+        // Changes made outside of physics, e.g. a new velocity or a teleport
+        final Pos restPosition = entity.restPosition;
+        if (restPosition != null && (!entity.position.samePoint(restPosition) || !entity.velocity.equals(entity.restVelocity))) {
+            entity.wake();
+        }
+        // Spread the full ticks of skipped entities over the interval
+        final boolean fullTick = (entity.getAliveTicks() + entity.getEntityId()) % interval == 0;
+        State state = State.ACTIVE;
+        if (range > 0) {
+            if (fullTick) entity.inActivationRange = hasPlayerInRange(entity);
+            if (!entity.inActivationRange && !fullTick) state = State.INACTIVE;
+        }
+        if (state == State.ACTIVE && sleeping && entity.restPosition != null && !fullTick) {
+            state = State.SLEEPING;
+        }
+        (state == State.ACTIVE ? ACTIVE : SLEEPING_COUNT).increment();
+        return state;
+    }
+
+    void moved(Entity entity, Pos previousPosition) {
+        if (entity instanceof Player) return;
+        final Vec velocity = entity.velocity;
+        if (entity.onGround && entity.vehicle == null && velocity.x() == 0 && velocity.z() == 0 &&
+                entity.position.samePoint(previousPosition)) {
+            if (entity.restPosition == null && ++entity.restTicks >= REST_TICKS) {
+                entity.restPosition = entity.position;
+                entity.restVelocity = velocity;
+            }
+        } else if (entity.restTicks != 0) {
+            entity.wake();
+        }
+    }
+
+    private boolean hasPlayerInRange(Entity entity) {
+        final Instance instance = entity.getInstance();
+        final Pos position = entity.getPosition();
+        final double squaredRange = (double) range * range;
+        if (hasPlayerInRange(instance, position, squaredRange)) return true;
+        // Players of shared instances see the entities of their container
+        if (instance instanceof InstanceContainer container && container.hasSharedInstances()) {
+            for (SharedInstance shared : container.getSharedInstances()) {
+                if (hasPlayerInRange(shared, position, squaredRange)) return true;
+            }
+        }
+        return false;
+    }
+
+    private static boolean hasPlayerInRange(Instance instance, Pos position, double squaredRange) {
+        for (Player player : instance.getPlayers()) {
+            if (player.getPosition().distanceSquared(position) <= squaredRange) return true;
+        }
+        return false;
+    }
+}
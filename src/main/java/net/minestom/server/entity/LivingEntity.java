@@ -333,6 +333,7 @@ public class LivingEntity extends Entity implements EquipmentHandler {
         EventDispatcher.callCancellable(entityDamageEvent, () -> {
             // Set the last damage type since the event is not cancelled
             this.lastDamage = entityDamageEvent.getDamage();
+            wake();
 
             float remainingDamage = entityDamageEvent.getDamage().getAmount();
 
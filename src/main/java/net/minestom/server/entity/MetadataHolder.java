@@ -2,6 +2,7 @@ package net.minestom.server.entity;
 
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.entity.metadata.EntityMeta;
 import net.minestom.server.entity.metadata.ambient.BatMeta;
 import net.minestom.server.entity.metadata.animal.*;
@@ -37,7 +38,9 @@ import net.minestom.server.entity.metadata.water.DolphinMeta;
 import net.minestom.server.entity.metadata.water.GlowSquidMeta;
 import net.minestom.server.entity.metadata.water.SquidMeta;
 import net.minestom.server.entity.metadata.water.fish.*;
+import net.minestom.server.instance.Chunk;
 import net.minestom.server.network.packet.server.play.EntityMetaDataPacket;
+import net.minestom.server.utils.PacketViewableUtils;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
@@ -49,10 +52,12 @@ import java.util.function.BiFunction;
 
 public final class MetadataHolder {
     private static final VarHandle NOTIFIED_CHANGES;
+    private static final VarHandle DIRTY_INDICES;
 
     static {
         try {
             NOTIFIED_CHANGES = MethodHandles.lookup().findVarHandle(MetadataHolder.class, "notifyAboutChanges", boolean.class);
+            DIRTY_INDICES = MethodHandles.lookup().findVarHandle(MetadataHolder.class, "dirtyIndices", long.class);
         } catch (NoSuchFieldException | IllegalAccessException e) {
             throw new IllegalStateException(e);
         }
@@ -65,6 +70,11 @@ public final class MetadataHolder {
     private volatile boolean notifyAboutChanges = true;
     private final Map<Integer, Metadata.Entry<?>> notNotifiedChanges = new HashMap<>();
 
+    private volatile boolean coalesceChanges = ServerFlag.METADATA_COALESCING;
+    // Indices changed since the last flush, one bit per index
+    @SuppressWarnings("unused")
+    private volatile long dirtyIndices;
+
     public MetadataHolder(@Nullable Entity entity) {
         this.entity = entity;
     }
@@ -113,6 +123,8 @@ public final class MetadataHolder {
                 synchronized (this.notNotifiedChanges) {
                     this.notNotifiedChanges.put(id, result);
                 }
+            } else if (this.coalesceChanges && id < Long.SIZE) {
+                DIRTY_INDICES.getAndBitwiseOr(this, 1L << id);
             } else {
                 entity.sendPacketToViewersAndSelf(new EntityMetaDataPacket(entity.getEntityId(), Map.of(id, result)));
             }
@@ -154,6 +166,45 @@ public final class MetadataHolder {
         entity.sendPacketToViewersAndSelf(new EntityMetaDataPacket(entity.getEntityId(), entries));
     }
 
+    /**
+     * Changes if metadata changes are merged until the end of the entity tick,
+     * instead of being sent to the viewers one by one.
+     * <p>
+     * Defaults to {@link ServerFlag#METADATA_COALESCING}. Disabling it sends the pending changes.
+     *
+     * @param coalesceChanges true to send one packet per entity tick
+     */
+    public void setCoalesceChanges(boolean coalesceChanges) {
+        this.coalesceChanges = coalesceChanges;
+        if (!coalesceChanges) flushChanges();
+    }
+
+    /**
+     * Sends the changes merged since the last call as a single packet.
+     * <p>
+     * Called at the end of every entity tick.
+     */
+    void flushChanges() {
+        final long dirty = (long) DIRTY_INDICES.getAndSet(this, 0L);
+        if (dirty == 0) return;
+        final Entity entity = this.entity;
+        if (entity == null || !entity.isActive()) return;
+        final Map<Integer, Metadata.Entry<?>> changes = HashMap.newHashMap(Long.bitCount(dirty));
+        for (long remaining = dirty; remaining != 0; remaining &= remaining - 1) {
+            final int id = Long.numberOfTrailingZeros(remaining);
+            final Metadata.Entry<?> value = this.entries.get(id);
+            if (value != null) changes.put(id, value);
+        }
+        final EntityMetaDataPacket packet = new EntityMetaDataPacket(entity.getEntityId(), changes);
+        final Chunk chunk = entity.getChunk();
+        if (chunk != null) {
+            PacketViewableUtils.prepareViewablePacket(chunk, packet, entity);
+        } else {
+            entity.sendPacketToViewers(packet);
+        }
+        if (entity instanceof Player player) player.sendPacket(packet);
+    }
+
     public Map<Integer, Metadata.Entry<?>> getEntries() {
         return Map.copyOf(this.entries);
     }
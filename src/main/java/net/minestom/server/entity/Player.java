@@ -1,7 +1,11 @@
 package net.minestom.server.entity;
 
+import it.unimi.dsi.fastutil.longs.LongArrayList;
 import it.unimi.dsi.fastutil.longs.LongArrayPriorityQueue;
+import it.unimi.dsi.fastutil.longs.LongList;
+import it.unimi.dsi.fastutil.longs.LongOpenHashSet;
 import it.unimi.dsi.fastutil.longs.LongPriorityQueue;
+import it.unimi.dsi.fastutil.longs.LongSet;
 import net.kyori.adventure.audience.MessageType;
 import net.kyori.adventure.bossbar.BossBar;
 import net.kyori.adventure.dialog.DialogLike;
@@ -45,6 +49,7 @@ import net.minestom.server.event.item.PickupExperienceEvent;
 import net.minestom.server.event.item.PlayerFinishItemUseEvent;
 import net.minestom.server.event.player.*;
 import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.ChunkPacketPreparer;
 import net.minestom.server.instance.EntityTracker;
 import net.minestom.server.instance.Instance;
 import net.minestom.server.instance.SharedInstance;
@@ -158,6 +163,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
     private Vec chunksLoadedByClient = Vec.ZERO;
     private final ReentrantLock chunkQueueLock = new ReentrantLock();
     private final LongPriorityQueue chunkQueue = new LongArrayPriorityQueue(this::compareChunkDistance);
+    private final LongSet awaitedChunks = new LongOpenHashSet(); // Chunks which already waited for their packet preparation
     private boolean needsChunkPositionSync = true;
     private float targetChunksPerTick = 9f; // Always send 9 chunks immediately
     private float pendingChunkCount = 0f; // Number of chunks to send on the current tick (ie 0.5 means we cannot send a chunk yet, 1.5 would send a single chunk with a 0.5 remainder)
@@ -539,7 +545,7 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
      * again, and any changes will be visible to the player.
      */
     public void refreshCommands() {
-        sendPacket(MinecraftServer.getCommandManager().createDeclareCommandsPacket(this));
+        sendPacket(MinecraftServer.getCommandManager().declareCommandsPacket(this));
     }
 
     /**
@@ -772,6 +778,8 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         } finally {
             chunkQueueLock.unlock();
         }
+        // Serialize the packet before the chunk is dequeued, if enabled
+        ChunkPacketPreparer.prepare(chunk);
     }
 
     private void sendPendingChunks() {
@@ -784,20 +792,8 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
 
         chunkQueueLock.lock();
         try {
-            int batchSize = 0;
-            sendPacket(new ChunkBatchStartPacket());
-            while (!chunkQueue.isEmpty() && pendingChunkCount >= 1f) {
-                long chunkIndex = chunkQueue.dequeueLong();
-                int chunkX = CoordConversion.chunkIndexGetX(chunkIndex), chunkZ = CoordConversion.chunkIndexGetZ(chunkIndex);
-                var chunk = instance.getChunk(chunkX, chunkZ);
-                if (chunk == null || !chunk.isLoaded()) continue;
-
-                sendPacket(chunk.getFullDataPacket());
-                EventDispatcher.call(new PlayerChunkLoadEvent(this, chunkX, chunkZ));
-
-                pendingChunkCount -= 1f;
-                batchSize += 1;
-            }
+            final int batchSize = ChunkPacketPreparer.isEnabled() ? sendPreparedChunks() : sendQueuedChunks();
+            if (batchSize < 0) return; // Nothing ready yet
             sendPacket(new ChunkBatchFinishedPacket(batchSize));
             chunkBatchLead += 1;
 //            logger.debug("chunk batch sent player={} chunks={} lead={}", username, batchSize, chunkBatchLead);
@@ -815,10 +811,76 @@ public class Player extends LivingEntity implements CommandSender, HoverEventSou
         }
     }
 
+    private int sendQueuedChunks() {
+        int batchSize = 0;
+        sendPacket(new ChunkBatchStartPacket());
+        while (!chunkQueue.isEmpty() && pendingChunkCount >= 1f) {
+            long chunkIndex = chunkQueue.dequeueLong();
+            int chunkX = CoordConversion.chunkIndexGetX(chunkIndex), chunkZ = CoordConversion.chunkIndexGetZ(chunkIndex);
+            var chunk = instance.getChunk(chunkX, chunkZ);
+            if (chunk == null || !chunk.isLoaded()) continue;
+
+            sendPacket(chunk.getFullDataPacket());
+            EventDispatcher.call(new PlayerChunkLoadEvent(this, chunkX, chunkZ));
+
+            pendingChunkCount -= 1f;
+            batchSize += 1;
+        }
+        return batchSize;
+    }
+
+    /**
+     * Sends the queued chunks whose packet is ready, the others are queued again.
+     *
+     * @return the number of sent chunks, -1 if none was ready
+     */
+    private int sendPreparedChunks() {
+        List<Chunk> batch = new ArrayList<>();
+        LongList waiting = null;
+        while (!chunkQueue.isEmpty() && batch.size() < (int) pendingChunkCount) {
+            long chunkIndex = chunkQueue.dequeueLong();
+            int chunkX = CoordConversion.chunkIndexGetX(chunkIndex), chunkZ = CoordConversion.chunkIndexGetZ(chunkIndex);
+            var chunk = instance.getChunk(chunkX, chunkZ);
+            if (chunk == null || !chunk.isLoaded()) {
+                awaitedChunks.remove(chunkIndex);
+                continue;
+            }
+            // The first chunk is always sent immediately to prevent falling through the floor
+            if (!needsChunkPositionSync && awaitPreparation(chunkIndex, chunk)) {
+                if (waiting == null) waiting = new LongArrayList();
+                waiting.add(chunkIndex);
+                continue;
+            }
+            awaitedChunks.remove(chunkIndex);
+            batch.add(chunk);
+        }
+        if (waiting != null) {
+            for (int i = 0; i < waiting.size(); i++) chunkQueue.enqueue(waiting.getLong(i));
+            if (batch.isEmpty()) return -1;
+        }
+
+        sendPacket(new ChunkBatchStartPacket());
+        for (Chunk chunk : batch) {
+            sendPacket(chunk.getFullDataPacket());
+            EventDispatcher.call(new PlayerChunkLoadEvent(this, chunk.getChunkX(), chunk.getChunkZ()));
+        }
+        final int batchSize = batch.size();
+        pendingChunkCount -= batchSize;
+        return batchSize;
+    }
+
+    private boolean awaitPreparation(long chunkIndex, Chunk chunk) {
+        if (!ChunkPacketPreparer.isEnabled()) return false;
+        if (ChunkPacketPreparer.isPreparing(chunk)) return true;
+        // Invalidated since its preparation, only wait once so that frequently modified chunks are not starved
+        return awaitedChunks.add(chunkIndex) && ChunkPacketPreparer.prepare(chunk);
+    }
+
     private void resetChunkQueue() {
         chunkQueueLock.lock();
         try {
             chunkQueue.clear();
+            awaitedChunks.clear();
             needsChunkPositionSync = true;
             targetChunksPerTick = 9f;
             pendingChunkCount = 0f;
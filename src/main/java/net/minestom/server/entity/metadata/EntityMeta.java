@@ -39,6 +39,16 @@ public class EntityMeta {
         this.metadata.setNotifyAboutChanges(notifyAboutChanges);
     }
 
+    /**
+     * Sets whether changes to this meta are merged and sent once at the end of the entity tick.
+     * By default it's set to {@link net.minestom.server.ServerFlag#METADATA_COALESCING}.
+     *
+     * @param coalesceChanges if to send a single packet per entity tick
+     */
+    public void setCoalesceChanges(boolean coalesceChanges) {
+        this.metadata.setCoalesceChanges(coalesceChanges);
+    }
+
     public boolean isOnFire() {
         return metadata.get(MetadataDef.IS_ON_FIRE);
     }
@@ -105,15 +105,7 @@ public final class Navigator {
 
         if (this.computingPath != null) this.computingPath.setState(PPath.State.TERMINATING);
 
-        this.computingPath = PathGenerator.generate(instance,
-                this.entity.getPosition(),
-                point,
-                minimumDistance, maxDistance,
-                pathVariance,
-                this.entity.getBoundingBox(),
-                this.entity.isOnGround(),
-                this.nodeGenerator,
-                onComplete);
+        this.computingPath = generate(instance, point, minimumDistance, maxDistance, pathVariance, onComplete);
 
         this.goalPosition = point;
         return true;
@@ -161,11 +153,8 @@ public final class Navigator {
         if (currentTarget == null || path.getCurrentType() == PNode.Type.REPATH || path.getCurrentType() == null) {
             if (computingPath != null && computingPath.getState() == PPath.State.CALCULATING) return;
 
-            computingPath = PathGenerator.generate(entity.getInstance(),
-                    entity.getPosition(),
-                    goalPosition.asPos(),
-                    minimumDistance, path.maxDistance(),
-                    path.pathVariance(), entity.getBoundingBox(), this.entity.isOnGround(), nodeGenerator, null);
+            computingPath = generate(entity.getInstance(), goalPosition.asPos(),
+                    minimumDistance, path.maxDistance(), path.pathVariance(), null);
 
             return;
         }
@@ -232,6 +221,16 @@ public final class Navigator {
         this.nodeGenerator = nodeGenerator.get();
     }
 
+    private PPath generate(Instance instance, Point target, double minimumDistance, double maxDistance,
+                           double pathVariance, @Nullable Runnable onComplete) {
+        if (PathfindingService.isEnabled()) {
+            return PathfindingService.submit(instance, entity.getPosition(), target, minimumDistance, maxDistance,
+                    pathVariance, entity.getBoundingBox(), entity.isOnGround(), nodeGenerator, onComplete);
+        }
+        return PathGenerator.generate(instance, entity.getPosition(), target, minimumDistance, maxDistance,
+                pathVariance, entity.getBoundingBox(), entity.isOnGround(), nodeGenerator, onComplete);
+    }
+
     /**
      * Visualise path for debugging
      *
@@ -0,0 +1,378 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.instance.block.Block;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.IntPredicate;
+
+/**
+ * A* search core of {@link PathGenerator}.
+ * <p>
+ * Nodes are stored in parallel primitive arrays, the open set is a binary heap of node indices and the closed set
+ * an open-addressing table keyed by block position. Buffers are kept per thread and reused across searches,
+ * {@link PNode}s are only created for the nodes of the resulting path.
+ */
+final class PathSearch {
+    private static final ThreadLocal<PathSearch> LOCAL = ThreadLocal.withInitial(PathSearch::new);
+    private static final PNode.Type[] TYPES = PNode.Type.values();
+    private static final int NONE = -1;
+
+    // Nodes
+    private int nodeCount;
+    private double[] x = new double[256], y = new double[256], z = new double[256];
+    private int[] blockX = new int[256], blockY = new int[256], blockZ = new int[256];
+    private double[] g = new double[256], h = new double[256];
+    private int[] parent = new int[256];
+    private byte[] type = new byte[256];
+
+    // Open set, min-heap on g + h
+    private int openSize;
+    private int[] open = new int[256];
+
+    // Closed set, node indices valid for the current generation only
+    private int closedSize;
+    private int[] closed = new int[512];
+    private int[] closedGeneration = new int[512];
+    private int generation;
+
+    // Reused for every expansion, generators only read it
+    private final PNode current = new PNode(0, 0, 0, 0, 0, null);
+    private final ClosedView closedView = new ClosedView();
+    private boolean inUse;
+
+    static PathSearch acquire() {
+        PathSearch search = LOCAL.get();
+        // A generator may start another search on the same thread
+        if (search.inUse) search = new PathSearch();
+        search.inUse = true;
+        return search;
+    }
+
+    void release() {
+        this.inUse = false;
+    }
+
+    void compute(Block.Getter getter, Point start, Point target,
+                 double closeDistance, double maxDistance, double pathVariance,
+                 BoundingBox boundingBox, PPath path, NodeGenerator generator, IntPredicate budget) {
+        reset();
+        final double straightDistance = generator.heuristic(start, target);
+        final int maxSize = (int) Math.floor(maxDistance * 10);
+        final double maxDistanceSquared = maxDistance * maxDistance;
+        closeDistance = Math.max(0.8, closeDistance);
+
+        double closestDistance = Double.MAX_VALUE;
+        int closest = NONE;
+
+        enqueue(addNode(start.x(), start.y(), start.z(), 0, generator.heuristic(start, target), PNode.Type.WALK, NONE));
+
+        int expanded = 0;
+        while (openSize > 0 && closedSize < maxSize) {
+            if (path.getState() == PPath.State.TERMINATING ||
+                    (++expanded % PathGenerator.BUDGET_BATCH == 0 && !budget.test(PathGenerator.BUDGET_BATCH))) {
+                path.setState(PPath.State.TERMINATED);
+                return;
+            }
+
+            final int node = dequeue();
+            if ((g[node] + h[node]) - straightDistance > pathVariance) continue;
+            if (!within(node, start, maxDistance)) continue;
+            if (within(node, target, closeDistance)) {
+                enqueue(node);
+                break;
+            }
+
+            if (h[node] < closestDistance) {
+                closestDistance = h[node];
+                closest = node;
+            }
+
+            current.setPoint(x[node], y[node], z[node]);
+            current.setG(g[node]);
+            current.setH(h[node]);
+            current.setType(TYPES[type[node]]);
+            final Collection<? extends PNode> found = generator.getWalkable(getter, closedView, current, target, boundingBox);
+            for (PNode p : found) {
+                if (distanceSquared(p.x(), p.y(), p.z(), start) > maxDistanceSquared) continue;
+                final int index = addNode(p.x(), p.y(), p.z(), p.g(), p.h(), p.getType(), node);
+                enqueue(index);
+                close(index);
+            }
+        }
+
+        int end = openSize > 0 ? dequeue() : NONE;
+        boolean repath = false;
+        if (end == NONE || !within(end, target, closeDistance)) {
+            if (closest == NONE) {
+                path.setState(PPath.State.INVALID);
+                return;
+            }
+            end = closest;
+            repath = openSize > 0;
+        }
+
+        // Materialize the nodes from the start, the root node itself is excluded
+        int length = 0;
+        for (int i = end; parent[i] != NONE; i = parent[i]) length++;
+        final PNode[] nodes = new PNode[length + (repath ? 1 : 0)];
+        int i = end;
+        for (int index = length - 1; index >= 0; index--) {
+            nodes[index] = new PNode(x[i], y[i], z[i], g[i], h[i], TYPES[type[i]], null);
+            i = parent[i];
+        }
+        for (int index = 1; index < length; index++) nodes[index].setParent(nodes[index - 1]);
+        if (repath) nodes[length] = new PNode(0, 0, 0, 0, 0, PNode.Type.REPATH, length > 0 ? nodes[length - 1] : null);
+        path.getNodes().addAll(Arrays.asList(nodes));
+
+        if (path.getCurrentType() == PNode.Type.REPATH) {
+            path.setState(PPath.State.INVALID);
+            path.getNodes().clear();
+            return;
+        }
+
+        if (path.getNodes().isEmpty()) {
+            path.setState(PPath.State.INVALID);
+            return;
+        }
+
+        final PNode lastNode = path.getNodes().getLast();
+        if (distanceSquared(lastNode.x(), lastNode.y(), lastNode.z(), target) > (closeDistance * closeDistance)) {
+            path.setState(PPath.State.BEST_EFFORT);
+            return;
+        }
+
+        path.getNodes().add(new PNode(target, 0, 0, PNode.Type.WALK, null));
+        path.setState(PPath.State.COMPUTED);
+    }
+
+    private void reset() {
+        this.nodeCount = 0;
+        this.openSize = 0;
+        this.closedSize = 0;
+        if (++generation == 0) {
+            // Wrapped around, stale entries could become valid again
+            Arrays.fill(closedGeneration, 0);
+            this.generation = 1;
+        }
+    }
+
+    private int addNode(double px, double py, double pz, double pg, double ph, PNode.Type ptype, int pparent) {
+        final int index = nodeCount++;
+        if (index == x.length) growNodes();
+        x[index] = px;
+        y[index] = py;
+        z[index] = pz;
+        blockX[index] = (int) Math.floor(px);
+        blockY[index] = (int) Math.floor(py);
+        blockZ[index] = (int) Math.floor(pz);
+        g[index] = pg;
+        h[index] = ph;
+        type[index] = (byte) ptype.ordinal();
+        parent[index] = pparent;
+        return index;
+    }
+
+    private void growNodes() {
+        final int capacity = x.length * 2;
+        x = Arrays.copyOf(x, capacity);
+        y = Arrays.copyOf(y, capacity);
+        z = Arrays.copyOf(z, capacity);
+        blockX = Arrays.copyOf(blockX, capacity);
+        blockY = Arrays.copyOf(blockY, capacity);
+        blockZ = Arrays.copyOf(blockZ, capacity);
+        g = Arrays.copyOf(g, capacity);
+        h = Arrays.copyOf(h, capacity);
+        parent = Arrays.copyOf(parent, capacity);
+        type = Arrays.copyOf(type, capacity);
+    }
+
+    private double f(int node) {
+        return g[node] + h[node];
+    }
+
+    private void enqueue(int node) {
+        if (openSize == open.length) open = Arrays.copyOf(open, openSize * 2);
+        int index = openSize++;
+        final double f = f(node);
+        while (index > 0) {
+            final int parentIndex = (index - 1) >>> 1;
+            final int parentNode = open[parentIndex];
+            if (f(parentNode) <= f) break;
+            open[index] = parentNode;
+            index = parentIndex;
+        }
+        open[index] = node;
+    }
+
+    private int dequeue() {
+        final int result = open[0];
+        final int last = open[--openSize];
+        if (openSize > 0) {
+            final double f = f(last);
+            int index = 0;
+            while (true) {
+                int child = (index << 1) + 1;
+                if (child >= openSize) break;
+                if (child + 1 < openSize && f(open[child + 1]) < f(open[child])) child++;
+                if (f <= f(open[child])) break;
+                open[index] = open[child];
+                index = child;
+            }
+            open[index] = last;
+        }
+        return result;
+    }
+
+    private void close(int node) {
+        // Keep the load factor under 0.5
+        if ((closedSize + 1) * 2 > closed.length) growClosed();
+        if (insert(closed, closedGeneration, node)) closedSize++;
+    }
+
+    private boolean insert(int[] table, int[] generations, int node) {
+        final int mask = table.length - 1;
+        int slot = hash(blockX[node], blockY[node], blockZ[node]) & mask;
+        while (generations[slot] == generation) {
+            if (sameBlock(table[slot], blockX[node], blockY[node], blockZ[node])) return false;
+            slot = (slot + 1) & mask;
+        }
+        table[slot] = node;
+        generations[slot] = generation;
+        return true;
+    }
+
+    private void growClosed() {
+        final int[] oldTable = closed, oldGenerations = closedGeneration;
+        this.closed = new int[oldTable.length * 2];
+        this.closedGeneration = new int[oldTable.length * 2];
+        for (int slot = 0; slot < oldTable.length; slot++) {
+            if (oldGenerations[slot] == generation) insert(closed, closedGeneration, oldTable[slot]);
+        }
+    }
+
+    private boolean isClosed(int bx, int by, int bz) {
+        return closedSlot(bx, by, bz) != NONE;
+    }
+
+    private int closedSlot(int bx, int by, int bz) {
+        final int mask = closed.length - 1;
+        int slot = hash(bx, by, bz) & mask;
+        while (closedGeneration[slot] == generation) {
+            if (sameBlock(closed[slot], bx, by, bz)) return slot;
+            slot = (slot + 1) & mask;
+        }
+        return NONE;
+    }
+
+    private boolean reopen(int bx, int by, int bz) {
+        int hole = closedSlot(bx, by, bz);
+        if (hole == NONE) return false;
+        // Shift the following entries back, linear probing cannot leave gaps in a chain
+        final int mask = closed.length - 1;
+        int slot = (hole + 1) & mask;
+        while (closedGeneration[slot] == generation) {
+            final int node = closed[slot];
+            final int ideal = hash(blockX[node], blockY[node], blockZ[node]) & mask;
+            if (((slot - ideal) & mask) >= ((slot - hole) & mask)) {
+                closed[hole] = node;
+                hole = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        closedGeneration[hole] = 0; // Never a valid generation
+        closedSize--;
+        return true;
+    }
+
+    private boolean sameBlock(int node, int bx, int by, int bz) {
+        return blockX[node] == bx && blockY[node] == by && blockZ[node] == bz;
+    }
+
+    private boolean within(int node, Point target, double distance) {
+        return distanceSquared(x[node], y[node], z[node], target) < distance * distance;
+    }
+
+    private static int hash(int bx, int by, int bz) {
+        int hash = bx * 0x9E3779B1 + by * 0x85EBCA77 + bz * 0xC2B2AE3D;
+        return hash ^ (hash >>> 16);
+    }
+
+    private static double distanceSquared(double x, double y, double z, Point target) {
+        final double dx = x - target.x();
+        final double dy = y - target.y();
+        final double dz = z - target.z();
+        return dx * dx + dy * dy + dz * dz;
+    }
+
+    /**
+     * Closed set as seen by {@link NodeGenerator#getWalkable(Block.Getter, java.util.Set, PNode, Point, BoundingBox)}.
+     * <p>
+     * Nodes are compared by block position, like {@link PNode#equals(Object)}. Iterated nodes are created
+     * from the closed entries of the current search.
+     */
+    private final class ClosedView extends AbstractSet<PNode> {
+        @Override
+        public boolean contains(Object o) {
+            return o instanceof PNode node && isClosed(node.blockX(), node.blockY(), node.blockZ());
+        }
+
+        @Override
+        public boolean add(PNode node) {
+            if (isClosed(node.blockX(), node.blockY(), node.blockZ())) return false;
+            close(addNode(node.x(), node.y(), node.z(), node.g(), node.h(), node.getType(), NONE));
+            return true;
+        }
+
+        @Override
+        public boolean remove(Object o) {
+            return o instanceof PNode node && reopen(node.blockX(), node.blockY(), node.blockZ());
+        }
+
+        @Override
+        public int size() {
+            return closedSize;
+        }
+
+        @Override
+        public @NotNull Iterator<PNode> iterator() {
+            // Snapshot of the entries, removals shift the table
+            final int[] nodes = new int[closedSize];
+            int count = 0;
+            for (int slot = 0; slot < closed.length; slot++) {
+                if (closedGeneration[slot] == generation) nodes[count++] = closed[slot];
+            }
+            return new Iterator<>() {
+                private int index;
+                private int last = NONE;
+
+                @Override
+                public boolean hasNext() {
+                    return index < nodes.length;
+                }
+
+                @Override
+                public PNode next() {
+                    if (!hasNext()) throw new NoSuchElementException();
+                    final int node = nodes[index++];
+                    this.last = node;
+                    return new PNode(x[node], y[node], z[node], g[node], h[node], TYPES[type[node]], null);
+                }
+
+                @Override
+                public void remove() {
+                    if (last == NONE) throw new IllegalStateException();
+                    reopen(blockX[last], blockY[last], blockZ[last]);
+                    this.last = NONE;
+                }
+            };
+        }
+    }
+}
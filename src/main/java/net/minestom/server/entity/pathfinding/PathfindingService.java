@@ -0,0 +1,220 @@
+package net.minestom.server.entity.pathfinding;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.entity.pathfinding.generators.NodeGenerator;
+import net.minestom.server.instance.Instance;
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.utils.chunk.ChunkCache;
+import net.minestom.server.utils.time.Tick;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * Computes the paths of {@link Navigator}s off the tick thread.
+ * <p>
+ * Searches run on {@link ServerFlag#PATHFINDING_THREADS} threads, reading blocks through their own chunk cache.
+ * Requests with the same instance, start and target blocks, bounding box, parameters and generator type
+ * share a single search. {@link ServerFlag#PATHFINDING_NODE_BUDGET} limits the nodes expanded by all searches per tick.
+ */
+@ApiStatus.Experimental
+public final class PathfindingService {
+    private static final long TICK_NANOS = Tick.SERVER_TICKS.getDuration().toNanos();
+    private static final int NODE_BUDGET = ServerFlag.PATHFINDING_NODE_BUDGET;
+    private static final @Nullable ExecutorService POOL = createPool();
+    private static final ConcurrentHashMap<Key, Search> SEARCHES = new ConcurrentHashMap<>();
+
+    // Budget of the current tick window, shared by every search
+    private static final Object BUDGET_LOCK = new Object();
+    private static long budgetWindow;
+    private static long remainingNodes;
+
+    // Metrics
+    private static final AtomicInteger QUEUE_LENGTH = new AtomicInteger();
+    private static final AtomicLong COMPLETED = new AtomicLong();
+    private static final AtomicLong DEDUPLICATED = new AtomicLong();
+    private static volatile long averageSearchNanos;
+
+    private PathfindingService() {
+    }
+
+    /**
+     * Gets if paths are computed off the tick thread.
+     *
+     * @return true if {@link ServerFlag#PATHFINDING_THREADS} is positive
+     */
+    public static boolean isEnabled() {
+        return POOL != null;
+    }
+
+    /**
+     * Gets the number of searches waiting for or in computation.
+     *
+     * @return the search queue length
+     */
+    public static int queueLength() {
+        return QUEUE_LENGTH.get();
+    }
+
+    /**
+     * Gets the average time between the submission of a search and its completion, including budget waits.
+     *
+     * @return the moving average search time, in nanoseconds
+     */
+    public static long averageSearchNanos() {
+        return averageSearchNanos;
+    }
+
+    /**
+     * Gets the number of searches completed since startup.
+     *
+     * @return the completed search count
+     */
+    public static long completedCount() {
+        return COMPLETED.get();
+    }
+
+    /**
+     * Gets the number of requests which joined an identical pending search instead of starting their own.
+     *
+     * @return the deduplicated request count
+     */
+    public static long deduplicatedCount() {
+        return DEDUPLICATED.get();
+    }
+
+    static PPath submit(Instance instance, Pos start, Point target,
+                        double closeDistance, double maxDistance, double pathVariance,
+                        BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator,
+                        @Nullable Runnable onComplete) {
+        final ExecutorService pool = POOL;
+        Check.stateCondition(pool == null, "The pathfinding service is disabled");
+        final PPath path = new PPath(maxDistance, pathVariance, onComplete);
+        final Key key = new Key(instance, start.blockX(), start.blockY(), start.blockZ(),
+                target.blockX(), target.blockY(), target.blockZ(),
+                closeDistance, maxDistance, pathVariance, boundingBox, isOnGround, generator.getClass());
+        final Search search = new Search();
+        search.requests.add(path);
+        final Search existing = SEARCHES.putIfAbsent(key, search);
+        if (existing != null && existing.join(path)) {
+            DEDUPLICATED.incrementAndGet();
+            return path;
+        }
+        if (existing != null) SEARCHES.put(key, search); // Completed meanwhile
+        final long submitted = System.nanoTime();
+        QUEUE_LENGTH.incrementAndGet();
+        pool.execute(() -> {
+            try {
+                search(key, search, instance, start, target, closeDistance, maxDistance, pathVariance,
+                        boundingBox, isOnGround, generator);
+            } finally {
+                QUEUE_LENGTH.decrementAndGet();
+                COMPLETED.incrementAndGet();
+                final long time = System.nanoTime() - submitted;
+                // Exponential moving average, racy updates only lose a sample
+                averageSearchNanos += (time - averageSearchNanos) / 16;
+            }
+        });
+        return path;
+    }
+
+    private static void search(Key key, Search search, Instance instance, Pos start, Point target,
+                               double closeDistance, double maxDistance, double pathVariance,
+                               BoundingBox boundingBox, boolean isOnGround, NodeGenerator generator) {
+        final PPath result = new PPath(maxDistance, pathVariance, null);
+        try {
+            // Unloaded chunks are considered solid
+            final Block.Getter getter = new ChunkCache(instance, null, Block.BARRIER);
+            // Generators keep scratch state, a navigator may still have a terminating search running
+            synchronized (generator) {
+                PathGenerator.generate(getter, start, target, closeDistance, maxDistance, pathVariance,
+                        boundingBox, isOnGround, generator, result, nodes -> acquire(search, nodes));
+            }
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            result.setState(PPath.State.INVALID);
+        }
+        // Later requests start a new search, the world may have changed
+        SEARCHES.remove(key, search);
+        for (PPath path : search.complete()) {
+            if (path.getState() == PPath.State.TERMINATING) {
+                path.setState(PPath.State.TERMINATED);
+                continue;
+            }
+            path.getNodes().addAll(result.getNodes());
+            path.setState(result.getState());
+        }
+    }
+
+    private static boolean acquire(Search search, int nodes) {
+        if (search.isAbandoned()) return false;
+        if (NODE_BUDGET <= 0) return true;
+        while (true) {
+            final long now = System.nanoTime();
+            final long window = Math.floorDiv(now, TICK_NANOS);
+            synchronized (BUDGET_LOCK) {
+                if (window != budgetWindow) {
+                    budgetWindow = window;
+                    remainingNodes = NODE_BUDGET;
+                }
+                if (remainingNodes > 0) {
+                    remainingNodes -= nodes;
+                    return true;
+                }
+            }
+            // Exhausted, wait for the next tick
+            LockSupport.parkNanos(TICK_NANOS - Math.floorMod(now, TICK_NANOS));
+            if (search.isAbandoned()) return false;
+        }
+    }
+
+    private static @Nullable ExecutorService createPool() {
+        final int threads = ServerFlag.PATHFINDING_THREADS;
+        if (threads <= 0) return null;
+        final AtomicInteger index = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable ->
+                Thread.ofPlatform().name("Ms-Pathfinding-" + index.getAndIncrement()).daemon().unstarted(runnable));
+    }
+
+    private record Key(Instance instance, int startX, int startY, int startZ,
+                       int targetX, int targetY, int targetZ,
+                       double closeDistance, double maxDistance, double pathVariance,
+                       BoundingBox boundingBox, boolean isOnGround, Class<?> generator) {
+    }
+
+    private static final class Search {
+        private final List<PPath> requests = new ArrayList<>();
+        private boolean completed;
+
+        synchronized boolean join(PPath path) {
+            if (completed) return false;
+            requests.add(path);
+            return true;
+        }
+
+        synchronized boolean isAbandoned() {
+            for (PPath path : requests) {
+                if (path.getState() != PPath.State.TERMINATING) return false;
+            }
+            return true;
+        }
+
+        synchronized List<PPath> complete() {
+            this.completed = true;
+            return requests;
+        }
+    }
+}
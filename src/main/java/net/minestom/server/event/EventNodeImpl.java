@@ -1,5 +1,8 @@
 package net.minestom.server.event;
 
+import it.unimi.dsi.fastutil.bytes.ByteArrayList;
+import it.unimi.dsi.fastutil.ints.IntArrayList;
+import it.unimi.dsi.fastutil.objects.ObjectArrayList;
 import net.minestom.server.MinecraftServer;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.event.trait.AsyncEvent;
@@ -13,7 +16,6 @@ import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.CopyOnWriteArraySet;
-import java.util.function.BiConsumer;
 import java.util.function.BiPredicate;
 import java.util.function.Consumer;
 
@@ -53,6 +55,9 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
     @Override
     @SuppressWarnings("unchecked")
     public <E extends T> ListenerHandle<E> getHandle(Class<E> handleType) {
+        // Plain lookup first, the capturing mapping function would be allocated on every call
+        final Handle<T> handle = handleMap.get(handleType);
+        if (handle != null) return (ListenerHandle<E>) handle;
         return (ListenerHandle<E>) handleMap.computeIfAbsent(handleType,
                 aClass -> new Handle<>((Class<T>) aClass));
     }
@@ -334,7 +339,7 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
     @SuppressWarnings("unchecked")
     final class Handle<E extends Event> implements ListenerHandle<E> {
         private final Class<E> eventType;
-        private Consumer<E> listener = null;
+        private Dispatch<E> dispatch = null;
         private volatile boolean updated;
 
         Handle(Class<E> eventType) {
@@ -345,10 +350,10 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
         public void call(E event) {
             assert !(event instanceof AsyncEvent) || Thread.currentThread().isVirtual() :
                     "AsyncEvent must be called within a Virtual Thread, got " + Thread.currentThread();
-            final Consumer<E> listener = updatedListener();
-            if (listener == null) return;
+            final Dispatch<E> dispatch = updatedDispatch();
+            if (dispatch == null) return;
             try {
-                listener.accept(event);
+                dispatch.run(event);
             } catch (Throwable e) {
                 MinecraftServer.getExceptionManager().handleException(e);
             }
@@ -356,170 +361,237 @@ non-sealed class EventNodeImpl<T extends Event> implements EventNode<T> {
 
         @Override
         public boolean hasListener() {
-            return updatedListener() != null;
+            return updatedDispatch() != null;
         }
 
         void invalidate() {
             this.updated = false;
-            this.listener = null;
+            this.dispatch = null;
         }
 
-        @Nullable Consumer<E> updatedListener() {
-            if (updated) return listener;
+        @Nullable Dispatch<E> updatedDispatch() {
+            if (updated) return dispatch;
             synchronized (GLOBAL_CHILD_LOCK) {
-                if (updated) return listener;
-                final Consumer<E> listener = createConsumer();
-                this.listener = listener;
+                if (updated) return dispatch;
+                final Dispatch.Builder<E> builder = new Dispatch.Builder<>();
+                appendNode(builder, (EventNodeImpl<E>) EventNodeImpl.this);
+                final Dispatch<E> dispatch = builder.build();
+                this.dispatch = dispatch;
                 this.updated = true;
-                return listener;
+                return dispatch;
             }
         }
 
-        private @Nullable Consumer<E> createConsumer() {
-            var node = (EventNodeImpl<E>) EventNodeImpl.this;
+        /**
+         * Appends the steps of the node and of its children, the whole subtree is flattened
+         * so that calling the event does not have to walk the graph.
+         * <p>
+         * Most computation should ideally be done here as a one-time cost.
+         */
+        private void appendNode(Dispatch.Builder<E> builder, EventNodeImpl<E> node) {
+            final int start = builder.size();
+            final boolean hasPredicate = node.predicate != null;
+            if (hasPredicate) builder.add(Dispatch.GUARD, null, node);
+            final int content = builder.size();
             // Standalone listeners
-            List<Consumer<E>> listeners = new ArrayList<>();
             forTargetEvents(eventType, type -> {
                 final ListenerEntry<E> entry = node.listenerMap.get(type);
-                if (entry != null) {
-                    final Consumer<E> result = listenersConsumer(entry);
-                    if (result != null) listeners.add(result);
-                }
+                if (entry == null) return;
+                for (EventListener<E> listener : entry.listeners) builder.add(Dispatch.LISTENER, listener, node);
+                for (Consumer<E> consumer : entry.bindingConsumers) builder.add(Dispatch.CONSUMER, consumer, node);
             });
-            final Consumer<E>[] listenersArray = listeners.toArray(Consumer[]::new);
             // Mapped
-            final Consumer<E> mappedListener = mappedConsumer();
+            appendMapped(builder, node);
             // Children
-            final Consumer<E>[] childrenListeners = node.children.stream()
-                    .filter(child -> child.eventType.isAssignableFrom(eventType)) // Invalid event type
-                    .sorted(Comparator.comparing(EventNode::getPriority))
-                    .map(child -> ((Handle<E>) child.getHandle(eventType)).updatedListener())
-                    .filter(Objects::nonNull)
-                    .toArray(Consumer[]::new);
+            final List<EventNodeImpl<E>> children = new ArrayList<>(node.children.size());
+            for (EventNodeImpl<E> child : node.children) {
+                if (child.eventType.isAssignableFrom(eventType)) children.add(child); // Skip invalid event types
+            }
+            children.sort(Comparator.comparingInt(EventNode::getPriority));
+            for (EventNodeImpl<E> child : children) appendNode(builder, child);
             // Empty check
-            final BiPredicate<E, Object> predicate = node.predicate;
-            final EventFilter<E, ?> filter = node.filter;
-            final boolean hasPredicate = predicate != null;
-            final boolean hasListeners = listenersArray.length > 0;
-            final boolean hasMap = mappedListener != null;
-            final boolean hasChildren = childrenListeners.length > 0;
-            if (!hasListeners && !hasMap && !hasChildren) {
-                // No listener
-                return null;
+            if (builder.size() == content) {
+                builder.truncate(start);
+            } else if (hasPredicate) {
+                builder.skip(start, builder.size());
             }
-            return e -> {
-                // Filtering
-                if (hasPredicate) {
-                    final Object value = filter.getHandler(e);
-                    if (!predicate.test(e, value)) return;
-                }
-                // Normal listeners
-                if (hasListeners) {
-                    for (Consumer<E> listener : listenersArray) {
-                        listener.accept(e);
-                    }
-                }
-                // Mapped nodes
-                if (hasMap) mappedListener.accept(e);
-                // Children
-                if (hasChildren) {
-                    for (Consumer<E> childHandle : childrenListeners) {
-                        childHandle.accept(e);
-                    }
-                }
-            };
         }
 
         /**
-         * Create a consumer calling all listeners from {@link EventNode#addListener(EventListener)} and
-         * {@link EventNode#register(EventBinding)}.
-         * <p>
-         * Most computation should ideally be done outside the consumers as a one-time cost.
+         * Appends one step per filter used by the mapped nodes listening to this handle type.
+         * The goal is to limit the amount of map lookup.
          */
-        private @Nullable Consumer<E> listenersConsumer(ListenerEntry<E> entry) {
-            final EventListener<E>[] listenersCopy = entry.listeners.toArray(EventListener[]::new);
-            final Consumer<E>[] bindingsCopy = entry.bindingConsumers.toArray(Consumer[]::new);
-            final boolean listenersEmpty = listenersCopy.length == 0;
-            final boolean bindingsEmpty = bindingsCopy.length == 0;
-            if (listenersEmpty && bindingsEmpty) return null;
-            if (bindingsEmpty && listenersCopy.length == 1) {
-                // Only one normal listener
-                final EventListener<E> listener = listenersCopy[0];
-                return e -> callListener(listener, e);
+        private void appendMapped(Dispatch.Builder<E> builder, EventNodeImpl<E> node) {
+            final var mappedNodeCache = node.registeredMappedNode;
+            if (mappedNodeCache.isEmpty()) return;
+            Map<EventFilter<E, ?>, List<Object>> owners = new LinkedHashMap<>();
+            Map<EventFilter<E, ?>, List<ListenerHandle<E>>> handles = new HashMap<>();
+            for (var mappedEntry : mappedNodeCache.entrySet()) {
+                final EventNodeLazyImpl<E> mappedNode = mappedEntry.getValue().get();
+                if (mappedNode == null) continue; // Weak reference collected
+                final ListenerHandle<E> handle = mappedNode.getHandle(eventType);
+                if (!handle.hasListener()) continue; // Implicit update
+                owners.computeIfAbsent(mappedNode.filter, f -> new ArrayList<>()).add(mappedEntry.getKey());
+                handles.computeIfAbsent(mappedNode.filter, f -> new ArrayList<>()).add(handle);
             }
-            // Worse case scenario, try to run everything
-            return e -> {
-                if (!listenersEmpty) {
-                    for (EventListener<E> listener : listenersCopy) {
-                        callListener(listener, e);
+            for (var entry : owners.entrySet()) {
+                final EventFilter<E, ?> filter = entry.getKey();
+                builder.add(Dispatch.MAPPED, new MappedTable<>(filter, entry.getValue(), handles.get(filter)), node);
+            }
+        }
+    }
+
+    /**
+     * Listeners of a node subtree for a single event type, flattened in call order.
+     * <p>
+     * Guard steps test the predicate of their node and jump past its subtree on failure,
+     * mapped steps forward the event to the node of its handler.
+     */
+    @SuppressWarnings({"unchecked", "rawtypes"})
+    static final class Dispatch<E extends Event> {
+        static final byte LISTENER = 0;
+        static final byte CONSUMER = 1;
+        static final byte GUARD = 2;
+        static final byte MAPPED = 3;
+
+        private final byte[] kinds;
+        private final Object[] targets;
+        private final EventNodeImpl[] nodes;
+        private final int[] skips;
+
+        private Dispatch(byte[] kinds, Object[] targets, EventNodeImpl[] nodes, int[] skips) {
+            this.kinds = kinds;
+            this.targets = targets;
+            this.nodes = nodes;
+            this.skips = skips;
+        }
+
+        void run(E event) {
+            final byte[] kinds = this.kinds;
+            final Object[] targets = this.targets;
+            int index = 0;
+            while (index < kinds.length) {
+                switch (kinds[index]) {
+                    case LISTENER -> {
+                        final EventListener<E> listener = (EventListener<E>) targets[index];
+                        if (listener.run(event) == EventListener.Result.EXPIRED) {
+                            nodes[index].removeListener(listener);
+                        }
                     }
-                }
-                if (!bindingsEmpty) {
-                    for (Consumer<E> eConsumer : bindingsCopy) {
-                        eConsumer.accept(e);
+                    case CONSUMER -> ((Consumer<E>) targets[index]).accept(event);
+                    case GUARD -> {
+                        final EventNodeImpl node = nodes[index];
+                        if (!node.predicate.test(event, node.filter.getHandler(event))) {
+                            index = skips[index];
+                            continue;
+                        }
                     }
+                    case MAPPED -> ((MappedTable<E>) targets[index]).call(event);
                 }
-            };
+                index++;
+            }
         }
 
-        /**
-         * Create a consumer handling {@link EventNode#map(Object, EventFilter)}.
-         * The goal is to limit the amount of map lookup.
-         */
-        private @Nullable Consumer<E> mappedConsumer() {
-            var node = (EventNodeImpl<E>) EventNodeImpl.this;
-            final var mappedNodeCache = node.registeredMappedNode;
-            if (mappedNodeCache.isEmpty()) return null;
-            Set<EventFilter<E, ?>> filters = new HashSet<>(mappedNodeCache.size());
-            Map<Object, WeakReference<Handle<E>>> handlers = new WeakHashMap<>(mappedNodeCache.size());
+        static final class Builder<E extends Event> {
+            private final ByteArrayList kinds = new ByteArrayList();
+            private final ObjectArrayList<Object> targets = new ObjectArrayList<>();
+            private final ObjectArrayList<EventNodeImpl> nodes = new ObjectArrayList<>();
+            private final IntArrayList skips = new IntArrayList();
 
-            // Retrieve all filters used to retrieve potential handlers
-            for (var mappedEntry : mappedNodeCache.entrySet()) {
-                final WeakReference<EventNodeLazyImpl<E>> mappedNodeRef = mappedEntry.getValue();
-                final EventNodeLazyImpl<E> mappedNode = mappedNodeRef.get();
-                if (mappedNode == null) continue; // Weak reference collected
-                final Handle<E> handle = (Handle<E>) mappedNode.getHandle(eventType);
-                if (!handle.hasListener()) continue; // Implicit update
-                filters.add(mappedNode.filter);
-                handlers.put(mappedEntry.getKey(), new WeakReference<>(handle));
+            int size() {
+                return kinds.size();
+            }
+
+            void add(byte kind, @Nullable Object target, EventNodeImpl<?> node) {
+                kinds.add(kind);
+                targets.add(target);
+                nodes.add(node);
+                skips.add(0);
+            }
+
+            void skip(int index, int to) {
+                skips.set(index, to);
+            }
+
+            void truncate(int size) {
+                kinds.size(size);
+                targets.size(size);
+                nodes.size(size);
+                skips.size(size);
+            }
+
+            @Nullable Dispatch<E> build() {
+                if (kinds.isEmpty()) return null;
+                return new Dispatch<>(kinds.toByteArray(), targets.toArray(),
+                        nodes.toArray(EventNodeImpl[]::new), skips.toIntArray());
+            }
+        }
+    }
+
+    /**
+     * Open-addressing table from the owners of mapped nodes to their handles, for a single filter.
+     * <p>
+     * Owners not overriding {@link Object#equals(Object)}, such as entities and instances,
+     * are looked up by identity. Both are weakly referenced.
+     */
+    @SuppressWarnings("unchecked")
+    static final class MappedTable<E extends Event> {
+        private static final ClassValue<Boolean> IDENTITY = new ClassValue<>() {
+            @Override
+            protected Boolean computeValue(Class<?> type) {
+                try {
+                    return type.getMethod("equals", Object.class).getDeclaringClass() == Object.class;
+                } catch (NoSuchMethodException e) {
+                    throw new IllegalStateException(e);
+                }
+            }
+        };
+
+        private final EventFilter<E, ?> filter;
+        private final boolean identity;
+        private final WeakReference<Object>[] owners;
+        private final WeakReference<ListenerHandle<E>>[] handles;
+
+        MappedTable(EventFilter<E, ?> filter, List<Object> owners, List<ListenerHandle<E>> handles) {
+            this.filter = filter;
+            boolean identity = true;
+            for (Object owner : owners) identity &= IDENTITY.get(owner.getClass());
+            this.identity = identity;
+            // Keep the load factor under 0.5
+            final int capacity = Integer.highestOneBit(owners.size() * 4 - 1);
+            this.owners = new WeakReference[capacity];
+            this.handles = new WeakReference[capacity];
+            final int mask = capacity - 1;
+            for (int i = 0; i < owners.size(); i++) {
+                final Object owner = owners.get(i);
+                int index = hash(owner) & mask;
+                while (this.owners[index] != null) index = (index + 1) & mask;
+                this.owners[index] = new WeakReference<>(owner);
+                this.handles[index] = new WeakReference<>(handles.get(i));
             }
-            // If at least one mapped node listen to this handle type,
-            // loop through them and forward to mapped node if there is a match
-            if (filters.isEmpty()) return null;
-            final EventFilter<E, ?>[] filterList = filters.toArray(EventFilter[]::new);
-            final BiConsumer<EventFilter<E, ?>, E> mapper = (filter, event) -> {
-                final Object handler = filter.castHandler(event);
-                final WeakReference<Handle<E>> handleRef = handlers.get(handler);
-                final Handle<E> handle = handleRef != null ? handleRef.get() : null;
-                if (handle != null) handle.call(event);
-            };
-            // Specialize the consumer depending on the number of filters to avoid looping
-            return switch (filterList.length) {
-                case 1 -> event -> mapper.accept(filterList[0], event);
-                case 2 -> event -> {
-                    mapper.accept(filterList[0], event);
-                    mapper.accept(filterList[1], event);
-                };
-                case 3 -> event -> {
-                    mapper.accept(filterList[0], event);
-                    mapper.accept(filterList[1], event);
-                    mapper.accept(filterList[2], event);
-                };
-                default -> event -> {
-                    for (var filter : filterList) {
-                        mapper.accept(filter, event);
-                    }
-                };
-            };
         }
 
-        void callListener(EventListener<E> listener, E event) {
-            var node = (EventNodeImpl<E>) EventNodeImpl.this;
-            EventListener.Result result = listener.run(event);
-            if (result == EventListener.Result.EXPIRED) {
-                node.removeListener(listener);
-                invalidate();
+        void call(E event) {
+            final Object handler = filter.castHandler(event);
+            if (handler == null) return;
+            final WeakReference<Object>[] owners = this.owners;
+            final int mask = owners.length - 1;
+            int index = hash(handler) & mask;
+            WeakReference<Object> ownerRef;
+            while ((ownerRef = owners[index]) != null) {
+                final Object owner = ownerRef.get();
+                if (owner == handler || (!identity && owner != null && handler.equals(owner))) {
+                    final ListenerHandle<E> handle = handles[index].get();
+                    if (handle != null) handle.call(event);
+                    return;
+                }
+                index = (index + 1) & mask;
             }
         }
+
+        private int hash(Object owner) {
+            final int hash = identity ? System.identityHashCode(owner) : owner.hashCode();
+            return hash ^ (hash >>> 16);
+        }
     }
 }
@@ -5,6 +5,10 @@ import net.minestom.server.instance.Instance;
 
 /**
  * Called when an instance processes a tick.
+ * <p>
+ * With {@link net.minestom.server.ServerFlag#INSTANCE_TICK_THREADS}, instances are ticked on multiple threads
+ * and listeners may be called concurrently for different instances, they must not share unsynchronized state.
+ * An {@link net.minestom.server.instance.InstanceContainer} and its shared instances are still ticked in sequence.
  */
 public class InstanceTickEvent implements InstanceEvent {
 
@@ -59,6 +59,11 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
     // Data
     private final TagHandler tagHandler = TagHandler.newHandler();
 
+    // Changes since the last save, guarded by the chunk lock
+    private volatile int modificationCount;
+    private int savedModificationCount = -1;
+    private @Nullable CompoundBinaryTag savedTags;
+
     public Chunk(Instance instance, int chunkX, int chunkZ, boolean shouldGenerate) {
         this.identifier = UUID.randomUUID();
         this.instance = instance;
@@ -297,6 +302,35 @@ public abstract class Chunk implements Block.Getter, Block.Setter, Biome.Getter,
         return tagHandler;
     }
 
+    /**
+     * Gets the number of block and biome changes applied to this chunk.
+     *
+     * @return the modification count
+     */
+    public int modificationCount() {
+        return modificationCount;
+    }
+
+    /**
+     * Marks the blocks or biomes of this chunk as changed, must be called while holding the chunk lock.
+     * <p>
+     * Used to skip unmodified chunks when saving, tag changes are detected separately.
+     */
+    protected void markModified() {
+        this.modificationCount++;
+    }
+
+    boolean needsSave() {
+        if (modificationCount != savedModificationCount) return true;
+        final CompoundBinaryTag tags = tagHandler.asCompound();
+        return tags != savedTags && !tags.equals(savedTags);
+    }
+
+    void markSaved() {
+        this.savedModificationCount = modificationCount;
+        this.savedTags = tagHandler.asCompound();
+    }
+
     /**
      * Sets the chunk as "unloaded".
      */
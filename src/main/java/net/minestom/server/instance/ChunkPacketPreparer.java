@@ -0,0 +1,138 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.server.CachedPacket;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Serializes the invalidated data packets of chunks queued to players, ahead of their sending.
+ * <p>
+ * Preparations run on a bounded pool of {@link ServerFlag#CHUNK_PACKET_PREPARATION_THREADS} threads,
+ * a chunk is only ever prepared once at a time.
+ * The tick thread can then send the cached buffers instead of serializing every section itself.
+ */
+@ApiStatus.Experimental
+public final class ChunkPacketPreparer {
+    private static final int QUEUE_CAPACITY = 4096;
+    private static final @Nullable ThreadPoolExecutor POOL = createPool();
+    private static final Set<CachedPacket> PREPARING = ConcurrentHashMap.newKeySet();
+
+    // Metrics
+    private static final AtomicInteger QUEUE_DEPTH = new AtomicInteger();
+    private static final AtomicLong PREPARED = new AtomicLong();
+    private static final AtomicLong AVERAGE_LATENCY = new AtomicLong();
+
+    private ChunkPacketPreparer() {
+    }
+
+    /**
+     * Gets if chunk packets are prepared off the tick thread.
+     *
+     * @return true if {@link ServerFlag#CHUNK_PACKET_PREPARATION_THREADS} is positive
+     */
+    public static boolean isEnabled() {
+        return POOL != null;
+    }
+
+    /**
+     * Schedules the serialization of the chunk data packet, if it has been invalidated.
+     *
+     * @param chunk the chunk to prepare
+     * @return true if the packet is being prepared, false if it is already valid or the pool is saturated
+     */
+    @ApiStatus.Internal
+    public static boolean prepare(Chunk chunk) {
+        final ThreadPoolExecutor pool = POOL;
+        return pool != null && prepare(chunk, pool);
+    }
+
+    static boolean prepare(Chunk chunk, Executor executor) {
+        if (!(chunk.getFullDataPacket() instanceof CachedPacket packet)) return false;
+        if (packet.isValid()) return false;
+        if (!PREPARING.add(packet)) return true; // Already scheduled
+        final long start = System.nanoTime();
+        QUEUE_DEPTH.incrementAndGet();
+        try {
+            executor.execute(() -> {
+                try {
+                    packet.body(ConnectionState.PLAY);
+                } catch (Throwable e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                } finally {
+                    PREPARING.remove(packet);
+                    QUEUE_DEPTH.decrementAndGet();
+                    PREPARED.incrementAndGet();
+                    final long latency = System.nanoTime() - start;
+                    // Exponential moving average
+                    AVERAGE_LATENCY.accumulateAndGet(latency, (average, sample) -> average + (sample - average) / 16);
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            PREPARING.remove(packet);
+            QUEUE_DEPTH.decrementAndGet();
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Gets if the chunk data packet is currently being prepared.
+     *
+     * @param chunk the chunk to check
+     * @return true if a preparation of the chunk is pending
+     */
+    @ApiStatus.Internal
+    public static boolean isPreparing(Chunk chunk) {
+        return chunk.getFullDataPacket() instanceof CachedPacket packet && PREPARING.contains(packet);
+    }
+
+    /**
+     * Gets the number of chunk packets waiting for or in preparation.
+     *
+     * @return the preparation queue depth
+     */
+    public static int queueDepth() {
+        return QUEUE_DEPTH.get();
+    }
+
+    /**
+     * Gets the average time between the scheduling of a preparation and its completion.
+     *
+     * @return the moving average preparation latency, in nanoseconds
+     */
+    public static long averageLatencyNanos() {
+        return AVERAGE_LATENCY.get();
+    }
+
+    /**
+     * Gets the number of chunk packets prepared since startup.
+     *
+     * @return the prepared packet count
+     */
+    public static long preparedCount() {
+        return PREPARED.get();
+    }
+
+    private static @Nullable ThreadPoolExecutor createPool() {
+        final int threads = ServerFlag.CHUNK_PACKET_PREPARATION_THREADS;
+        if (threads <= 0 || !ServerFlag.CACHED_PACKET) return null; // Nothing to keep without packet caching
+        final AtomicInteger index = new AtomicInteger();
+        return new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(QUEUE_CAPACITY),
+                runnable -> Thread.ofPlatform().name("Ms-ChunkPacketPreparer-" + index.getAndIncrement())
+                        .daemon().unstarted(runnable));
+    }
+}
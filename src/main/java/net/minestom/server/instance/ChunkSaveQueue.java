@@ -0,0 +1,249 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.Long2ObjectLinkedOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.CoordConversion;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind queue saving chunk snapshots to the {@link ChunkLoader} of an {@link InstanceContainer}.
+ * <p>
+ * Only chunks modified since their last save are snapshotted, saving a chunk again before it has been written
+ * replaces its pending snapshot. Writes happen one at a time on a virtual thread,
+ * throttled to {@link ServerFlag#CHUNK_SAVE_BYTES_PER_SECOND}.
+ */
+final class ChunkSaveQueue {
+    private static final long SECOND = 1_000_000_000L;
+
+    private final InstanceContainer instance;
+    private final long bytesPerSecond;
+
+    private final ReentrantLock lock = new ReentrantLock();
+    // Pending saves in submission order, coalesced by chunk index
+    private final Long2ObjectLinkedOpenHashMap<Entry> pending = new Long2ObjectLinkedOpenHashMap<>();
+    private @Nullable Entry writing;
+    private @Nullable Thread writer;
+    private volatile boolean closed;
+
+    // Throttling, only accessed by the writer
+    private long budget;
+    private long lastRefill = System.nanoTime();
+
+    ChunkSaveQueue(InstanceContainer instance) {
+        this.instance = instance;
+        this.bytesPerSecond = ServerFlag.CHUNK_SAVE_BYTES_PER_SECOND;
+        this.budget = bytesPerSecond;
+    }
+
+    /**
+     * Queues a snapshot of the chunk if it has been modified since its last save.
+     *
+     * @param chunk the chunk to save
+     * @return a future completed once the latest state of the chunk has been written
+     */
+    CompletableFuture<Void> save(Chunk chunk) {
+        final long index = CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+        final Chunk snapshot;
+        synchronized (chunk) {
+            if (!chunk.needsSave()) return pendingFuture(index);
+            snapshot = snapshot(chunk);
+            chunk.markSaved();
+        }
+        lock.lock();
+        try {
+            Entry entry = pending.get(index);
+            if (entry == null) {
+                entry = new Entry(snapshot);
+                this.pending.put(index, entry);
+            } else {
+                // Coalesce, only the latest state is written
+                entry.snapshot = snapshot;
+            }
+            if (writer == null) {
+                this.writer = Thread.startVirtualThread(this::write);
+            }
+            return entry.future;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    CompletableFuture<Void> saveAll(Collection<Chunk> chunks) {
+        List<CompletableFuture<Void>> futures = new ArrayList<>(chunks.size());
+        for (Chunk chunk : chunks) {
+            final CompletableFuture<Void> future = save(chunk);
+            if (!future.isDone()) futures.add(future);
+        }
+        return CompletableFuture.allOf(futures.toArray(CompletableFuture[]::new));
+    }
+
+    /**
+     * Releases the chunk from the loader, once its pending saves have been written.
+     *
+     * @param chunk the unloaded chunk
+     */
+    void unload(Chunk chunk) {
+        final long index = CoordConversion.chunkIndex(chunk.getChunkX(), chunk.getChunkZ());
+        lock.lock();
+        try {
+            final Entry entry = entry(index);
+            if (entry != null) {
+                entry.unload = chunk;
+                return;
+            }
+        } finally {
+            lock.unlock();
+        }
+        instance.getChunkLoader().unloadChunk(chunk);
+    }
+
+    /**
+     * Retrieves a chunk from its pending snapshot, the storage may not contain its latest state yet.
+     *
+     * @return a copy of the pending snapshot, null if the chunk has no pending save
+     */
+    @Nullable Chunk restore(int chunkX, int chunkZ) {
+        final long index = CoordConversion.chunkIndex(chunkX, chunkZ);
+        final Chunk snapshot;
+        lock.lock();
+        try {
+            final Entry entry = entry(index);
+            if (entry == null) return null;
+            // Loaded again, the loader must keep its resources
+            entry.unload = null;
+            snapshot = entry.snapshot;
+        } finally {
+            lock.unlock();
+        }
+        final Chunk chunk = snapshot(snapshot);
+        chunk.markSaved();
+        return chunk;
+    }
+
+    /**
+     * Writes every pending save without throttling, and waits for them.
+     */
+    void close() {
+        final Thread writer;
+        lock.lock();
+        try {
+            this.closed = true;
+            writer = this.writer;
+        } finally {
+            lock.unlock();
+        }
+        if (writer == null) return;
+        LockSupport.unpark(writer);
+        try {
+            writer.join();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private void write() {
+        final ChunkLoader loader = instance.getChunkLoader();
+        while (true) {
+            final Entry entry;
+            lock.lock();
+            try {
+                if (pending.isEmpty()) {
+                    this.writer = null;
+                    return;
+                }
+                entry = pending.removeFirst();
+                this.writing = entry;
+            } finally {
+                lock.unlock();
+            }
+            throttle(estimateBytes(entry.snapshot));
+            try {
+                loader.saveChunk(entry.snapshot);
+            } catch (Throwable e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+            final Chunk unload;
+            lock.lock();
+            try {
+                this.writing = null;
+                unload = entry.unload;
+            } finally {
+                lock.unlock();
+            }
+            if (unload != null) loader.unloadChunk(unload);
+            entry.future.complete(null);
+        }
+    }
+
+    private void throttle(long bytes) {
+        final long rate = this.bytesPerSecond;
+        if (rate <= 0 || closed) return;
+        final long now = System.nanoTime();
+        // Allow bursts of up to a second worth of bytes
+        this.budget = Math.min(rate, budget + Math.min(now - lastRefill, SECOND) * rate / SECOND);
+        this.lastRefill = now;
+        this.budget -= bytes;
+        if (budget < 0) LockSupport.parkNanos(-budget * SECOND / rate);
+    }
+
+    private CompletableFuture<Void> pendingFuture(long index) {
+        lock.lock();
+        try {
+            final Entry entry = entry(index);
+            return entry != null ? entry.future : CompletableFuture.completedFuture(null);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private @Nullable Entry entry(long index) {
+        final Entry entry = pending.get(index);
+        if (entry != null) return entry;
+        final Entry writing = this.writing;
+        if (writing != null && CoordConversion.chunkIndex(writing.snapshot.getChunkX(), writing.snapshot.getChunkZ()) == index) {
+            return writing;
+        }
+        return null;
+    }
+
+    private Chunk snapshot(Chunk chunk) {
+        final Chunk snapshot = chunk.copy(instance, chunk.getChunkX(), chunk.getChunkZ());
+        snapshot.tagHandler().updateContent(chunk.tagHandler().asCompound());
+        return snapshot;
+    }
+
+    private static long estimateBytes(Chunk chunk) {
+        // Uncompressed size of the section data, close enough to the serialized size for throttling
+        long bytes = 0;
+        for (Section section : chunk.getSections()) {
+            final long[] blocks = section.blockPalette().indexedValues();
+            if (blocks != null) bytes += blocks.length * 8L;
+            final long[] biomes = section.biomePalette().indexedValues();
+            if (biomes != null) bytes += biomes.length * 8L;
+            final byte[] skyLight = section.skyLight().array();
+            if (skyLight != null) bytes += skyLight.length;
+            final byte[] blockLight = section.blockLight().array();
+            if (blockLight != null) bytes += blockLight.length;
+        }
+        return bytes;
+    }
+
+    private static final class Entry {
+        Chunk snapshot;
+        // Chunk to release from the loader once written
+        @Nullable Chunk unload;
+        final CompletableFuture<Void> future = new CompletableFuture<>();
+
+        Entry(Chunk snapshot) {
+            this.snapshot = snapshot;
+        }
+    }
+}
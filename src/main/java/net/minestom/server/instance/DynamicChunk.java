@@ -7,6 +7,7 @@ import net.minestom.server.MinecraftServer;
 import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
 import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityActivation;
 import net.minestom.server.instance.block.Block;
 import net.minestom.server.instance.block.BlockHandler;
 import net.minestom.server.instance.heightmap.Heightmap;
@@ -34,6 +35,7 @@ import org.jetbrains.annotations.Nullable;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.lang.ref.WeakReference;
 import java.util.*;
 
 import static net.minestom.server.coordinate.CoordConversion.globalToSectionRelative;
@@ -59,6 +61,12 @@ public class DynamicChunk extends Chunk {
     protected final Int2ObjectOpenHashMap<Block> tickableMap = new Int2ObjectOpenHashMap<>(0);
 
     final CachedPacket chunkCache = new CachedPacket(this::createChunkPacket);
+
+    // Copies of the last snapshot, reused by the next one while unchanged and still referenced
+    private WeakReference<Section[]> snapshotSections = new WeakReference<>(null);
+    private int[] snapshotSectionCounts;
+    private WeakReference<Int2ObjectOpenHashMap<Block>> snapshotEntries = new WeakReference<>(null);
+    private int snapshotModificationCount;
     private static final DynamicRegistry<Biome> BIOME_REGISTRY = MinecraftServer.getBiomeRegistry();
 
     public DynamicChunk(Instance instance, int chunkX, int chunkZ) {
@@ -87,6 +95,7 @@ public class DynamicChunk extends Chunk {
         assertLock();
 
         this.chunkCache.invalidate();
+        markModified();
 
         Section section = getSectionAt(y);
 
@@ -134,12 +143,16 @@ public class DynamicChunk extends Chunk {
         if (needsCompleteHeightmapRefresh) calculateFullHeightmap();
         motionBlocking.refresh(sectionRelativeX, y, sectionRelativeZ, block);
         worldSurface.refresh(sectionRelativeX, y, sectionRelativeZ, block);
+
+        // Resting entities may have lost their support
+        EntityActivation.wakeNearby(instance, x, y, z);
     }
 
     @Override
     public void setBiome(int x, int y, int z, RegistryKey<Biome> biome) {
         assertLock();
         this.chunkCache.invalidate();
+        markModified();
         Section section = getSectionAt(y);
 
         var id = BIOME_REGISTRY.getId(biome);
@@ -234,7 +247,8 @@ public class DynamicChunk extends Chunk {
     }
 
     @Override
-    public Chunk copy(Instance instance, int chunkX, int chunkZ) {
+    public synchronized Chunk copy(Instance instance, int chunkX, int chunkZ) {
+        // Palettes are copy-on-write, the cloning itself must not race with a modification
         var sections = this.sections.stream().map(Section::clone).toList();
         DynamicChunk dynamicChunk = new DynamicChunk(instance, chunkX, chunkZ, sections);
         dynamicChunk.entries.putAll(entries);
@@ -245,6 +259,7 @@ public class DynamicChunk extends Chunk {
     public void reset() {
         for (Section section : sections) section.clear();
         this.entries.clear();
+        markModified();
     }
 
     @Override
@@ -329,16 +344,47 @@ public class DynamicChunk extends Chunk {
 
     @Override
     public ChunkSnapshot updateSnapshot(SnapshotUpdater updater) {
-        Section[] clonedSections = new Section[sections.size()];
-        for (int i = 0; i < clonedSections.length; i++)
-            clonedSections[i] = sections.get(i).clone();
+        final Section[] clonedSections;
+        final Int2ObjectOpenHashMap<Block> clonedEntries;
+        synchronized (this) {
+            clonedSections = snapshotSections();
+            Int2ObjectOpenHashMap<Block> entries = this.snapshotEntries.get();
+            if (entries == null || snapshotModificationCount != modificationCount()) {
+                entries = this.entries.clone();
+                this.snapshotEntries = new WeakReference<>(entries);
+                this.snapshotModificationCount = modificationCount();
+            }
+            clonedEntries = entries;
+        }
         var entities = instance.getEntityTracker().chunkEntities(chunkX, chunkZ, EntityTracker.Target.ENTITIES);
         final int[] entityIds = ArrayUtils.mapToIntArray(entities, Entity::getEntityId);
         return new SnapshotImpl.Chunk(minSection, chunkX, chunkZ,
-                clonedSections, entries.clone(), entityIds, updater.reference(instance),
+                clonedSections, clonedEntries, entityIds, updater.reference(instance),
                 tagHandler().readableCopy());
     }
 
+    /**
+     * Copies the sections changed since the last snapshot, snapshots share the copies of the others.
+     */
+    private Section[] snapshotSections() {
+        final Section[] previous = this.snapshotSections.get();
+        final int count = sections.size();
+        if (previous == null) this.snapshotSectionCounts = new int[count];
+        final int[] counts = this.snapshotSectionCounts;
+        Section[] result = previous;
+        for (int i = 0; i < count; i++) {
+            final Section section = sections.get(i);
+            final int modificationCount = section.modificationCount();
+            if (previous != null && counts[i] == modificationCount) continue;
+            // Previous snapshots keep their own array
+            if (result == previous) result = previous != null ? previous.clone() : new Section[count];
+            result[i] = section.clone();
+            counts[i] = modificationCount;
+        }
+        if (result != previous) this.snapshotSections = new WeakReference<>(result);
+        return result;
+    }
+
     @ApiStatus.Internal
     void assertLock() {
         assert Thread.holdsLock(this) : "Chunk must be locked before access";
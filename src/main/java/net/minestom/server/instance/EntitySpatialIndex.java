@@ -0,0 +1,272 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.doubles.Double2IntRBTreeMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
+import it.unimi.dsi.fastutil.longs.Long2IntOpenHashMap;
+import net.minestom.server.collision.BoundingBox;
+import net.minestom.server.coordinate.Point;
+import net.minestom.server.entity.Entity;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Grid of 8x8x8 cells indexing the positions and bounding boxes of tracked entities.
+ * <p>
+ * Entity data lives in parallel arrays indexed by slot, and each cell chains its slots in a doubly linked list,
+ * moving an entity does not allocate. Bounding boxes are refreshed on every move and by {@link EntityTracker#boundingBoxUpdate(Entity)}.
+ * Queries collect their matches in a single pass under the read lock, the caller consumes them once released.
+ */
+final class EntitySpatialIndex {
+    private static final int CELL_SHIFT = 3;
+    private static final int NONE = -1;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+    private final Int2IntOpenHashMap slotsById = new Int2IntOpenHashMap();
+    private final Long2IntOpenHashMap cellHeads = new Long2IntOpenHashMap();
+
+    private Entity[] entities = new Entity[64];
+    private double[] x = new double[64], y = new double[64], z = new double[64];
+    // Absolute bounding box of each slot
+    private double[] minX = new double[64], minY = new double[64], minZ = new double[64];
+    private double[] maxX = new double[64], maxY = new double[64], maxZ = new double[64];
+    // Largest distance between the position of each slot and its bounding box, NaN when free
+    private double[] extents = new double[64];
+    private long[] cells = new long[64];
+    private int[] previous = new int[64], next = new int[64];
+
+    private int slotCount;
+    private int[] freeSlots = new int[16];
+    private int freeCount;
+    // Number of slots per extent, box queries are widened by the largest
+    private final Double2IntRBTreeMap extentCounts = new Double2IntRBTreeMap();
+    private double maxExtent;
+
+    EntitySpatialIndex() {
+        slotsById.defaultReturnValue(NONE);
+        cellHeads.defaultReturnValue(NONE);
+    }
+
+    void add(Entity entity, Point point) {
+        lock.writeLock().lock();
+        try {
+            int slot = slotsById.get(entity.getEntityId());
+            if (slot != NONE) {
+                update(slot, point, entity.getBoundingBox());
+                return;
+            }
+            slot = allocate();
+            slotsById.put(entity.getEntityId(), slot);
+            entities[slot] = entity;
+            set(slot, point, entity.getBoundingBox());
+            link(slot, cell(point.x(), point.y(), point.z()));
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void move(Entity entity, Point point) {
+        lock.writeLock().lock();
+        try {
+            final int slot = slotsById.get(entity.getEntityId());
+            if (slot != NONE) update(slot, point, entity.getBoundingBox());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    void remove(Entity entity) {
+        lock.writeLock().lock();
+        try {
+            final int slot = slotsById.remove(entity.getEntityId());
+            if (slot == NONE) return;
+            unlink(slot);
+            entities[slot] = null;
+            setExtent(slot, Double.NaN);
+            if (freeCount == freeSlots.length) freeSlots = Arrays.copyOf(freeSlots, freeCount * 2);
+            freeSlots[freeCount++] = slot;
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Collects the entities whose position is within {@code range} of {@code point}.
+     */
+    void sphere(Point point, double range, List<Entity> result) {
+        final double px = point.x(), py = point.y(), pz = point.z();
+        final double squaredRange = range * range;
+        lock.readLock().lock();
+        try {
+            final int minCellX = cellCoordinate(px - range), maxCellX = cellCoordinate(px + range);
+            final int minCellY = cellCoordinate(py - range), maxCellY = cellCoordinate(py + range);
+            final int minCellZ = cellCoordinate(pz - range), maxCellZ = cellCoordinate(pz + range);
+            if (cellCount(minCellX, minCellY, minCellZ, maxCellX, maxCellY, maxCellZ) > slotCount) {
+                // Large query, cheaper to scan every entity
+                for (int slot = 0; slot < slotCount; slot++) {
+                    if (entities[slot] == null) continue;
+                    final double dx = x[slot] - px, dy = y[slot] - py, dz = z[slot] - pz;
+                    if (dx * dx + dy * dy + dz * dz <= squaredRange) result.add(entities[slot]);
+                }
+                return;
+            }
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                    for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                        for (int slot = cellHeads.get(cellIndex(cellX, cellY, cellZ)); slot != NONE; slot = next[slot]) {
+                            final double dx = x[slot] - px, dy = y[slot] - py, dz = z[slot] - pz;
+                            if (dx * dx + dy * dy + dz * dz <= squaredRange) result.add(entities[slot]);
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Collects the entities whose bounding box intersects the given box.
+     */
+    void box(double boxMinX, double boxMinY, double boxMinZ,
+             double boxMaxX, double boxMaxY, double boxMaxZ, List<Entity> result) {
+        lock.readLock().lock();
+        try {
+            final double extent = maxExtent;
+            final int minCellX = cellCoordinate(boxMinX - extent), maxCellX = cellCoordinate(boxMaxX + extent);
+            final int minCellY = cellCoordinate(boxMinY - extent), maxCellY = cellCoordinate(boxMaxY + extent);
+            final int minCellZ = cellCoordinate(boxMinZ - extent), maxCellZ = cellCoordinate(boxMaxZ + extent);
+            if (cellCount(minCellX, minCellY, minCellZ, maxCellX, maxCellY, maxCellZ) > slotCount) {
+                // Large query, cheaper to scan every entity
+                for (int slot = 0; slot < slotCount; slot++) {
+                    if (entities[slot] != null && intersects(slot, boxMinX, boxMinY, boxMinZ, boxMaxX, boxMaxY, boxMaxZ)) {
+                        result.add(entities[slot]);
+                    }
+                }
+                return;
+            }
+            for (int cellX = minCellX; cellX <= maxCellX; cellX++) {
+                for (int cellY = minCellY; cellY <= maxCellY; cellY++) {
+                    for (int cellZ = minCellZ; cellZ <= maxCellZ; cellZ++) {
+                        for (int slot = cellHeads.get(cellIndex(cellX, cellY, cellZ)); slot != NONE; slot = next[slot]) {
+                            if (intersects(slot, boxMinX, boxMinY, boxMinZ, boxMaxX, boxMaxY, boxMaxZ)) {
+                                result.add(entities[slot]);
+                            }
+                        }
+                    }
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    double maxExtent() {
+        lock.readLock().lock();
+        try {
+            return maxExtent;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private boolean intersects(int slot, double boxMinX, double boxMinY, double boxMinZ,
+                               double boxMaxX, double boxMaxY, double boxMaxZ) {
+        return minX[slot] <= boxMaxX && maxX[slot] >= boxMinX &&
+                minY[slot] <= boxMaxY && maxY[slot] >= boxMinY &&
+                minZ[slot] <= boxMaxZ && maxZ[slot] >= boxMinZ;
+    }
+
+    private void update(int slot, Point point, BoundingBox boundingBox) {
+        set(slot, point, boundingBox);
+        final long cell = cell(point.x(), point.y(), point.z());
+        if (cells[slot] == cell) return;
+        unlink(slot);
+        link(slot, cell);
+    }
+
+    private void set(int slot, Point point, BoundingBox boundingBox) {
+        final double px = point.x(), py = point.y(), pz = point.z();
+        x[slot] = px;
+        y[slot] = py;
+        z[slot] = pz;
+        minX[slot] = px + boundingBox.minX();
+        minY[slot] = py + boundingBox.minY();
+        minZ[slot] = pz + boundingBox.minZ();
+        maxX[slot] = px + boundingBox.maxX();
+        maxY[slot] = py + boundingBox.maxY();
+        maxZ[slot] = pz + boundingBox.maxZ();
+        setExtent(slot, Math.max(
+                Math.max(Math.max(-boundingBox.minX(), boundingBox.maxX()), Math.max(-boundingBox.minY(), boundingBox.maxY())),
+                Math.max(-boundingBox.minZ(), boundingBox.maxZ())));
+    }
+
+    private void setExtent(int slot, double extent) {
+        final double previousExtent = extents[slot];
+        if (Double.compare(previousExtent, extent) == 0) return;
+        extents[slot] = extent;
+        if (!Double.isNaN(previousExtent) && extentCounts.addTo(previousExtent, -1) == 1) {
+            extentCounts.remove(previousExtent);
+        }
+        if (!Double.isNaN(extent)) extentCounts.addTo(extent, 1);
+        this.maxExtent = extentCounts.isEmpty() ? 0 : extentCounts.lastDoubleKey();
+    }
+
+    private void link(int slot, long cell) {
+        final int head = cellHeads.put(cell, slot);
+        cells[slot] = cell;
+        previous[slot] = NONE;
+        next[slot] = head;
+        if (head != NONE) previous[head] = slot;
+    }
+
+    private void unlink(int slot) {
+        final int prev = previous[slot], nextSlot = next[slot];
+        if (prev != NONE) next[prev] = nextSlot;
+        else if (nextSlot != NONE) cellHeads.put(cells[slot], nextSlot);
+        else cellHeads.remove(cells[slot]);
+        if (nextSlot != NONE) previous[nextSlot] = prev;
+    }
+
+    private int allocate() {
+        if (freeCount > 0) return freeSlots[--freeCount];
+        final int slot = slotCount++;
+        if (slot == entities.length) {
+            final int capacity = slot * 2;
+            entities = Arrays.copyOf(entities, capacity);
+            x = Arrays.copyOf(x, capacity);
+            y = Arrays.copyOf(y, capacity);
+            z = Arrays.copyOf(z, capacity);
+            minX = Arrays.copyOf(minX, capacity);
+            minY = Arrays.copyOf(minY, capacity);
+            minZ = Arrays.copyOf(minZ, capacity);
+            maxX = Arrays.copyOf(maxX, capacity);
+            maxY = Arrays.copyOf(maxY, capacity);
+            maxZ = Arrays.copyOf(maxZ, capacity);
+            extents = Arrays.copyOf(extents, capacity);
+            cells = Arrays.copyOf(cells, capacity);
+            previous = Arrays.copyOf(previous, capacity);
+            next = Arrays.copyOf(next, capacity);
+        }
+        extents[slot] = Double.NaN;
+        return slot;
+    }
+
+    private static long cellCount(int minCellX, int minCellY, int minCellZ, int maxCellX, int maxCellY, int maxCellZ) {
+        return (long) (maxCellX - minCellX + 1) * (maxCellY - minCellY + 1) * (maxCellZ - minCellZ + 1);
+    }
+
+    private static int cellCoordinate(double coordinate) {
+        return (int) Math.floor(coordinate) >> CELL_SHIFT;
+    }
+
+    private static long cell(double x, double y, double z) {
+        return cellIndex(cellCoordinate(x), cellCoordinate(y), cellCoordinate(z));
+    }
+
+    private static long cellIndex(int cellX, int cellY, int cellZ) {
+        // 24 bits per horizontal axis covers the world border, 16 bits vertically
+        return ((long) (cellX & 0xFFFFFF) << 40) | ((long) (cellZ & 0xFFFFFF) << 16) | (cellY & 0xFFFF);
+    }
+}
@@ -60,6 +60,12 @@ public sealed interface EntityTracker permits EntityTrackerImpl {
     <T extends Entity> void move(Entity entity, Point newPoint,
                                  Target<T> target, @Nullable Update<T> update);
 
+    /**
+     * Called when the bounding box of an entity changes, refreshing the one used by {@link #intersectingEntities}.
+     */
+    @ApiStatus.Internal
+    void boundingBoxUpdate(Entity entity);
+
     @UnmodifiableView <T extends Entity> Collection<T> chunkEntities(int chunkX, int chunkZ, Target<T> target);
 
     @UnmodifiableView
@@ -79,6 +85,15 @@ public sealed interface EntityTracker permits EntityTrackerImpl {
     <T extends Entity> void nearbyEntities(Point point, double range,
                                            Target<T> target, Consumer<T> query);
 
+    /**
+     * Gets the entities whose bounding box, at their tracked position, intersects the box between two points.
+     * <p>
+     * Without {@link net.minestom.server.ServerFlag#ENTITY_SPATIAL_INDEX},
+     * entities extending more than a chunk away from their position may be missed.
+     */
+    <T extends Entity> void intersectingEntities(Point start, Point end,
+                                                 Target<T> target, Consumer<T> query);
+
     /**
      * Gets all the entities tracked by this class.
      */
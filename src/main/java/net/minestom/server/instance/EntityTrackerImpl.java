@@ -3,6 +3,7 @@ package net.minestom.server.instance;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import net.minestom.server.ServerFlag;
 import net.minestom.server.Viewable;
+import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.coordinate.ChunkRange;
 import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
@@ -39,6 +40,15 @@ final class EntityTrackerImpl implements EntityTracker {
 
     private final Int2ObjectSyncMap<EntityTrackerEntry> entriesByEntityId = Int2ObjectSyncMap.hashmap();
     private final Map<UUID, EntityTrackerEntry> entriesByEntityUuid = new ConcurrentHashMap<>();
+    private final @Nullable EntitySpatialIndex spatialIndex;
+
+    EntityTrackerImpl() {
+        this(ServerFlag.ENTITY_SPATIAL_INDEX);
+    }
+
+    EntityTrackerImpl(boolean spatialIndex) {
+        this.spatialIndex = spatialIndex ? new EntitySpatialIndex() : null;
+    }
 
     @Override
     public <T extends Entity> void register(Entity entity, Point point,
@@ -50,6 +60,7 @@ final class EntityTrackerImpl implements EntityTracker {
         EntityTrackerEntry prevEntryWithUuid = entriesByEntityUuid.putIfAbsent(entity.getUuid(), newEntry);
         Check.isTrue(prevEntryWithUuid == null, "There is already an entity registered with uuid {0}", entity.getUuid());
 
+        if (spatialIndex != null) spatialIndex.add(entity, point);
         final long index = CoordConversion.chunkIndex(point);
         for (TargetEntry<Entity> targetEntry : targetEntries) {
             if (targetEntry.target.type().isInstance(entity)) {
@@ -71,6 +82,7 @@ final class EntityTrackerImpl implements EntityTracker {
                                               Target<T> target, @Nullable Update<T> update) {
         EntityTrackerEntry entry = entriesByEntityId.remove(entity.getEntityId());
         entriesByEntityUuid.remove(entity.getUuid());
+        if (spatialIndex != null) spatialIndex.remove(entity);
         final Point point = entry == null ? null : entry.getLastPosition();
         if (point == null) return;
 
@@ -102,6 +114,16 @@ final class EntityTrackerImpl implements EntityTracker {
         return entry == null ? null : entry.getEntity();
     }
 
+    @Override
+    public void boundingBoxUpdate(Entity entity) {
+        if (spatialIndex == null) return;
+        final EntityTrackerEntry entry = entriesByEntityId.get(entity.getEntityId());
+        // Not registered yet, the box is read on registration
+        if (entry == null || entry.getEntity() != entity) return;
+        final Point point = entry.getLastPosition();
+        if (point != null) spatialIndex.move(entity, point);
+    }
+
     @Override
     public <T extends Entity> void move(Entity entity, Point newPoint,
                                         Target<T> target, @Nullable Update<T> update) {
@@ -112,6 +134,7 @@ final class EntityTrackerImpl implements EntityTracker {
         }
         Point oldPoint = entry.getLastPosition();
         entry.setLastPosition(newPoint);
+        if (spatialIndex != null) spatialIndex.move(entity, newPoint);
         if (oldPoint == null || oldPoint.sameChunk(newPoint)) return;
         final long oldIndex = CoordConversion.chunkIndex(oldPoint);
         final long newIndex = CoordConversion.chunkIndex(newPoint);
@@ -166,6 +189,12 @@ final class EntityTrackerImpl implements EntityTracker {
 
     @Override
     public <T extends Entity> void nearbyEntities(Point point, double range, Target<T> target, Consumer<T> query) {
+        if (spatialIndex != null) {
+            List<Entity> result = new ArrayList<>();
+            spatialIndex.sphere(point, range, result);
+            accept(result, target, query);
+            return;
+        }
         final Long2ObjectSyncMap<List<Entity>> entities = targetEntries[target.ordinal()].chunkEntities;
         final int minChunkX = CoordConversion.globalToChunk(point.x() - range);
         final int minChunkZ = CoordConversion.globalToChunk(point.z() - range);
@@ -197,6 +226,41 @@ final class EntityTrackerImpl implements EntityTracker {
         }
     }
 
+    @Override
+    public <T extends Entity> void intersectingEntities(Point start, Point end, Target<T> target, Consumer<T> query) {
+        final double minX = Math.min(start.x(), end.x()), minY = Math.min(start.y(), end.y()), minZ = Math.min(start.z(), end.z());
+        final double maxX = Math.max(start.x(), end.x()), maxY = Math.max(start.y(), end.y()), maxZ = Math.max(start.z(), end.z());
+        List<Entity> result = new ArrayList<>();
+        if (spatialIndex != null) {
+            spatialIndex.box(minX, minY, minZ, maxX, maxY, maxZ, result);
+            accept(result, target, query);
+            return;
+        }
+        // Include the neighbour chunks for entities crossing chunk borders
+        final Long2ObjectSyncMap<List<Entity>> entities = targetEntries[target.ordinal()].chunkEntities;
+        final int minChunkX = CoordConversion.globalToChunk(minX) - 1, maxChunkX = CoordConversion.globalToChunk(maxX) + 1;
+        final int minChunkZ = CoordConversion.globalToChunk(minZ) - 1, maxChunkZ = CoordConversion.globalToChunk(maxZ) + 1;
+        for (int chunkX = minChunkX; chunkX <= maxChunkX; chunkX++) {
+            for (int chunkZ = minChunkZ; chunkZ <= maxChunkZ; chunkZ++) {
+                final List<Entity> chunkEntities = entities.get(CoordConversion.chunkIndex(chunkX, chunkZ));
+                if (chunkEntities == null || chunkEntities.isEmpty()) continue;
+                for (Entity entity : chunkEntities) {
+                    final EntityTrackerEntry entry = entriesByEntityId.get(entity.getEntityId());
+                    final Point position = entry != null ? entry.getLastPosition() : null;
+                    if (position == null) continue;
+                    final BoundingBox boundingBox = entity.getBoundingBox();
+                    if (position.x() + boundingBox.minX() <= maxX && position.x() + boundingBox.maxX() >= minX &&
+                            position.y() + boundingBox.minY() <= maxY && position.y() + boundingBox.maxY() >= minY &&
+                            position.z() + boundingBox.minZ() <= maxZ && position.z() + boundingBox.maxZ() >= minZ) {
+                        result.add(entity);
+                    }
+                }
+            }
+        }
+        //noinspection unchecked
+        result.forEach(entity -> query.accept((T) entity));
+    }
+
     @Override
     public @UnmodifiableView <T extends Entity> Set<T> entities(Target<T> target) {
         //noinspection unchecked
@@ -209,6 +273,15 @@ final class EntityTrackerImpl implements EntityTracker {
         return entry.viewers.computeIfAbsent(new ChunkViewKey(sharedInstances, chunkX, chunkZ), ChunkView::new);
     }
 
+    private static <T extends Entity> void accept(List<Entity> entities, Target<T> target, Consumer<T> query) {
+        // The index holds every entity
+        final boolean filter = target != Target.ENTITIES;
+        for (Entity entity : entities) {
+            //noinspection unchecked
+            if (!filter || target.type().isInstance(entity)) query.accept((T) entity);
+        }
+    }
+
     private static class EntityTrackerEntry {
         private final Entity entity;
         private Point lastPosition;
@@ -114,8 +114,11 @@ public abstract class Instance implements Block.Getter, Block.Setter,
 
     // Field for tick events
     private long lastTickAge = TimeUnit.NANOSECONDS.toMillis(System.nanoTime());
+    // Duration of the last tick in nanoseconds, set by the InstanceManager
+    volatile long tickDuration;
 
     private final EntityTracker entityTracker = new EntityTrackerImpl();
+    private final LightEngine lightEngine = new LightEngine(this);
 
     private final ChunkCache blockRetriever = new ChunkCache(this, null, null);
 
@@ -463,6 +466,16 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return dimensionName;
     }
 
+    /**
+     * Gets the time spent in the last {@link #tick(long)} of this instance,
+     * which does not include the ticking of its chunks and entities.
+     *
+     * @return the duration of the last tick in nanoseconds
+     */
+    public long getTickDuration() {
+        return tickDuration;
+    }
+
     /**
      * Gets the age of this instance in tick.
      *
@@ -781,6 +794,16 @@ public abstract class Instance implements Block.Getter, Block.Setter,
         return entityTracker;
     }
 
+    /**
+     * Gets the engine relighting the {@link LightingChunk}s of this instance.
+     *
+     * @return the light engine of this instance
+     */
+    @ApiStatus.Experimental
+    public LightEngine getLightEngine() {
+        return lightEngine;
+    }
+
     /**
      * Gets the instance unique id.
      *
@@ -843,6 +866,8 @@ public abstract class Instance implements Block.Getter, Block.Setter,
             if (worldBorder.diameter() == targetBorderDiameter) remainingWorldBorderTransitionTicks = 0;
             else remainingWorldBorderTransitionTicks--;
         }
+        // Light of the changed sections
+        this.lightEngine.tick();
         // End of tick scheduled tasks
         this.scheduler.processTickEnd();
     }
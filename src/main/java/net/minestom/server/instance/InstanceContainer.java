@@ -4,6 +4,7 @@ import it.unimi.dsi.fastutil.ints.Int2ObjectMaps;
 import net.kyori.adventure.key.Key;
 import net.kyori.adventure.nbt.CompoundBinaryTag;
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.coordinate.BlockVec;
 import net.minestom.server.coordinate.CoordConversion;
 import net.minestom.server.coordinate.Point;
@@ -83,6 +84,8 @@ public class InstanceContainer extends Instance {
 
     // the chunk loader, used when trying to load/save a chunk from another source
     private ChunkLoader chunkLoader;
+    // write-behind saving of modified chunks, null if disabled
+    private final @Nullable ChunkSaveQueue saveQueue = ServerFlag.CHUNK_SAVE_QUEUE ? new ChunkSaveQueue(this) : null;
 
     // used to automatically enable the chunk loading or not
     private boolean autoChunkLoad = true;
@@ -278,7 +281,12 @@ public class InstanceContainer extends Instance {
         // Clear cache
         this.chunks.remove(CoordConversion.chunkIndex(chunkX, chunkZ));
         chunk.unload();
-        chunkLoader.unloadChunk(chunk);
+        if (saveQueue != null) {
+            // Keep the loader resources until the pending saves are written
+            saveQueue.unload(chunk);
+        } else {
+            chunkLoader.unloadChunk(chunk);
+        }
         var dispatcher = MinecraftServer.process().dispatcher();
         dispatcher.deletePartition(chunk);
     }
@@ -296,16 +304,25 @@ public class InstanceContainer extends Instance {
 
     @Override
     public CompletableFuture<Void> saveChunkToStorage(Chunk chunk) {
+        if (saveQueue != null) return saveQueue.save(chunk);
         final ChunkLoader chunkLoader = this.chunkLoader;
         return optionalAsync(chunkLoader.supportsParallelSaving(), () -> chunkLoader.saveChunk(chunk));
     }
 
     @Override
     public CompletableFuture<Void> saveChunksToStorage() {
+        if (saveQueue != null) return saveQueue.saveAll(getChunks());
         final ChunkLoader chunkLoader = this.chunkLoader;
         return optionalAsync(chunkLoader.supportsParallelSaving(), () -> chunkLoader.saveChunks(getChunks()));
     }
 
+    /**
+     * Waits for the pending saves of the write-behind queue, written without throttling.
+     */
+    void flushSaveQueue() {
+        if (saveQueue != null) saveQueue.close();
+    }
+
     private CompletableFuture<Void> optionalAsync(boolean async, Runnable runnable) {
         if (!async) {
             runnable.run();
@@ -337,6 +354,9 @@ public class InstanceContainer extends Instance {
                 chunk = createChunk(chunkX, chunkZ);
                 chunk.onGenerate();
                 chunkGeneration.commit();
+            } else if (saveQueue != null) {
+                // Loaded from storage, only save it again once modified
+                chunk.markSaved();
             }
 
             // TODO run in the instance thread?
@@ -349,6 +369,9 @@ public class InstanceContainer extends Instance {
             completableFuture.complete(chunk);
         };
         Supplier<Chunk> loaderSupplier = () -> {
+            // The storage may not contain the latest state yet
+            final Chunk pendingChunk = saveQueue != null ? saveQueue.restore(chunkX, chunkZ) : null;
+            if (pendingChunk != null) return pendingChunk;
             var chunkLoading = EventsJFR.newChunkLoading(getUuid(), loader.getClass(), chunkX, chunkZ);
             chunkLoading.begin();
             final Chunk chunk = loader.loadChunk(this, chunkX, chunkZ);
@@ -563,6 +586,9 @@ public class InstanceContainer extends Instance {
      * <p>
      * Chunks are copied with {@link Chunk#copy(Instance, int, int)},
      * {@link UUID} is randomized and {@link DimensionType} is passed over.
+     * <p>
+     * Section palettes, light and cached chunk packets are shared with this instance
+     * until modified, copying is mostly proportional to the chunk count.
      *
      * @return an {@link InstanceContainer} with the exact same chunks as 'this'
      * @see #getSrcInstance() to retrieve the "creation source" of the copied instance
@@ -576,6 +602,10 @@ public class InstanceContainer extends Instance {
             final int chunkX = chunk.getChunkX();
             final int chunkZ = chunk.getChunkZ();
             final Chunk copiedChunk = chunk.copy(copiedInstance, chunkX, chunkZ);
+            if (chunk instanceof DynamicChunk source && copiedChunk instanceof DynamicChunk copy) {
+                // Same content and neighbors, the serialized packet stays valid until either chunk changes
+                copy.chunkCache.share(source.chunkCache);
+            }
             copiedInstance.cacheChunk(copiedChunk);
         }
         return copiedInstance;
@@ -1,6 +1,7 @@
 package net.minestom.server.instance;
 
 import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
 import net.minestom.server.entity.Player;
 import net.minestom.server.event.EventDispatcher;
 import net.minestom.server.event.instance.InstanceRegisterEvent;
@@ -9,6 +10,7 @@ import net.minestom.server.registry.Registries;
 import net.minestom.server.registry.RegistryKey;
 import net.minestom.server.utils.validate.Check;
 import net.minestom.server.world.DimensionType;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
 import java.util.Collections;
@@ -24,6 +26,7 @@ public final class InstanceManager {
 
     private final Registries registries;
     private final Set<Instance> instances = new CopyOnWriteArraySet<>();
+    private final InstanceTicker ticker = new InstanceTicker(ServerFlag.INSTANCE_TICK_THREADS);
 
     public InstanceManager(Registries registries) {
         this.registries = registries;
@@ -132,6 +135,30 @@ public final class InstanceManager {
         }
     }
 
+    /**
+     * Ticks every registered instance, see {@link Instance#tick(long)}.
+     * <p>
+     * With {@link ServerFlag#INSTANCE_TICK_THREADS}, instances are ticked concurrently.
+     * An {@link InstanceContainer} and its {@link SharedInstance}s are always ticked together, in that order.
+     *
+     * @param time the tick time in milliseconds
+     */
+    @ApiStatus.Internal
+    public void tick(long time) {
+        ticker.tick(instances, time);
+    }
+
+    /**
+     * Writes the pending chunk saves of every registered {@link InstanceContainer}.
+     */
+    @ApiStatus.Internal
+    public void shutdown() {
+        for (Instance instance : instances) {
+            if (instance instanceof InstanceContainer instanceContainer) instanceContainer.flushSaveQueue();
+        }
+        ticker.shutdown();
+    }
+
     /**
      * Gets all the registered instances.
      *
@@ -0,0 +1,96 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.MinecraftServer;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Ticks instances, either sequentially on the calling thread or concurrently on a fixed pool.
+ * <p>
+ * Instances sharing chunks and entities, an {@link InstanceContainer} and its {@link SharedInstance}s,
+ * form a group ticked on a single thread, container first.
+ * Exceptions are given to the exception manager, errors are rethrown on the calling thread once every group is done.
+ */
+final class InstanceTicker {
+    private final @Nullable ExecutorService pool;
+
+    /**
+     * @param threads the number of tick threads, 0 to tick on the calling thread
+     */
+    InstanceTicker(int threads) {
+        this.pool = threads > 0 ? createPool(threads) : null;
+    }
+
+    void tick(Collection<Instance> instances, long time) {
+        final ExecutorService pool = this.pool;
+        if (pool == null) {
+            for (Instance instance : instances) tick(instance, time);
+            return;
+        }
+        final List<List<Instance>> groups = groups(instances);
+        final CountDownLatch latch = new CountDownLatch(groups.size());
+        final AtomicReference<Error> error = new AtomicReference<>();
+        for (List<Instance> group : groups) {
+            pool.execute(() -> {
+                try {
+                    for (Instance instance : group) tick(instance, time);
+                } catch (Error e) {
+                    if (!error.compareAndSet(null, e)) error.get().addSuppressed(e);
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        final Error e = error.get();
+        if (e != null) throw e;
+    }
+
+    void shutdown() {
+        if (pool != null) pool.shutdown();
+    }
+
+    static List<List<Instance>> groups(Collection<Instance> instances) {
+        // Shared instances depend on the state of their container
+        Map<Instance, List<Instance>> groups = new IdentityHashMap<>();
+        for (Instance instance : instances) {
+            if (instance instanceof SharedInstance sharedInstance) {
+                groups.computeIfAbsent(sharedInstance.getInstanceContainer(), container -> new ArrayList<>()).add(instance);
+            } else {
+                groups.computeIfAbsent(instance, container -> new ArrayList<>()).addFirst(instance);
+            }
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static void tick(Instance instance, long time) {
+        final long start = System.nanoTime();
+        try {
+            instance.tick(time);
+        } catch (Exception e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            instance.tickDuration = System.nanoTime() - start;
+        }
+    }
+
+    private static ExecutorService createPool(int threads) {
+        final AtomicInteger index = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable ->
+                Thread.ofPlatform().name("Ms-InstanceTick-" + index.getAndIncrement()).daemon().unstarted(runnable));
+    }
+}
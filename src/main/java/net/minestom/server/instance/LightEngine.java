@@ -0,0 +1,125 @@
+package net.minestom.server.instance;
+
+import it.unimi.dsi.fastutil.longs.LongLinkedOpenHashSet;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.coordinate.CoordConversion;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Relights the {@link LightingChunk}s of an instance off the tick thread.
+ * <p>
+ * Block changes queue their section, which is relit on {@link ServerFlag#LIGHT_ENGINE_THREADS} threads
+ * for at most {@link ServerFlag#LIGHT_ENGINE_BUDGET} milliseconds per instance tick. Sections left over are relit on
+ * the next ticks, the updated light is then sent to the viewers of the chunks. When disabled, sections are relit
+ * once their light is requested.
+ */
+@ApiStatus.Experimental
+public final class LightEngine {
+    private static final long BUDGET_NANOS = TimeUnit.MILLISECONDS.toNanos(ServerFlag.LIGHT_ENGINE_BUDGET);
+    private static final @Nullable ExecutorService POOL = createPool();
+
+    // Metrics
+    private static final AtomicLong RELIT = new AtomicLong();
+
+    private final Instance instance;
+    // Held while relighting, relights of the same instance would otherwise overwrite each other
+    final ReentrantLock lock = new ReentrantLock();
+    // Sections waiting to be relit, in submission order
+    private final LongLinkedOpenHashSet sections = new LongLinkedOpenHashSet();
+    private final AtomicBoolean running = new AtomicBoolean();
+
+    LightEngine(Instance instance) {
+        this.instance = instance;
+    }
+
+    /**
+     * Gets if light is computed off the tick thread.
+     *
+     * @return true if {@link ServerFlag#LIGHT_ENGINE_THREADS} is positive
+     */
+    public static boolean isEnabled() {
+        return POOL != null;
+    }
+
+    /**
+     * Gets the number of sections relit by every engine since startup.
+     *
+     * @return the relit section count
+     */
+    public static long relitCount() {
+        return RELIT.get();
+    }
+
+    /**
+     * Gets the number of sections of this instance waiting to be relit.
+     *
+     * @return the pending section count
+     */
+    public int pendingSections() {
+        synchronized (sections) {
+            return sections.size();
+        }
+    }
+
+    void enqueue(int chunkX, int sectionY, int chunkZ) {
+        final long index = CoordConversion.sectionIndex(chunkX, sectionY, chunkZ);
+        synchronized (sections) {
+            sections.add(index);
+        }
+    }
+
+    void tick() {
+        final ExecutorService pool = POOL;
+        if (pool == null || pendingSections() == 0) return;
+        // At most one batch per instance, a slow one delays the next tick batch
+        if (!running.compareAndSet(false, true)) return;
+        pool.execute(this::process);
+    }
+
+    private void process() {
+        final long deadline = System.nanoTime() + BUDGET_NANOS;
+        final Set<Chunk> updated = new HashSet<>();
+        try {
+            while (true) {
+                final long index;
+                synchronized (sections) {
+                    if (sections.isEmpty()) break;
+                    index = sections.removeFirstLong();
+                }
+                updated.addAll(LightingChunk.relightSection(instance,
+                        CoordConversion.sectionIndexGetX(index),
+                        CoordConversion.sectionIndexGetY(index),
+                        CoordConversion.sectionIndexGetZ(index)));
+                RELIT.incrementAndGet();
+                if (BUDGET_NANOS > 0 && System.nanoTime() - deadline >= 0) break;
+            }
+            for (Chunk chunk : updated) {
+                if (chunk instanceof LightingChunk lighting) lighting.publishLighting();
+            }
+        } catch (Throwable e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+        } finally {
+            running.set(false);
+        }
+    }
+
+    private static @Nullable ExecutorService createPool() {
+        final int threads = ServerFlag.LIGHT_ENGINE_THREADS;
+        if (threads <= 0) return null;
+        final AtomicInteger index = new AtomicInteger();
+        return Executors.newFixedThreadPool(threads, runnable ->
+                Thread.ofPlatform().name("Ms-Light-" + index.getAndIncrement()).daemon().unstarted(runnable));
+    }
+}
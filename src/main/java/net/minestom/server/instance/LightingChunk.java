@@ -121,7 +121,10 @@ public class LightingChunk extends DynamicChunk {
         if (freezeInvalidation) {
             return;
         }
+        invalidateNeighbors(coordinate, false, 0, 0, 0);
+    }
 
+    private void invalidateNeighbors(int coordinate, boolean changedBlock, int x, int y, int z) {
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
                 Chunk neighborChunk = instance.getChunk(chunkX + i, chunkZ + j);
@@ -134,8 +137,16 @@ public class LightingChunk extends DynamicChunk {
                 for (int k = -1; k <= 1; k++) {
                     if (k + coordinate < neighborChunk.getMinSection() || k + coordinate >= neighborChunk.getMaxSection())
                         continue;
-                    neighborChunk.getSection(k + coordinate).blockLight().invalidate();
-                    neighborChunk.getSection(k + coordinate).skyLight().invalidate();
+                    final Section section = neighborChunk.getSection(k + coordinate);
+                    if (!changedBlock) {
+                        section.blockLight().invalidate();
+                    } else if (i == 0 && j == 0 && k == 0) {
+                        section.blockLight().invalidate(x, y, z);
+                    } else {
+                        // Block light of the other sections only needs to be propagated again
+                        section.blockLight().invalidatePropagation();
+                    }
+                    section.skyLight().invalidate();
                 }
             }
         }
@@ -166,8 +177,14 @@ public class LightingChunk extends DynamicChunk {
         // Invalidate neighbor chunks, since they can be updated by this block change
         int coordinate = CoordConversion.globalToChunk(y);
         if (doneInit && !freezeInvalidation) {
-            invalidateNeighborsSection(coordinate);
-            invalidateResendDelay();
+            invalidateNeighbors(coordinate, true, CoordConversion.globalToSectionRelative(x),
+                    CoordConversion.globalToSectionRelative(y), CoordConversion.globalToSectionRelative(z));
+            if (LightEngine.isEnabled()) {
+                // Sent by the engine once relit
+                instance.getLightEngine().enqueue(chunkX, coordinate, chunkZ);
+            } else {
+                invalidateResendDelay();
+            }
             this.partialLightCache.invalidate();
         }
     }
@@ -177,6 +194,12 @@ public class LightingChunk extends DynamicChunk {
         sendPacketToViewers(partialLightCache);
     }
 
+    void publishLighting() {
+        // Packets built before the relight may be outdated
+        invalidate();
+        sendLighting();
+    }
+
     @Override
     protected void onLoad() {
         doneInit = true;
@@ -438,7 +461,9 @@ public class LightingChunk extends DynamicChunk {
     public static List<Chunk> relight(Instance instance, Collection<Chunk> chunks) {
         Set<Point> sections = new HashSet<>();
 
-        synchronized (instance) {
+        final ReentrantLock lock = instance.getLightEngine().lock;
+        lock.lock();
+        try {
             for (Chunk chunk : chunks) {
                 if (!(chunk instanceof LightingChunk lighting)) continue;
                 for (int sectionIndex = chunk.minSection; sectionIndex < chunk.maxSection; sectionIndex++) {
@@ -474,6 +499,8 @@ public class LightingChunk extends DynamicChunk {
             }
 
             return new ArrayList<>(chunksToRelight);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -552,9 +579,13 @@ public class LightingChunk extends DynamicChunk {
         if (c == null) return Set.of();
         if (!(c instanceof LightingChunk)) return Set.of();
 
-        synchronized (instance) {
+        final ReentrantLock lock = instance.getLightEngine().lock;
+        lock.lock();
+        try {
             Set<Point> collected = collectRequiredNearby(instance, new Vec(chunkX, sectionY, chunkZ), type);
             return relight(instance, collected, type);
+        } finally {
+            lock.unlock();
         }
     }
 
@@ -563,7 +594,7 @@ public class LightingChunk extends DynamicChunk {
     }
 
     @Override
-    public Chunk copy(Instance instance, int chunkX, int chunkZ) {
+    public synchronized Chunk copy(Instance instance, int chunkX, int chunkZ) {
         var sections = this.sections.stream().map(Section::clone).toList();
         LightingChunk lightingChunk = new LightingChunk(instance, chunkX, chunkZ, sections);
         lightingChunk.entries.putAll(entries);
@@ -2,6 +2,7 @@ package net.minestom.server.instance;
 
 import net.minestom.server.instance.light.Light;
 import net.minestom.server.instance.palette.Palette;
+import org.jetbrains.annotations.ApiStatus;
 
 public final class Section {
     private final Palette blockPalette;
@@ -37,15 +38,26 @@ public final class Section {
         this.biomePalette.fill(0);
     }
 
+    /**
+     * Gets the number of times the blocks or biomes of this section have been changed, including direct palette writes.
+     * <p>
+     * Used to reuse the snapshot of unchanged sections.
+     *
+     * @return the modification count
+     */
+    @ApiStatus.Internal
+    public int modificationCount() {
+        return blockPalette.modificationCount() + biomePalette.modificationCount();
+    }
+
+    /**
+     * Copies this section, the palettes and light arrays are shared until either section is modified.
+     *
+     * @return a copy of this section
+     */
     @Override
     public Section clone() {
-        final Light skyLight = Light.sky();
-        final Light blockLight = Light.block();
-
-        skyLight.set(this.skyLight.array());
-        blockLight.set(this.blockLight.array());
-
-        return new Section(this.blockPalette.clone(), this.biomePalette.clone(), skyLight, blockLight);
+        return new Section(this.blockPalette.clone(), this.biomePalette.clone(), skyLight.copy(), blockLight.copy());
     }
 
     public void setSkyLight(byte[] copyArray) {
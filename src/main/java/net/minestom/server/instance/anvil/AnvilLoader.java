@@ -50,6 +50,7 @@ public class AnvilLoader implements ChunkLoader {
     private final Path path;
     private final Path levelPath;
     private final Path regionPath;
+    private final RegionCompression compression;
 
     /**
      * Represents the chunks currently loaded per region. Used to determine when a region file can be unloaded.
@@ -60,15 +61,28 @@ public class AnvilLoader implements ChunkLoader {
     private final ReentrantLock perRegionLoadedChunksLock = new ReentrantLock();
 
     public AnvilLoader(Path path) {
-        this.path = path;
-        this.levelPath = path.resolve("level.dat");
-        this.regionPath = path.resolve("region");
+        this(path, RegionCompression.ZLIB);
     }
 
     public AnvilLoader(String path) {
         this(Path.of(path));
     }
 
+    /**
+     * Creates a loader writing chunks with the given compression.
+     * <p>
+     * Existing chunks are read with the compression they were written with.
+     *
+     * @param path        the world folder
+     * @param compression the compression of saved chunks
+     */
+    public AnvilLoader(Path path, RegionCompression compression) {
+        this.path = path;
+        this.levelPath = path.resolve("level.dat");
+        this.regionPath = path.resolve("region");
+        this.compression = compression;
+    }
+
     @Override
     public void loadInstance(Instance instance) {
         if (!Files.exists(levelPath)) {
@@ -160,7 +174,7 @@ public class AnvilLoader implements ChunkLoader {
                     final long regionIndex = regionIndex(regionX, regionZ);
                     LongSet previousVersion = perRegionLoadedChunks.put(regionIndex, new LongOpenHashSet());
                     assert previousVersion == null : "The AnvilLoader cache should not already have data for this region.";
-                    return new RegionFile(regionPath);
+                    return RegionFile.open(regionPath, compression);
                 } catch (IOException e) {
                     MinecraftServer.getExceptionManager().handleException(e);
                     return null;
@@ -338,7 +352,7 @@ public class AnvilLoader implements ChunkLoader {
                         Files.createFile(regionFile);
                     }
 
-                    mcaFile = new RegionFile(regionFile);
+                    mcaFile = RegionFile.open(regionFile, compression);
                     alreadyLoaded.put(regionFileName, mcaFile);
                 } catch (IOException e) {
                     LOGGER.error("Failed to create region file for {}, {}", chunkX, chunkZ, e);
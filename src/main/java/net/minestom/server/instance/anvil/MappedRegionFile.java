@@ -0,0 +1,289 @@
+package net.minestom.server.instance.anvil;
+
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.utils.validate.Check;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+/**
+ * Region file memory-mapping both its header and its sectors.
+ * <p>
+ * Chunk slots are guarded by striped read/write locks, reads of different chunks never block each other
+ * and are parsed directly from the mapping.
+ * <p>
+ * Writes are left to the OS and forced to disk in batches, every {@link #FLUSH_INTERVAL} writes, on {@link #flush()}
+ * and on {@link #close()}. Chunk data is forced before the header pointing to it.
+ * {@link ServerFlag#ANVIL_REGION_FILE_SYNC} forces every write instead.
+ * <p>
+ * The mapping grows geometrically past the used sectors, the unused tail is trimmed on {@link #close()}.
+ */
+final class MappedRegionFile implements RegionFile {
+    private static final ValueLayout.OfInt INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final int STRIPE_COUNT = 64; // Must be a power of two
+    // Minimum sectors added when growing the file, every growth requires a new mapping
+    private static final int GROWTH_SECTORS = 64;
+    // Writes between two forced flushes
+    static final int FLUSH_INTERVAL = 256;
+
+    private final RegionCompression compression;
+    private final boolean sync;
+    private final FileChannel channel;
+    private final ReentrantReadWriteLock[] stripes = new ReentrantReadWriteLock[STRIPE_COUNT];
+    // Held by writers, which use the mapping outside of the slot locks
+    // Exclusive for flushes so that no header entry is published while the data is being forced
+    private final ReentrantReadWriteLock closeLock = new ReentrantReadWriteLock();
+    private final AtomicInteger unflushedWrites = new AtomicInteger();
+
+    // Guards sector allocation and mapping growth
+    private final ReentrantLock allocationLock = new ReentrantLock();
+    private final BitSet freeSectors = new BitSet(2);
+    private int mappedSectors;
+    // Previous mappings stay valid until closed, readers may still be using them
+    private final Arena arena = Arena.ofShared();
+    private volatile MemorySegment segment;
+
+    MappedRegionFile(Path path, RegionCompression compression) throws IOException {
+        this(path, compression, ServerFlag.ANVIL_REGION_FILE_SYNC);
+    }
+
+    MappedRegionFile(Path path, RegionCompression compression, boolean sync) throws IOException {
+        this.compression = compression;
+        this.sync = sync;
+        this.channel = FileChannel.open(path, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        Arrays.setAll(stripes, i -> new ReentrantReadWriteLock());
+        // Round up, last sector does not need to be full size
+        final int sectors = (int) Math.max(HEADER_LENGTH / SECTOR_SIZE, (channel.size() + SECTOR_SIZE - 1) / SECTOR_SIZE);
+        map(sectors);
+        this.mappedSectors = sectors;
+        freeSectors.set(HEADER_LENGTH / SECTOR_SIZE, sectors); // First sectors are locations & timestamps
+        for (int i = 0; i < MAX_ENTRY_COUNT; i++) {
+            final int location = segment.get(INT, i * 4L);
+            if (location == 0) continue;
+            final int sectorStart = location >>> 8, sectorCount = location & 0xFF;
+            Check.stateCondition(sectorStart + sectorCount > sectors, "Invalid sector count");
+            freeSectors.clear(sectorStart, sectorStart + sectorCount);
+        }
+    }
+
+    @Override
+    public boolean hasChunkData(int chunkX, int chunkZ) {
+        final int index = RegionFile.chunkIndex(chunkX, chunkZ);
+        final Lock lock = stripe(index).readLock();
+        lock.lock();
+        try {
+            return segment.get(INT, index * 4L) != 0;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public @Nullable CompoundBinaryTag readChunkData(int chunkX, int chunkZ) throws IOException {
+        final int index = RegionFile.chunkIndex(chunkX, chunkZ);
+        final Lock lock = stripe(index).readLock();
+        lock.lock();
+        try {
+            // Sectors of the current location cannot be freed while the slot is locked
+            final MemorySegment segment = this.segment;
+            final int location = segment.get(INT, index * 4L);
+            if (location == 0) return null;
+            final long offset = (long) (location >>> 8) * SECTOR_SIZE;
+            final long available = (long) (location & 0xFF) * SECTOR_SIZE - CHUNK_HEADER_LENGTH;
+            if (offset + available + CHUNK_HEADER_LENGTH > segment.byteSize()) {
+                throw new IOException("Chunk data outside of the region file");
+            }
+            final int length = segment.get(INT, offset);
+            if (length <= 0) throw new IOException("Invalid chunk length: " + length);
+            final int compressionType = segment.get(ValueLayout.JAVA_BYTE, offset + 4);
+            final long dataLength = Math.min(length - 1, available);
+            return RegionFile.readData(new SegmentInputStream(segment.asSlice(offset + CHUNK_HEADER_LENGTH, dataLength)), compressionType);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    @Override
+    public void writeChunkData(int chunkX, int chunkZ, CompoundBinaryTag data) throws IOException {
+        // Write the data (compressed)
+        byte[] dataBytes = RegionFile.writeData(data, compression);
+        final int chunkLength = CHUNK_HEADER_LENGTH + dataBytes.length;
+        final int sectorCount = (chunkLength + SECTOR_SIZE - 1) / SECTOR_SIZE;
+        Check.stateCondition(sectorCount >= SECTOR_1MB, "Chunk data is too large to fit in a region file");
+
+        final boolean flush;
+        final Lock closeLock = this.closeLock.readLock();
+        closeLock.lock();
+        try {
+            if (!channel.isOpen()) throw new IOException("Region file is closed");
+            // Sectors are owned by this call until published in the header
+            final int firstSector = allocate(sectorCount);
+            final MemorySegment segment = this.segment;
+            final long offset = (long) firstSector * SECTOR_SIZE;
+            segment.set(INT, offset, dataBytes.length + 1);
+            segment.set(ValueLayout.JAVA_BYTE, offset + 4, (byte) compression.id());
+            MemorySegment.copy(dataBytes, 0, segment, ValueLayout.JAVA_BYTE, offset + CHUNK_HEADER_LENGTH, dataBytes.length);
+            // The header must never point to sectors which were not written back
+            if (sync) segment.asSlice(offset, (long) sectorCount * SECTOR_SIZE).force();
+
+            final int index = RegionFile.chunkIndex(chunkX, chunkZ);
+            final int oldLocation;
+            final Lock lock = stripe(index).writeLock();
+            lock.lock();
+            try {
+                oldLocation = segment.get(INT, index * 4L);
+                segment.set(INT, index * 4L, (firstSector << 8) | sectorCount);
+                // store timestamps in seconds since epoch
+                segment.set(INT, (MAX_ENTRY_COUNT + index) * 4L, (int) (System.currentTimeMillis() / 1000));
+            } finally {
+                lock.unlock();
+            }
+            if (sync) segment.asSlice(0, HEADER_LENGTH).force();
+            if (oldLocation != 0) free(oldLocation);
+            // Counted before unlocking, a concurrent flush or close cannot miss this write
+            flush = !sync && unflushedWrites.incrementAndGet() >= FLUSH_INTERVAL;
+        } finally {
+            closeLock.unlock();
+        }
+        if (flush) flush();
+    }
+
+    /**
+     * Forces the chunks written since the last flush, and then the header, to disk.
+     */
+    void flush() {
+        final Lock closeLock = this.closeLock.writeLock();
+        closeLock.lock();
+        try {
+            if (channel.isOpen()) force();
+        } finally {
+            closeLock.unlock();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        // Wait for in-flight reads and writes, the mappings cannot be released while in use
+        closeLock.writeLock().lock();
+        for (ReentrantReadWriteLock stripe : stripes) stripe.writeLock().lock();
+        allocationLock.lock();
+        try {
+            if (!channel.isOpen()) return;
+            force();
+            arena.close();
+            // Remove the free headroom after the last used sector
+            final int usedSectors = freeSectors.previousClearBit(mappedSectors - 1) + 1;
+            channel.truncate((long) usedSectors * SECTOR_SIZE);
+            channel.close();
+        } finally {
+            allocationLock.unlock();
+            for (ReentrantReadWriteLock stripe : stripes) stripe.writeLock().unlock();
+            closeLock.writeLock().unlock();
+        }
+    }
+
+    private ReentrantReadWriteLock stripe(int chunkIndex) {
+        return stripes[chunkIndex & (STRIPE_COUNT - 1)];
+    }
+
+    private int allocate(int sectorCount) throws IOException {
+        allocationLock.lock();
+        try {
+            int start = findFreeSectors(sectorCount);
+            if (start == -1) {
+                // Extend the free run reaching the end of the file, if any
+                start = mappedSectors;
+                while (start > 0 && freeSectors.get(start - 1)) start--;
+                // Doubling keeps the number of mappings logarithmic in the file size
+                final int sectors = Math.max(start + sectorCount, mappedSectors + Math.max(GROWTH_SECTORS, mappedSectors));
+                map(sectors);
+                freeSectors.set(mappedSectors, sectors);
+                this.mappedSectors = sectors;
+            }
+            freeSectors.clear(start, start + sectorCount);
+            return start;
+        } finally {
+            allocationLock.unlock();
+        }
+    }
+
+    private void free(int location) {
+        final int sectorStart = location >>> 8, sectorCount = location & 0xFF;
+        allocationLock.lock();
+        try {
+            freeSectors.set(sectorStart, sectorStart + sectorCount);
+        } finally {
+            allocationLock.unlock();
+        }
+    }
+
+    private int findFreeSectors(int length) {
+        int start = freeSectors.nextSetBit(0);
+        while (start != -1) {
+            final int end = freeSectors.nextClearBit(start);
+            if (end - start >= length) return start;
+            start = freeSectors.nextSetBit(end);
+        }
+        return -1;
+    }
+
+    private void force() {
+        if (unflushedWrites.getAndSet(0) == 0) return; // Nothing written, or already forced by sync writes
+        final MemorySegment segment = this.segment;
+        segment.asSlice(HEADER_LENGTH).force();
+        segment.asSlice(0, HEADER_LENGTH).force();
+    }
+
+    private void map(int sectors) throws IOException {
+        // Mapping past the end of the file extends it
+        this.segment = channel.map(FileChannel.MapMode.READ_WRITE, 0, (long) sectors * SECTOR_SIZE, arena);
+    }
+
+    private static final class SegmentInputStream extends InputStream {
+        private final MemorySegment segment;
+        private long position;
+
+        SegmentInputStream(MemorySegment segment) {
+            this.segment = segment;
+        }
+
+        @Override
+        public int read() {
+            if (position >= segment.byteSize()) return -1;
+            return segment.get(ValueLayout.JAVA_BYTE, position++) & 0xFF;
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) {
+            Objects.checkFromIndexSize(off, len, b.length);
+            if (len == 0) return 0;
+            final long remaining = segment.byteSize() - position;
+            if (remaining <= 0) return -1;
+            final int length = (int) Math.min(len, remaining);
+            MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, position, b, off, length);
+            this.position += length;
+            return length;
+        }
+
+        @Override
+        public int available() {
+            return (int) Math.min(segment.byteSize() - position, Integer.MAX_VALUE);
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package net.minestom.server.instance.anvil;
+
+import org.jetbrains.annotations.Nullable;
+
+/**
+ * Compression applied to the chunks written by an {@link AnvilLoader}.
+ * <p>
+ * Chunks are always read with the compression they were written with, a world can mix them.
+ *
+ * @see <a href="https://minecraft.wiki/w/Region_file_format#Payload">Region file payload</a>
+ */
+public enum RegionCompression {
+    GZIP(1),
+    /**
+     * Vanilla default.
+     */
+    ZLIB(2),
+    /**
+     * Fastest to write, at the cost of disk space.
+     */
+    NONE(3),
+    /**
+     * Much cheaper than {@link #ZLIB} for a slightly lower ratio, supported by vanilla since 1.20.5.
+     */
+    LZ4(4);
+
+    private static final RegionCompression[] VALUES = values();
+
+    private final int id;
+
+    RegionCompression(int id) {
+        this.id = id;
+    }
+
+    /**
+     * Gets the compression type stored in region files.
+     *
+     * @return the compression id
+     */
+    public int id() {
+        return id;
+    }
+
+    static @Nullable RegionCompression fromId(int id) {
+        for (RegionCompression compression : VALUES) {
+            if (compression.id == id) return compression;
+        }
+        return null;
+    }
+}
@@ -8,6 +8,7 @@ import net.minestom.server.instance.block.BlockFace;
 import net.minestom.server.instance.palette.Palette;
 import org.jetbrains.annotations.ApiStatus;
 
+import java.util.Arrays;
 import java.util.HashSet;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
@@ -16,6 +17,9 @@ import static net.minestom.server.coordinate.CoordConversion.SECTION_BLOCK_COUNT
 import static net.minestom.server.instance.light.LightCompute.*;
 
 final class BlockLight implements Light {
+    // Past this many block changes, computing the section again is cheaper
+    private static final int MAX_CHANGES = 64;
+
     private byte[] content;
     private byte[] contentPropagation;
     private byte[] contentPropagationSwap;
@@ -23,6 +27,11 @@ final class BlockLight implements Light {
     private volatile boolean isValidBorders = true;
     private final AtomicBoolean needsSend = new AtomicBoolean(false);
 
+    // Blocks changed since the content was computed, only used if the content is otherwise valid
+    private boolean validContent;
+    private short[] changes;
+    private int changeCount;
+
     @Override
     public void flip() {
         if (this.contentPropagationSwap != null)
@@ -62,6 +71,31 @@ final class BlockLight implements Light {
 
     @Override
     public void invalidate() {
+        synchronized (this) {
+            this.validContent = false;
+            this.changeCount = 0;
+        }
+        invalidatePropagation();
+    }
+
+    @Override
+    public void invalidate(int x, int y, int z) {
+        synchronized (this) {
+            if (validContent) {
+                if (changeCount == MAX_CHANGES) {
+                    this.validContent = false;
+                    this.changeCount = 0;
+                } else {
+                    if (changes == null) this.changes = new short[MAX_CHANGES];
+                    changes[changeCount++] = (short) (x | (z << 4) | (y << 8));
+                }
+            }
+        }
+        invalidatePropagation();
+    }
+
+    @Override
+    public void invalidatePropagation() {
         this.needsSend.set(true);
         this.isValidBorders = false;
         this.contentPropagation = null;
@@ -79,6 +113,25 @@ final class BlockLight implements Light {
         this.contentPropagation = this.content;
         this.isValidBorders = true;
         this.needsSend.set(true);
+        synchronized (this) {
+            // Loaded light includes the propagation from neighbors
+            this.validContent = false;
+            this.changeCount = 0;
+        }
+    }
+
+    @Override
+    @ApiStatus.Internal
+    public Light copy() {
+        BlockLight copy = new BlockLight();
+        copy.content = content;
+        copy.contentPropagation = contentPropagation;
+        copy.isValidBorders = isValidBorders;
+        copy.needsSend.set(true);
+        synchronized (this) {
+            copy.validContent = validContent && changeCount == 0;
+        }
+        return copy;
     }
 
     @Override
@@ -109,9 +162,22 @@ final class BlockLight implements Light {
                                         int[] heightmap, int maxY,
                                         LightLookup lightLookup) {
         this.isValidBorders = true;
-        // Update single section with base lighting changes
-        ShortArrayFIFOQueue queue = buildInternalQueue(blockPalette);
-        this.content = LightCompute.compute(blockPalette, queue);
+        final boolean incremental;
+        final short[] changes;
+        synchronized (this) {
+            incremental = validContent && content != null;
+            changes = incremental && changeCount > 0 ? Arrays.copyOf(this.changes, changeCount) : null;
+            this.validContent = true;
+            this.changeCount = 0;
+        }
+        if (!incremental) {
+            // Update single section with base lighting changes
+            ShortArrayFIFOQueue queue = buildInternalQueue(blockPalette);
+            this.content = LightCompute.compute(blockPalette, queue);
+        } else if (changes != null) {
+            // Only update the light around the changed blocks, neighbor changes do not affect the content
+            this.content = LightCompute.update(blockPalette, content, changes);
+        }
         // Propagate changes to neighbors and self
         for (int i = -1; i <= 1; i++) {
             for (int j = -1; j <= 1; j++) {
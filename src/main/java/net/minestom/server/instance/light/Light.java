@@ -30,10 +30,40 @@ public interface Light {
 
     void invalidate();
 
+    /**
+     * Invalidates the light after a block change in the section.
+     * <p>
+     * Lights supporting it only update the light around the changed blocks on their next computation.
+     *
+     * @param x the section relative x
+     * @param y the section relative y
+     * @param z the section relative z
+     */
+    @ApiStatus.Internal
+    default void invalidate(int x, int y, int z) {
+        invalidate();
+    }
+
+    /**
+     * Invalidates the light coming from the neighbor sections, after a block change in one of them.
+     */
+    @ApiStatus.Internal
+    default void invalidatePropagation() {
+        invalidate();
+    }
+
     boolean requiresUpdate();
 
     void set(byte[] copyArray);
 
+    /**
+     * Creates a light with the same content, sharing the light arrays which are never modified in place.
+     *
+     * @return a copy of this light
+     */
+    @ApiStatus.Internal
+    Light copy();
+
     @ApiStatus.Internal
     Set<Point> calculateInternal(Palette blockPalette,
                                  int chunkX, int chunkY, int chunkZ,
@@ -155,22 +155,147 @@ public final class LightCompute {
                 final int newIndex = xO | (zO << 4) | (yO << 8);
 
                 if (getLight(lightArray, newIndex) < newLightLevel) {
-                    final Block currentBlock = Objects.requireNonNullElse(getBlock(blockPalette, x, y, z), Block.AIR);
-                    final Block propagatedBlock = Objects.requireNonNullElse(getBlock(blockPalette, xO, yO, zO), Block.AIR);
+                    if (!propagates(blockPalette, x, y, z, xO, yO, zO, direction)) continue;
 
-                    final Shape currentShape = currentBlock.registry().occlusionShape();
-                    final Shape propagatedShape = propagatedBlock.registry().occlusionShape();
+                    placeLight(lightArray, newIndex, newLightLevel);
+                    lightSources.enqueue((short) (newIndex | (newLightLevel << 12)));
+                }
+            }
+        }
+        return lightArray;
+    }
+
+    /**
+     * Updates the light of one section after some of its blocks changed, instead of computing it again.
+     * <p>
+     * Light which may come from the changed blocks is removed first, then spread again from the light sources
+     * and the lit blocks bordering the removed area. The result is the same as {@link #compute(Palette, ShortArrayFIFOQueue)}
+     * with every light source of the section.
+     *
+     * @param blockPalette blocks placed in section, including the changes
+     * @param light        the light before the changes, not modified
+     * @param changes      indices of the changed blocks, in format [4bit y][4bit z][4bit x]
+     * @return the updated light
+     */
+    static byte[] update(Palette blockPalette, byte[] light, short[] changes) {
+        final byte[] lightArray = light.length == LIGHT_LENGTH ? light.clone() : new byte[LIGHT_LENGTH];
+
+        final ShortArrayFIFOQueue removed = new ShortArrayFIFOQueue();
+        // Blocks to spread light from again, levels are only read once the removal is done
+        final ShortArrayFIFOQueue border = new ShortArrayFIFOQueue();
+        final ShortArrayFIFOQueue emitters = new ShortArrayFIFOQueue();
+        final ShortArrayFIFOQueue lightSources = new ShortArrayFIFOQueue();
+
+        for (short change : changes) {
+            final int index = change & 0xFFF;
+            final int lightLevel = getLight(lightArray, index);
+            if (lightLevel > 0) {
+                placeLight(lightArray, index, 0);
+                removed.enqueue((short) (index | (lightLevel << 12)));
+            } else {
+                // The block may let the light of its neighbors through now
+                enqueueNeighbors(index, border);
+            }
+            emitters.enqueue((short) index);
+        }
+
+        while (!removed.isEmpty()) {
+            final int index = removed.dequeueShort();
+            final int lightLevel = (index >> 12) & 15;
+            final int x = index & 15;
+            final int z = (index >> 4) & 15;
+            final int y = (index >> 8) & 15;
+
+            for (Direction direction : DIRECTIONS) {
+                final int xO = x + direction.normalX();
+                final int yO = y + direction.normalY();
+                final int zO = z + direction.normalZ();
+                if (xO < 0 || xO >= SECTION_SIZE || yO < 0 || yO >= SECTION_SIZE || zO < 0 || zO >= SECTION_SIZE) {
+                    continue;
+                }
+
+                final int newIndex = xO | (zO << 4) | (yO << 8);
+                final int neighborLevel = getLight(lightArray, newIndex);
+                if (neighborLevel == 0) continue;
+                if (neighborLevel < lightLevel) {
+                    // May have been lit by the removed block
+                    placeLight(lightArray, newIndex, 0);
+                    removed.enqueue((short) (newIndex | (neighborLevel << 12)));
+                    emitters.enqueue((short) newIndex);
+                } else {
+                    border.enqueue((short) newIndex);
+                }
+            }
+        }
 
-                    final boolean airAir = currentBlock.isAir() && propagatedBlock.isAir();
-                    if (!airAir && currentShape.isOccluded(propagatedShape, BlockFace.fromDirection(direction)))
-                        continue;
+        while (!emitters.isEmpty()) {
+            final int index = emitters.dequeueShort() & 0xFFF;
+            final Block block = getBlock(blockPalette, index & 15, (index >> 8) & 15, (index >> 4) & 15);
+            if (block == null) continue;
+            final int lightEmission = block.registry().lightEmission();
+            if (lightEmission > getLight(lightArray, index)) {
+                placeLight(lightArray, index, lightEmission);
+                lightSources.enqueue((short) (index | (lightEmission << 12)));
+            }
+        }
+        while (!border.isEmpty()) {
+            final int index = border.dequeueShort() & 0xFFF;
+            final int lightLevel = getLight(lightArray, index);
+            if (lightLevel > 0) lightSources.enqueue((short) (index | (lightLevel << 12)));
+        }
+
+        while (!lightSources.isEmpty()) {
+            final int index = lightSources.dequeueShort();
+            final int x = index & 15;
+            final int z = (index >> 4) & 15;
+            final int y = (index >> 8) & 15;
+            final int lightLevel = (index >> 12) & 15;
+            final byte newLightLevel = (byte) (lightLevel - 1);
+
+            for (Direction direction : DIRECTIONS) {
+                final int xO = x + direction.normalX();
+                final int yO = y + direction.normalY();
+                final int zO = z + direction.normalZ();
+                if (xO < 0 || xO >= SECTION_SIZE || yO < 0 || yO >= SECTION_SIZE || zO < 0 || zO >= SECTION_SIZE) {
+                    continue;
+                }
+
+                final int newIndex = xO | (zO << 4) | (yO << 8);
+                if (getLight(lightArray, newIndex) < newLightLevel) {
+                    if (!propagates(blockPalette, x, y, z, xO, yO, zO, direction)) continue;
 
                     placeLight(lightArray, newIndex, newLightLevel);
                     lightSources.enqueue((short) (newIndex | (newLightLevel << 12)));
                 }
             }
         }
-        return lightArray;
+        return Arrays.equals(lightArray, EMPTY_CONTENT) ? EMPTY_CONTENT : lightArray;
+    }
+
+    private static void enqueueNeighbors(int index, ShortArrayFIFOQueue queue) {
+        final int x = index & 15;
+        final int z = (index >> 4) & 15;
+        final int y = (index >> 8) & 15;
+        for (Direction direction : DIRECTIONS) {
+            final int xO = x + direction.normalX();
+            final int yO = y + direction.normalY();
+            final int zO = z + direction.normalZ();
+            if (xO < 0 || xO >= SECTION_SIZE || yO < 0 || yO >= SECTION_SIZE || zO < 0 || zO >= SECTION_SIZE) {
+                continue;
+            }
+            queue.enqueue((short) (xO | (zO << 4) | (yO << 8)));
+        }
+    }
+
+    private static boolean propagates(Palette blockPalette, int x, int y, int z, int xO, int yO, int zO, Direction direction) {
+        final Block currentBlock = Objects.requireNonNullElse(getBlock(blockPalette, x, y, z), Block.AIR);
+        final Block propagatedBlock = Objects.requireNonNullElse(getBlock(blockPalette, xO, yO, zO), Block.AIR);
+
+        final Shape currentShape = currentBlock.registry().occlusionShape();
+        final Shape propagatedShape = propagatedBlock.registry().occlusionShape();
+
+        final boolean airAir = currentBlock.isAir() && propagatedBlock.isAir();
+        return airAir || !currentShape.isOccluded(propagatedShape, BlockFace.fromDirection(direction));
     }
 
     private static void placeLight(byte[] light, int index, int value) {
@@ -68,6 +68,18 @@ final class SkyLight implements Light {
         this.needsSend.set(true);
     }
 
+    @Override
+    @ApiStatus.Internal
+    public Light copy() {
+        SkyLight copy = new SkyLight();
+        copy.content = content;
+        copy.contentPropagation = contentPropagation;
+        copy.isValidBorders = isValidBorders;
+        copy.fullyLit = fullyLit;
+        copy.needsSend.set(true);
+        return copy;
+    }
+
     @Override
     public boolean requiresSend() {
         return needsSend.getAndSet(false);
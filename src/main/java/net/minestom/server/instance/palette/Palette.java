@@ -181,6 +181,12 @@ public sealed interface Palette permits PaletteImpl {
 
     Palette clone();
 
+    /**
+     * Gets the number of times the content of this palette has been changed, clones start from the same count.
+     */
+    @ApiStatus.Internal
+    int modificationCount();
+
     @ApiStatus.Internal
     int paletteIndexToValue(int value);
 
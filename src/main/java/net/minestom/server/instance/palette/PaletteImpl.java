@@ -27,6 +27,10 @@ final class PaletteImpl implements Palette {
     @UnknownNullability IntArrayList paletteToValueList; // null when using direct mode (bitsPerEntry > maxBitsPerEntry)
     // value = palette index
     @UnknownNullability Int2IntOpenHashMap valueToPaletteMap; // null when using direct mode (bitsPerEntry > maxBitsPerEntry)
+    // Storage is shared with a clone, must be copied before being written to
+    boolean shared;
+    // Incremented by every write, see #modificationCount()
+    int modificationCount;
 
     PaletteImpl(byte dimension, byte minBitsPerEntry, byte maxBitsPerEntry, byte directBits) {
         validateDimension(dimension);
@@ -105,6 +109,8 @@ final class PaletteImpl implements Palette {
     @Override
     public void set(int x, int y, int z, int value) {
         validateCoord(dimension, x, y, z);
+        unshare();
+        this.modificationCount++;
         final int paletteIndex = valueToPaletteIndex(value);
         final int oldValue = Palettes.write(dimension(), bitsPerEntry, values, x, y, z, paletteIndex);
         // Check if block count needs to be updated
@@ -114,6 +120,8 @@ final class PaletteImpl implements Palette {
 
     @Override
     public void fill(int value) {
+        this.modificationCount++;
+        this.shared = false;
         this.bitsPerEntry = 0;
         this.count = value;
         this.values = null;
@@ -128,6 +136,8 @@ final class PaletteImpl implements Palette {
         boolean useDirectMode = bpe > maxBitsPerEntry;
         if (useDirectMode) bpe = directBits;
         this.bitsPerEntry = (byte) bpe;
+        this.shared = false;
+        this.modificationCount++;
 
         if (useDirectMode) {
             // Direct mode: convert from palette indices to direct values
@@ -179,6 +189,7 @@ final class PaletteImpl implements Palette {
     public void offset(int offset) {
         if (offset == 0) return;
         if (bitsPerEntry == 0) {
+            this.modificationCount++;
             this.count += offset;
         } else {
             replaceAll((x, y, z, value) -> value + offset);
@@ -197,6 +208,8 @@ final class PaletteImpl implements Palette {
                 final boolean countUpdate = newValue == 0 || oldValue == 0;
                 final int count = countUpdate ? count(oldValue) : -1;
                 if (count == 0) return; // No blocks to replace
+                unshare();
+                this.modificationCount++;
                 paletteToValueList.set(index, newValue);
                 valueToPaletteMap.remove(oldValue);
                 valueToPaletteMap.put(newValue, index);
@@ -241,6 +254,8 @@ final class PaletteImpl implements Palette {
         assert index == maxSize();
         // Update palette content
         if (fillValue < 0) {
+            unshare();
+            this.modificationCount++;
             makeDirect();
             updateAll(cache);
             this.count = count;
@@ -271,6 +286,8 @@ final class PaletteImpl implements Palette {
         });
         assert arrayIndex.getPlain() == maxSize();
         // Update palette content
+        unshare();
+        this.modificationCount++;
         makeDirect();
         updateAll(cache);
         this.count = count.getPlain();
@@ -300,6 +317,8 @@ final class PaletteImpl implements Palette {
         if (maxX <= 0 || maxY <= 0 || maxZ <= 0) {
             return;
         }
+        unshare();
+        this.modificationCount++;
 
         // Fast path: if source is single-value palette
         if (sourcePalette.bitsPerEntry == 0) {
@@ -409,6 +428,8 @@ final class PaletteImpl implements Palette {
         }
 
         // Copy
+        this.shared = false;
+        this.modificationCount++;
         this.bitsPerEntry = sourcePalette.bitsPerEntry;
         this.count = sourcePalette.count;
 
@@ -561,13 +582,25 @@ final class PaletteImpl implements Palette {
         PaletteImpl clone = new PaletteImpl(dimension, minBitsPerEntry, maxBitsPerEntry, directBits);
         clone.bitsPerEntry = this.bitsPerEntry;
         clone.count = this.count;
+        clone.modificationCount = this.modificationCount;
         if (bitsPerEntry == 0) return clone;
-        clone.values = values.clone();
-        if (paletteToValueList != null) clone.paletteToValueList = paletteToValueList.clone();
-        if (valueToPaletteMap != null) clone.valueToPaletteMap = valueToPaletteMap.clone();
+        // Copy-on-write, whichever palette is written to first copies the storage
+        this.shared = true;
+        clone.shared = true;
+        clone.values = values;
+        clone.paletteToValueList = paletteToValueList;
+        clone.valueToPaletteMap = valueToPaletteMap;
         return clone;
     }
 
+    private void unshare() {
+        if (!shared) return;
+        this.shared = false;
+        if (values != null) this.values = values.clone();
+        if (paletteToValueList != null) this.paletteToValueList = paletteToValueList.clone();
+        if (valueToPaletteMap != null) this.valueToPaletteMap = valueToPaletteMap.clone();
+    }
+
     private void retrieveAll(EntryConsumer consumer, boolean consumeEmpty) {
         if (!consumeEmpty && count == 0) return;
         final long[] values = this.values;
@@ -690,6 +723,11 @@ final class PaletteImpl implements Palette {
         this.count = fillValue == 0 ? 0 : maxSize();
     }
 
+    @Override
+    public int modificationCount() {
+        return modificationCount;
+    }
+
     @Override
     public int paletteIndexToValue(int value) {
         return hasPalette() ? paletteToValueList.elements()[value] : value;
@@ -699,6 +737,7 @@ final class PaletteImpl implements Palette {
     public int valueToPaletteIndex(int value) {
         if (!hasPalette()) return value;
         if (values == null) initIndirect();
+        else unshare();
 
         final int lastPaletteIndex = this.paletteToValueList.size();
         final int lookup = valueToPaletteMap.putIfAbsent(value, lastPaletteIndex);
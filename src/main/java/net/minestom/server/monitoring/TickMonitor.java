@@ -4,10 +4,18 @@ public class TickMonitor {
 
     private final double tickTime;
     private final double acquisitionTime;
+    private final int activeEntities;
+    private final int sleepingEntities;
 
     public TickMonitor(double tickTime, double acquisitionTime) {
+        this(tickTime, acquisitionTime, 0, 0);
+    }
+
+    public TickMonitor(double tickTime, double acquisitionTime, int activeEntities, int sleepingEntities) {
         this.tickTime = tickTime;
         this.acquisitionTime = acquisitionTime;
+        this.activeEntities = activeEntities;
+        this.sleepingEntities = sleepingEntities;
     }
 
     public double getTickTime() {
@@ -17,4 +25,24 @@ public class TickMonitor {
     public double getAcquisitionTime() {
         return acquisitionTime;
     }
+
+    /**
+     * Gets the number of entities fully ticked.
+     *
+     * @return the active entity count
+     * @see net.minestom.server.entity.EntityActivation
+     */
+    public int getActiveEntities() {
+        return activeEntities;
+    }
+
+    /**
+     * Gets the number of entities whose physics were skipped, either resting or out of range.
+     *
+     * @return the sleeping entity count
+     * @see net.minestom.server.entity.EntityActivation
+     */
+    public int getSleepingEntities() {
+        return sleepingEntities;
+    }
 }
@@ -342,6 +342,21 @@ public final class ConnectionManager {
         configurationPlayers.forEach(Player::interpretPacketQueue);
     }
 
+    /**
+     * Wakes up the writing thread of every connection, so the packets of the tick are written at once.
+     * <p>
+     * Does nothing unless {@link ServerFlag#TICK_ALIGNED_SOCKET_WRITES} is enabled.
+     */
+    @ApiStatus.Internal
+    public void flushConnections() {
+        if (!ServerFlag.TICK_ALIGNED_SOCKET_WRITES) return;
+        for (PlayerConnection connection : connectionPlayerMap.keySet()) {
+            if (connection instanceof PlayerSocketConnection socketConnection) {
+                socketConnection.signalWrite();
+            }
+        }
+    }
+
     /**
      * Connects waiting players.
      */
@@ -0,0 +1,113 @@
+package net.minestom.server.network;
+
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.GatheringByteChannel;
+import java.util.Arrays;
+import java.util.Objects;
+
+import static net.minestom.server.network.NetworkBufferUnsafe.updateAddress;
+import static net.minestom.server.network.NetworkBufferUnsafe.updateCapacity;
+
+/**
+ * Sequence of {@link NetworkBuffer} ranges written to a channel with a single gathering write, without copying them.
+ * <p>
+ * Buffers are only referenced, they must not be modified until fully written.
+ * Adjacent ranges of the same buffer are merged. Not thread-safe.
+ */
+@ApiStatus.Internal
+public final class GatheringWriter {
+    // Template used to create views, the nio buffer of the appended buffers may be in use by another thread
+    private final ByteBuffer template = ByteBuffer.allocateDirect(0).order(ByteOrder.BIG_ENDIAN);
+
+    private NetworkBuffer[] buffers = new NetworkBuffer[16];
+    private long[] indexes = new long[16];
+    private long[] lengths = new long[16];
+    // Ranges before position have been fully written
+    private int position, size;
+
+    public void append(NetworkBuffer buffer, long index, long length) {
+        NetworkBufferImpl.impl(buffer).assertDummy();
+        Objects.checkFromIndexSize(index, length, buffer.capacity());
+        if (length == 0) return;
+        final int size = this.size;
+        final int last = size - 1;
+        if (last >= position && buffers[last] == buffer && indexes[last] + lengths[last] == index) {
+            this.lengths[last] += length;
+            return;
+        }
+        if (size == buffers.length) {
+            final int newLength = size * 2;
+            this.buffers = Arrays.copyOf(buffers, newLength);
+            this.indexes = Arrays.copyOf(indexes, newLength);
+            this.lengths = Arrays.copyOf(lengths, newLength);
+        }
+        this.buffers[size] = buffer;
+        this.indexes[size] = index;
+        this.lengths[size] = length;
+        this.size = size + 1;
+    }
+
+    /**
+     * Gets the number of ranges left to write.
+     *
+     * @return the number of ranges
+     */
+    public int ranges() {
+        return size - position;
+    }
+
+    public boolean isEmpty() {
+        return position == size;
+    }
+
+    /**
+     * Writes as many ranges as the channel accepts.
+     *
+     * @param channel the channel to write to
+     * @return true if every range has been written, in which case the writer is cleared
+     * @throws IOException if the channel is closed
+     */
+    public boolean writeChannel(GatheringByteChannel channel) throws IOException {
+        if (isEmpty()) return true;
+        ByteBuffer[] views = new ByteBuffer[size - position];
+        for (int i = 0; i < views.length; i++) {
+            final int range = position + i;
+            views[i] = view(buffers[range], indexes[range], (int) lengths[range]);
+        }
+        final long count = channel.write(views);
+        if (count == -1) throw new EOFException("Disconnected");
+        // Skip fully written ranges
+        long remaining = count;
+        while (position < size && remaining >= lengths[position]) {
+            remaining -= lengths[position];
+            this.buffers[position++] = null;
+        }
+        if (position == size) {
+            clear();
+            return true;
+        }
+        this.indexes[position] += remaining;
+        this.lengths[position] -= remaining;
+        return false;
+    }
+
+    public void clear() {
+        Arrays.fill(buffers, 0, size, null);
+        this.position = 0;
+        this.size = 0;
+    }
+
+    private ByteBuffer view(NetworkBuffer buffer, long index, int length) {
+        if (NetworkBufferImpl.FOREIGN) return NetworkBufferImpl.impl(buffer).segmentView(index, length);
+        final ByteBuffer template = this.template;
+        updateAddress(template, NetworkBufferImpl.impl(buffer).address() + index);
+        updateCapacity(template, length);
+        template.limit(length).position(0);
+        return template.duplicate();
+    }
+}
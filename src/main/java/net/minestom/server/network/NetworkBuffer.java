@@ -14,6 +14,7 @@ import net.minestom.server.utils.Direction;
 import net.minestom.server.utils.Either;
 import net.minestom.server.utils.Unit;
 import net.minestom.server.utils.crypto.KeyUtils;
+import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 
@@ -28,6 +29,7 @@ import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.zip.DataFormatException;
+import java.util.zip.Deflater;
 
 public sealed interface NetworkBuffer permits NetworkBufferImpl {
     Type<Unit> UNIT = new NetworkBufferTypeImpl.UnitType();
@@ -171,6 +173,8 @@ public sealed interface NetworkBuffer permits NetworkBufferImpl {
 
     long compress(long start, long length, NetworkBuffer output);
 
+    long compress(Deflater deflater, long start, long length, NetworkBuffer output);
+
     long decompress(long start, long length, NetworkBuffer output) throws DataFormatException;
 
     @Nullable Registries registries();
@@ -306,7 +310,28 @@ public sealed interface NetworkBuffer permits NetworkBufferImpl {
         NetworkBufferImpl.copy(srcBuffer, srcOffset, dstBuffer, dstOffset, length);
     }
 
+    /**
+     * Ciphers the content of {@code srcBuffer} directly into {@code dstBuffer}.
+     * <p>
+     * The source buffer is never modified, and can therefore be shared between threads.
+     */
+    static void cipher(Cipher cipher,
+                       NetworkBuffer srcBuffer, long srcOffset,
+                       NetworkBuffer dstBuffer, long dstOffset, long length) {
+        NetworkBufferImpl.cipher(cipher, srcBuffer, srcOffset, dstBuffer, dstOffset, length);
+    }
+
     static boolean equals(NetworkBuffer buffer1, NetworkBuffer buffer2) {
         return NetworkBufferImpl.equals(buffer1, buffer2);
     }
+
+    /**
+     * Frees the memory of {@code buffer} right away instead of once unreachable.
+     * <p>
+     * The buffer must not be used afterward.
+     */
+    @ApiStatus.Internal
+    static void release(NetworkBuffer buffer) {
+        NetworkBufferImpl.impl(buffer).release();
+    }
 }
@@ -1,5 +1,6 @@
 package net.minestom.server.network;
 
+import net.minestom.server.ServerFlag;
 import net.minestom.server.registry.Registries;
 import net.minestom.server.utils.ObjectPool;
 import net.minestom.server.utils.nbt.BinaryTagReader;
@@ -10,13 +11,15 @@ import org.jetbrains.annotations.UnknownNullability;
 import javax.crypto.Cipher;
 import javax.crypto.ShortBufferException;
 import java.io.*;
+import java.lang.foreign.Arena;
+import java.lang.foreign.MemorySegment;
+import java.lang.foreign.ValueLayout;
 import java.lang.ref.Cleaner;
 import java.nio.ByteBuffer;
 import java.nio.ByteOrder;
 import java.nio.channels.ReadableByteChannel;
 import java.nio.channels.SocketChannel;
 import java.util.Objects;
-import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.zip.DataFormatException;
 import java.util.zip.Deflater;
@@ -27,11 +30,19 @@ import static net.minestom.server.network.NetworkBufferUnsafe.*;
 final class NetworkBufferImpl implements NetworkBuffer {
     private static final Cleaner CLEANER = Cleaner.create();
     private static final long DUMMY_ADDRESS = -1;
-
-    private final BufferCleaner state;
+    // Memory is allocated and accessed through java.lang.foreign instead of Unsafe
+    static final boolean FOREIGN = ServerFlag.NETWORK_BUFFER_FOREIGN_MEMORY;
+    private static final ValueLayout.OfShort SEGMENT_SHORT = ValueLayout.JAVA_SHORT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfInt SEGMENT_INT = ValueLayout.JAVA_INT_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+    private static final ValueLayout.OfLong SEGMENT_LONG = ValueLayout.JAVA_LONG_UNALIGNED.withOrder(ByteOrder.BIG_ENDIAN);
+
+    private final @Nullable Memory memory;
+    private final Cleaner.@Nullable Cleanable cleanable;
     // Address may be -1 if the buffer is a dummy buffer
     // Dummy buffers are used for size calculations and do not have memory allocated
     private long address, capacity;
+    // Only present with the foreign backend
+    private @Nullable MemorySegment segment;
     private long readIndex, writeIndex;
     boolean readOnly;
 
@@ -42,29 +53,103 @@ final class NetworkBufferImpl implements NetworkBuffer {
     final @Nullable Registries registries;
 
     ByteBuffer nioBuffer = null;
-
-    NetworkBufferImpl(long address, long capacity,
-                      long readIndex, long writeIndex,
-                      @Nullable AutoResize autoResize,
-                      @Nullable Registries registries) {
-        this.address = address;
+    // View over the memory of another buffer, see #foreignSlice
+    ByteBuffer foreignBuffer = null;
+
+    private NetworkBufferImpl(@Nullable Memory memory, long capacity,
+                              long readIndex, long writeIndex,
+                              @Nullable AutoResize autoResize,
+                              @Nullable Registries registries) {
+        this.memory = memory;
         this.capacity = capacity;
         this.readIndex = readIndex;
         this.writeIndex = writeIndex;
         this.autoResize = autoResize;
         this.registries = registries;
 
-        this.state = new BufferCleaner(new AtomicLong(address));
-        if (address != DUMMY_ADDRESS) CLEANER.register(this, state);
+        if (memory != null) {
+            this.address = memory.address;
+            this.segment = memory.segment;
+            this.cleanable = CLEANER.register(this, memory);
+        } else {
+            this.address = DUMMY_ADDRESS;
+            this.cleanable = null;
+        }
     }
 
-    private record BufferCleaner(AtomicLong address) implements Runnable {
+    static NetworkBufferImpl allocate(long capacity, long readIndex, long writeIndex,
+                                      @Nullable AutoResize autoResize, @Nullable Registries registries) {
+        return new NetworkBufferImpl(Memory.allocate(capacity), capacity, readIndex, writeIndex, autoResize, registries);
+    }
+
+    /**
+     * Memory owned by a buffer, released once the buffer is unreachable, when replaced by a resize or on {@link #release()}.
+     */
+    private static final class Memory implements Runnable {
+        volatile long address;
+        // Foreign backend, every allocation has its own arena which can be closed independently
+        volatile @Nullable Arena arena;
+        volatile @Nullable MemorySegment segment;
+
+        static Memory allocate(long size) {
+            Memory memory = new Memory();
+            if (FOREIGN) {
+                final Arena arena = Arena.ofShared();
+                final MemorySegment segment = arena.allocate(size);
+                memory.arena = arena;
+                memory.segment = segment;
+                memory.address = segment.address();
+            } else {
+                final long address = UNSAFE.allocateMemory(size);
+                if (address == 0 && size != 0) throw new OutOfMemoryError("Failed to allocate memory");
+                memory.address = address;
+            }
+            return memory;
+        }
+
+        void reallocate(long oldSize, long size) {
+            if (FOREIGN) {
+                final Arena oldArena = Objects.requireNonNull(this.arena);
+                final Arena arena = Arena.ofShared();
+                final MemorySegment segment = arena.allocate(size);
+                MemorySegment.copy(Objects.requireNonNull(this.segment), 0, segment, 0, oldSize);
+                this.arena = arena;
+                this.segment = segment;
+                this.address = segment.address();
+                // Released right away, like a reallocation, instead of waiting for the buffer to be collected
+                oldArena.close();
+            } else {
+                this.address = UNSAFE.reallocateMemory(address, size);
+            }
+        }
+
         @Override
         public void run() {
-            UNSAFE.freeMemory(address.get());
+            if (FOREIGN) {
+                final Arena arena = this.arena;
+                if (arena != null) arena.close();
+            } else {
+                UNSAFE.freeMemory(address);
+            }
         }
     }
 
+    /**
+     * Frees the memory of the buffer right away instead of once unreachable.
+     * <p>
+     * The buffer must not be used afterward, its capacity is set to 0 so that accesses fail.
+     */
+    void release() {
+        final Cleaner.Cleanable cleanable = this.cleanable;
+        if (cleanable == null) return;
+        // Cleanables only run once
+        cleanable.clean();
+        this.capacity = 0;
+        this.readIndex = 0;
+        this.writeIndex = 0;
+        this.nioBuffer = null;
+    }
+
     @Override
     public <T> void write(Type<T> type, @UnknownNullability T value) {
         assertReadOnly();
@@ -110,7 +195,11 @@ final class NetworkBufferImpl implements NetworkBuffer {
         if (dest.length < destOffset + length) {
             throw new IndexOutOfBoundsException("Destination array is too small: " + dest.length + " < " + (destOffset + length));
         }
-        UNSAFE.copyMemory(null, address + srcOffset, dest, BYTE_ARRAY_OFFSET + destOffset, length);
+        if (FOREIGN) {
+            MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, srcOffset, dest, (int) destOffset, (int) length);
+        } else {
+            UNSAFE.copyMemory(null, address + srcOffset, dest, BYTE_ARRAY_OFFSET + destOffset, length);
+        }
     }
 
     public byte [] extractBytes(Consumer<NetworkBuffer> extractor) {
@@ -198,10 +287,14 @@ final class NetworkBufferImpl implements NetworkBuffer {
         assertReadOnly();
         if (newSize < capacity) throw new IllegalArgumentException("New size is smaller than the current size");
         if (newSize == capacity) throw new IllegalArgumentException("New size is the same as the current size");
-        final long newAddress = UNSAFE.reallocateMemory(address, newSize);
-        this.address = newAddress;
+        final Memory memory = Objects.requireNonNull(this.memory);
+        memory.reallocate(capacity, newSize);
+        this.address = memory.address;
+        if (FOREIGN) {
+            this.segment = memory.segment;
+            this.nioBuffer = null; // View over the previous segment
+        }
         this.capacity = newSize;
-        this.state.address.set(newAddress);
     }
 
     @Override
@@ -237,15 +330,13 @@ final class NetworkBufferImpl implements NetworkBuffer {
     public NetworkBuffer copy(long index, long length, long readIndex, long writeIndex) {
         assertDummy();
         Objects.checkFromIndexSize(index, length, capacity);
-        final long newAddress = UNSAFE.allocateMemory(length);
-        if (newAddress == 0) {
-            throw new OutOfMemoryError("Failed to allocate memory");
+        final NetworkBufferImpl copy = allocate(length, readIndex, writeIndex, autoResize, registries);
+        if (FOREIGN) {
+            MemorySegment.copy(segment, index, copy.segment, 0, length);
+        } else {
+            UNSAFE.copyMemory(address + index, copy.address, length);
         }
-        UNSAFE.copyMemory(address + index, newAddress, length);
-        return new NetworkBufferImpl(
-                newAddress, length,
-                readIndex, writeIndex,
-                autoResize, registries);
+        return copy;
     }
 
     @Override
@@ -295,6 +386,16 @@ final class NetworkBufferImpl implements NetworkBuffer {
 
     @Override
     public long compress(long start, long length, NetworkBuffer output) {
+        Deflater deflater = CompressionHolder.DEFLATER_POOL.get();
+        try {
+            return compress(deflater, start, length, output);
+        } finally {
+            CompressionHolder.DEFLATER_POOL.add(deflater);
+        }
+    }
+
+    @Override
+    public long compress(Deflater deflater, long start, long length, NetworkBuffer output) {
         assertDummy();
         impl(output).assertReadOnly();
         assertOverflow(start + length);
@@ -302,17 +403,12 @@ final class NetworkBufferImpl implements NetworkBuffer {
         ByteBuffer input = bufferSlice((int) start, (int) length);
         ByteBuffer outputBuffer = impl(output).bufferSlice((int) output.writeIndex(), (int) output.writableBytes());
 
-        Deflater deflater = CompressionHolder.DEFLATER_POOL.get();
-        try {
-            deflater.setInput(input);
-            deflater.finish();
-            final int bytes = deflater.deflate(outputBuffer);
-            deflater.reset();
-            output.advanceWrite(bytes);
-            return bytes;
-        } finally {
-            CompressionHolder.DEFLATER_POOL.add(deflater);
-        }
+        deflater.setInput(input);
+        deflater.finish();
+        final int bytes = deflater.deflate(outputBuffer);
+        deflater.reset();
+        output.advanceWrite(bytes);
+        return bytes;
     }
 
     @Override
@@ -344,14 +440,42 @@ final class NetworkBufferImpl implements NetworkBuffer {
     private ByteBuffer bufferSlice(int position, int length) {
         ByteBuffer nioBuffer = this.nioBuffer;
         if (nioBuffer == null) {
-            this.nioBuffer = nioBuffer = ByteBuffer.allocateDirect(0).order(ByteOrder.BIG_ENDIAN);
+            if (FOREIGN) {
+                // View over the whole segment, recreated on resize
+                this.nioBuffer = nioBuffer = segment.asByteBuffer();
+            } else {
+                this.nioBuffer = nioBuffer = ByteBuffer.allocateDirect(0).order(ByteOrder.BIG_ENDIAN);
+            }
+        }
+        if (!FOREIGN) {
+            updateAddress(nioBuffer, address);
+            updateCapacity(nioBuffer, (int) capacity);
         }
-        updateAddress(nioBuffer, address);
-        updateCapacity(nioBuffer, (int) capacity);
         nioBuffer.limit(position + length).position(position);
         return nioBuffer;
     }
 
+    /**
+     * Creates a view over a range of the buffer, independent of the buffer's own nio view.
+     * <p>
+     * Only available with the foreign backend.
+     */
+    ByteBuffer segmentView(long index, int length) {
+        assert FOREIGN;
+        return segment.asSlice(index, length).asByteBuffer();
+    }
+
+    private ByteBuffer foreignSlice(long address, int length) {
+        ByteBuffer foreignBuffer = this.foreignBuffer;
+        if (foreignBuffer == null) {
+            this.foreignBuffer = foreignBuffer = ByteBuffer.allocateDirect(0).order(ByteOrder.BIG_ENDIAN);
+        }
+        updateAddress(foreignBuffer, address);
+        updateCapacity(foreignBuffer, length);
+        foreignBuffer.limit(length).position(0);
+        return foreignBuffer;
+    }
+
     @Override
     public String toString() {
         return String.format("NetworkBuffer{r%d|w%d->%d, registries=%s, autoResize=%s, readOnly=%s}",
@@ -360,6 +484,10 @@ final class NetworkBufferImpl implements NetworkBuffer {
 
     private static final boolean ENDIAN_CONVERSION = ByteOrder.nativeOrder() != ByteOrder.BIG_ENDIAN;
 
+    long address() {
+        return address;
+    }
+
     private boolean isDummy() {
         return address == DUMMY_ADDRESS;
     }
@@ -369,25 +497,35 @@ final class NetworkBufferImpl implements NetworkBuffer {
         if (isDummy()) return;
         assertReadOnly();
         Objects.checkFromIndexSize(index, value.length, capacity);
-        UNSAFE.copyMemory(value, BYTE_ARRAY_OFFSET, null, address + index, value.length);
+        if (FOREIGN) {
+            MemorySegment.copy(value, 0, segment, ValueLayout.JAVA_BYTE, index, value.length);
+        } else {
+            UNSAFE.copyMemory(value, BYTE_ARRAY_OFFSET, null, address + index, value.length);
+        }
     }
 
     void _getBytes(long index, byte[] value) {
         assertDummy();
         Objects.checkFromIndexSize(index, value.length, capacity);
-        UNSAFE.copyMemory(null, address + index, value, BYTE_ARRAY_OFFSET, value.length);
+        if (FOREIGN) {
+            MemorySegment.copy(segment, ValueLayout.JAVA_BYTE, index, value, 0, value.length);
+        } else {
+            UNSAFE.copyMemory(null, address + index, value, BYTE_ARRAY_OFFSET, value.length);
+        }
     }
 
     void _putByte(long index, byte value) {
         if (isDummy()) return;
         assertReadOnly();
         Objects.checkFromIndexSize(index, Byte.BYTES, capacity);
-        UNSAFE.putByte(address + index, value);
+        if (FOREIGN) segment.set(ValueLayout.JAVA_BYTE, index, value);
+        else UNSAFE.putByte(address + index, value);
     }
 
     byte _getByte(long index) {
         assertDummy();
         Objects.checkFromIndexSize(index, Byte.BYTES, capacity);
+        if (FOREIGN) return segment.get(ValueLayout.JAVA_BYTE, index);
         return UNSAFE.getByte(address + index);
     }
 
@@ -395,6 +533,10 @@ final class NetworkBufferImpl implements NetworkBuffer {
         if (isDummy()) return;
         assertReadOnly();
         Objects.checkFromIndexSize(index, Short.BYTES, capacity);
+        if (FOREIGN) {
+            segment.set(SEGMENT_SHORT, index, value);
+            return;
+        }
         if (ENDIAN_CONVERSION) value = Short.reverseBytes(value);
         UNSAFE.putShort(address + index, value);
     }
@@ -402,6 +544,7 @@ final class NetworkBufferImpl implements NetworkBuffer {
     short _getShort(long index) {
         assertDummy();
         Objects.checkFromIndexSize(index, Short.BYTES, capacity);
+        if (FOREIGN) return segment.get(SEGMENT_SHORT, index);
         final short value = UNSAFE.getShort(address + index);
         return ENDIAN_CONVERSION ? Short.reverseBytes(value) : value;
     }
@@ -410,6 +553,10 @@ final class NetworkBufferImpl implements NetworkBuffer {
         if (isDummy()) return;
         assertReadOnly();
         Objects.checkFromIndexSize(index, Integer.BYTES, capacity);
+        if (FOREIGN) {
+            segment.set(SEGMENT_INT, index, value);
+            return;
+        }
         if (ENDIAN_CONVERSION) value = Integer.reverseBytes(value);
         UNSAFE.putInt(address + index, value);
     }
@@ -417,6 +564,7 @@ final class NetworkBufferImpl implements NetworkBuffer {
     int _getInt(long index) {
         assertDummy();
         Objects.checkFromIndexSize(index, Integer.BYTES, capacity);
+        if (FOREIGN) return segment.get(SEGMENT_INT, index);
         final int value = UNSAFE.getInt(address + index);
         return ENDIAN_CONVERSION ? Integer.reverseBytes(value) : value;
     }
@@ -425,6 +573,10 @@ final class NetworkBufferImpl implements NetworkBuffer {
         if (isDummy()) return;
         assertReadOnly();
         Objects.checkFromIndexSize(index, Long.BYTES, capacity);
+        if (FOREIGN) {
+            segment.set(SEGMENT_LONG, index, value);
+            return;
+        }
         if (ENDIAN_CONVERSION) value = Long.reverseBytes(value);
         UNSAFE.putLong(address + index, value);
     }
@@ -432,42 +584,25 @@ final class NetworkBufferImpl implements NetworkBuffer {
     long _getLong(long index) {
         assertDummy();
         Objects.checkFromIndexSize(index, Long.BYTES, capacity);
+        if (FOREIGN) return segment.get(SEGMENT_LONG, index);
         final long value = UNSAFE.getLong(address + index);
         return ENDIAN_CONVERSION ? Long.reverseBytes(value) : value;
     }
 
     void _putFloat(long index, float value) {
-        if (isDummy()) return;
-        assertReadOnly();
-        Objects.checkFromIndexSize(index, Float.BYTES, capacity);
-        int intValue = Float.floatToIntBits(value);
-        if (ENDIAN_CONVERSION) intValue = Integer.reverseBytes(intValue);
-        UNSAFE.putInt(address + index, intValue);
+        _putInt(index, Float.floatToIntBits(value));
     }
 
     float _getFloat(long index) {
-        assertDummy();
-        Objects.checkFromIndexSize(index, Float.BYTES, capacity);
-        int intValue = UNSAFE.getInt(address + index);
-        if (ENDIAN_CONVERSION) intValue = Integer.reverseBytes(intValue);
-        return Float.intBitsToFloat(intValue);
+        return Float.intBitsToFloat(_getInt(index));
     }
 
     void _putDouble(long index, double value) {
-        if (isDummy()) return;
-        assertReadOnly();
-        Objects.checkFromIndexSize(index, Double.BYTES, capacity);
-        long longValue = Double.doubleToLongBits(value);
-        if (ENDIAN_CONVERSION) longValue = Long.reverseBytes(longValue);
-        UNSAFE.putLong(address + index, longValue);
+        _putLong(index, Double.doubleToLongBits(value));
     }
 
     double _getDouble(long index) {
-        assertDummy();
-        Objects.checkFromIndexSize(index, Double.BYTES, capacity);
-        long longValue = UNSAFE.getLong(address + index);
-        if (ENDIAN_CONVERSION) longValue = Long.reverseBytes(longValue);
-        return Double.longBitsToDouble(longValue);
+        return Double.longBitsToDouble(_getLong(index));
     }
 
     static NetworkBuffer wrap(byte [] bytes, long readIndex, long writeIndex, @Nullable Registries registries) {
@@ -484,16 +619,44 @@ final class NetworkBufferImpl implements NetworkBuffer {
         dst.assertReadOnly();
         Objects.checkFromIndexSize(srcOffset, length, src.capacity);
         Objects.checkFromIndexSize(dstOffset, length, dst.capacity);
+        if (FOREIGN) {
+            MemorySegment.copy(src.segment, srcOffset, dst.segment, dstOffset, length);
+            return;
+        }
         final long srcAddress = src.address + srcOffset;
         final long dstAddress = dst.address + dstOffset;
         UNSAFE.copyMemory(srcAddress, dstAddress, length);
     }
 
+    static void cipher(Cipher cipher,
+                       NetworkBuffer srcBuffer, long srcOffset,
+                       NetworkBuffer dstBuffer, long dstOffset, long length) {
+        var src = impl(srcBuffer);
+        var dst = impl(dstBuffer);
+        src.assertDummy();
+        dst.assertDummy();
+        dst.assertReadOnly();
+        Objects.checkFromIndexSize(srcOffset, length, src.capacity);
+        Objects.checkFromIndexSize(dstOffset, length, dst.capacity);
+        assertOverflow(dstOffset + length);
+        if (length == 0) return;
+        // The source nio buffer may be in use by another thread, view its memory from the destination instead
+        ByteBuffer input = FOREIGN ? src.segmentView(srcOffset, (int) length) :
+                dst.foreignSlice(src.address + srcOffset, (int) length);
+        ByteBuffer output = dst.bufferSlice((int) dstOffset, (int) length);
+        try {
+            cipher.update(input, output);
+        } catch (ShortBufferException e) {
+            throw new RuntimeException(e);
+        }
+    }
+
     public static boolean equals(NetworkBuffer buffer1, NetworkBuffer buffer2) {
         var impl1 = impl(buffer1);
         var impl2 = impl(buffer2);
         final int capacity = (int) impl1.capacity;
         if (capacity != impl2.capacity) return false;
+        if (FOREIGN) return impl1.segment.mismatch(impl2.segment) == -1;
         final long address1 = impl1.address;
         final long address2 = impl2.address;
         for (long i = 0; i < capacity; i++) {
@@ -535,11 +698,7 @@ final class NetworkBufferImpl implements NetworkBuffer {
 
         @Override
         public NetworkBuffer build() {
-            final long address = UNSAFE.allocateMemory(initialSize);
-            return new NetworkBufferImpl(
-                    address, initialSize,
-                    0, 0,
-                    autoResize, registries);
+            return allocate(initialSize, 0, 0, autoResize, registries);
         }
     }
 
@@ -547,7 +706,7 @@ final class NetworkBufferImpl implements NetworkBuffer {
         // Dummy buffer with no memory allocated
         // Useful for size calculations
         return new NetworkBufferImpl(
-                DUMMY_ADDRESS, Long.MAX_VALUE,
+                null, Long.MAX_VALUE,
                 0, 0,
                 null, registries);
     }
@@ -31,7 +31,7 @@ public final class PacketVanilla {
      */
     public static final ObjectPool<NetworkBuffer> PACKET_POOL = ObjectPool.pool(
             () -> NetworkBuffer.staticBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process()),
-            NetworkBuffer::clear);
+            NetworkBuffer::clear, NetworkBuffer::release);
 
     public static ConnectionState nextClientState(ClientPacket packet, ConnectionState currentState) {
         return switch (packet) {
@@ -5,10 +5,13 @@ import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.util.Queue;
 import java.util.function.BiPredicate;
+import java.util.zip.Deflater;
 
 /**
  * Tools to write packets into a {@link NetworkBuffer} for network processing.
@@ -69,8 +72,30 @@ public final class PacketWriting {
                                              NetworkBuffer.Type<T> type,
                                              int id, T packet,
                                              int compressionThreshold) throws IndexOutOfBoundsException {
+        writeFramedPacket(buffer, type, id, packet, compressionThreshold, null);
+    }
+
+    public static void writeFramedPacket(NetworkBuffer buffer,
+                                         ConnectionState state,
+                                         ServerPacket packet,
+                                         int compressionThreshold,
+                                         @Nullable CompressionContext compressionContext) throws IndexOutOfBoundsException {
+        final PacketRegistry<ServerPacket> registry = PacketVanilla.SERVER_PACKET_PARSER.stateRegistry(state);
+        final PacketRegistry.PacketInfo<ServerPacket> packetInfo = registry.packetInfo(packet);
+        writeFramedPacket(
+                buffer, packetInfo.serializer(),
+                packetInfo.id(), packet,
+                compressionThreshold, compressionContext
+        );
+    }
+
+    public static <T> void writeFramedPacket(NetworkBuffer buffer,
+                                             NetworkBuffer.Type<T> type,
+                                             int id, T packet,
+                                             int compressionThreshold,
+                                             @Nullable CompressionContext compressionContext) throws IndexOutOfBoundsException {
         if (compressionThreshold <= 0) writeUncompressedFormat(buffer, type, id, packet);
-        else writeCompressedFormat(buffer, type, id, packet, compressionThreshold);
+        else writeCompressedFormat(buffer, type, id, packet, compressionThreshold, compressionContext);
     }
 
     private static <T> void writeUncompressedFormat(NetworkBuffer buffer,
@@ -87,7 +112,8 @@ public final class PacketWriting {
     private static <T> void writeCompressedFormat(NetworkBuffer buffer,
                                                   NetworkBuffer.Type<T> type,
                                                   int id, T packet,
-                                                  int compressionThreshold) throws IndexOutOfBoundsException {
+                                                  int compressionThreshold,
+                                                  @Nullable CompressionContext compressionContext) throws IndexOutOfBoundsException {
         // Compressed format https://minecraft.wiki/w/Minecraft_Wiki:Projects/wiki.vg_merge/Protocol#With_compression
         final long compressedIndex = buffer.advanceWrite(3);
         final long uncompressedIndex = buffer.advanceWrite(3);
@@ -96,7 +122,9 @@ public final class PacketWriting {
         buffer.write(type, packet);
         final long packetSize = buffer.writeIndex() - contentStart;
         final boolean compressed = packetSize >= compressionThreshold;
-        if (compressed) {
+        if (compressed && compressionContext != null) {
+            compressionContext.compress(buffer, contentStart, packetSize);
+        } else if (compressed) {
             // Write the compressed content into the pooled buffer
             // and compress it into the current buffer
             NetworkBuffer input = PacketVanilla.PACKET_POOL.get();
@@ -114,6 +142,44 @@ public final class PacketWriting {
         buffer.writeAt(uncompressedIndex, NetworkBuffer.VAR_INT_3, compressed ? (int) packetSize : 0);
     }
 
+    /**
+     * Compression state kept between packets, generally for the lifetime of a connection.
+     * <p>
+     * Every compressed packet still is its own zlib stream as required by the protocol,
+     * but the deflater and input buffer are reused instead of being taken from the pools for each packet.
+     * Not thread-safe, must be owned by a single writer, which has to {@link #close()} it once done.
+     */
+    public static final class CompressionContext implements AutoCloseable {
+        private final Deflater deflater = new Deflater();
+        private NetworkBuffer input;
+        private boolean closed;
+
+        void compress(NetworkBuffer buffer, long contentStart, long packetSize) {
+            Check.stateCondition(closed, "Compression context has been closed");
+            NetworkBuffer input = this.input;
+            if (input == null) {
+                this.input = input = NetworkBuffer.resizableBuffer(
+                        Math.max(ServerFlag.POOLED_BUFFER_SIZE, packetSize), buffer.registries());
+            } else if (input.capacity() < packetSize) {
+                input.resize(packetSize);
+            }
+            NetworkBuffer.copy(buffer, contentStart, input, 0, packetSize);
+            buffer.writeIndex(contentStart);
+            input.compress(deflater, 0, packetSize, buffer);
+        }
+
+        /**
+         * Releases the native zlib state and the input buffer.
+         */
+        @Override
+        public void close() {
+            if (closed) return;
+            this.closed = true;
+            this.deflater.end();
+            this.input = null;
+        }
+    }
+
     public static NetworkBuffer allocateTrimmedPacket(ConnectionState state,
                                                       ClientPacket packet,
                                                       int compressionThreshold) {
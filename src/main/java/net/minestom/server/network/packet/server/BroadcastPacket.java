@@ -0,0 +1,82 @@
+package net.minestom.server.network.packet.server;
+
+import net.minestom.server.network.NetworkBuffer;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Consumer;
+
+/**
+ * Represents a {@link Segment} of framed packets shared between multiple connections.
+ * <p>
+ * The segment is serialized (and compressed) once, each connection then writes it directly into its socket buffer,
+ * skipping the excluded ranges.
+ *
+ * @param segment    the shared segment
+ * @param exclusions the ranges to skip, as sorted {@code start << 32 | end} offsets, null if the whole segment is written
+ */
+@ApiStatus.Internal
+public record BroadcastPacket(Segment segment, long @Nullable [] exclusions) implements SendablePacket {
+
+    /**
+     * Gets the number of bytes written to the connection once the exclusions are applied.
+     *
+     * @return the length of the written content
+     */
+    public long length() {
+        long length = segment.length();
+        final long[] exclusions = this.exclusions;
+        if (exclusions != null) {
+            for (long offsets : exclusions) {
+                length -= (offsets & 0xFFFFFFFFL) - (offsets >> 32);
+            }
+        }
+        return length;
+    }
+
+    /**
+     * Read-only and reference-counted buffer content.
+     * <p>
+     * The buffer must not be modified once wrapped, and is given back to the recycler
+     * when the last reference is released, or freed if there is none. Unreleased segments are simply garbage collected.
+     */
+    public static final class Segment {
+        private final NetworkBuffer buffer;
+        private final long length;
+        private final @Nullable Consumer<NetworkBuffer> recycler;
+        private final AtomicInteger references = new AtomicInteger(1);
+
+        public Segment(NetworkBuffer buffer, long length, @Nullable Consumer<NetworkBuffer> recycler) {
+            this.buffer = buffer;
+            this.length = length;
+            this.recycler = recycler;
+        }
+
+        public NetworkBuffer buffer() {
+            return buffer;
+        }
+
+        public long length() {
+            return length;
+        }
+
+        public Segment retain() {
+            final int previous = references.getAndIncrement();
+            assert previous > 0 : "Segment has already been released";
+            return this;
+        }
+
+        public void release() {
+            final int remaining = references.decrementAndGet();
+            assert remaining >= 0 : "Segment has been released too many times";
+            if (remaining != 0) return;
+            if (recycler != null) recycler.accept(buffer);
+            else NetworkBuffer.release(buffer);
+        }
+
+        public int references() {
+            return references.get();
+        }
+    }
+}
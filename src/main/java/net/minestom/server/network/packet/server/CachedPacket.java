@@ -35,6 +35,17 @@ public final class CachedPacket implements SendablePacket {
         this.packet = null;
     }
 
+    /**
+     * Reuses the current cache of another packet, until invalidated.
+     * <p>
+     * Both suppliers must produce the same packet as long as neither cache is invalidated.
+     *
+     * @param source the packet to share the cache of
+     */
+    public void share(CachedPacket source) {
+        this.packet = source.packet;
+    }
+
     public ServerPacket packet(ConnectionState state) {
         FramedPacket cache = updatedCache(state);
         return cache != null ? cache.packet() : packetSupplier.get();
@@ -8,7 +8,7 @@ import org.jetbrains.annotations.Nullable;
  * Represents a packet that can be sent to a {@link PlayerConnection}.
  */
 public sealed interface SendablePacket
-        permits BufferedPacket, CachedPacket, FramedPacket, LazyPacket, ServerPacket {
+        permits BroadcastPacket, BufferedPacket, CachedPacket, FramedPacket, LazyPacket, ServerPacket {
 
     static @Nullable ServerPacket extractServerPacket(ConnectionState state, SendablePacket packet) {
         return switch (packet) {
@@ -17,6 +17,7 @@ public sealed interface SendablePacket
             case FramedPacket framedPacket -> framedPacket.packet();
             case LazyPacket lazyPacket -> lazyPacket.packet();
             case BufferedPacket bufferedPacket -> null;
+            case BroadcastPacket broadcastPacket -> null;
         };
     }
 }
@@ -9,6 +9,7 @@ import net.minestom.server.event.ListenerHandle;
 import net.minestom.server.event.player.PlayerPacketOutEvent;
 import net.minestom.server.extras.mojangAuth.MojangCrypt;
 import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.GatheringWriter;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.PacketParser;
 import net.minestom.server.network.packet.PacketReading;
@@ -27,6 +28,11 @@ import net.minestom.server.network.packet.client.login.ClientLoginPluginResponse
 import net.minestom.server.network.packet.client.login.ClientLoginStartPacket;
 import net.minestom.server.network.packet.client.status.StatusRequestPacket;
 import net.minestom.server.network.packet.server.*;
+import net.minestom.server.network.packet.server.common.DisconnectPacket;
+import net.minestom.server.network.packet.server.common.KeepAlivePacket;
+import net.minestom.server.network.packet.server.common.PingPacket;
+import net.minestom.server.network.packet.server.common.PingResponsePacket;
+import net.minestom.server.network.packet.server.common.TransferPacket;
 import net.minestom.server.network.packet.server.login.SetCompressionPacket;
 import net.minestom.server.utils.validate.Check;
 import org.jctools.queues.MpscUnboundedXaddArrayQueue;
@@ -39,12 +45,15 @@ import java.io.EOFException;
 import java.io.IOException;
 import java.net.SocketAddress;
 import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Objects;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.locks.LockSupport;
+import java.util.function.Consumer;
 import java.util.zip.DataFormatException;
 
 /**
@@ -67,6 +76,15 @@ public class PlayerSocketConnection extends PlayerConnection {
             ClientLoginAcknowledgedPacket.class, // Handle config state
             ClientFinishConfigurationPacket.class // Enter play state
     );
+    // Packets waking up the writing thread right away in tick-aligned mode
+    private static final Set<Class<? extends ServerPacket>> IMMEDIATE_SEND_PACKETS = Set.of(
+            KeepAlivePacket.class, // Used to calculate latency
+            PingPacket.class,
+            PingResponsePacket.class,
+            DisconnectPacket.class,
+            TransferPacket.class
+    );
+    private static final int MAX_GATHERING_RANGES = 1024;
 
     private final SocketChannel channel;
     private SocketAddress remoteAddress;
@@ -92,17 +110,39 @@ public class PlayerSocketConnection extends PlayerConnection {
     private volatile long compressionStart = Long.MAX_VALUE;
 
     // Write lock as the default behavior of the writing thread is to park itself
-    // Requires ServerFlag.FASTER_SOCKET_WRITES to be enabled
+    // Requires ServerFlag.FASTER_SOCKET_WRITES or ServerFlag.TICK_ALIGNED_SOCKET_WRITES to be enabled
     private final AtomicBoolean writeSignaled = new AtomicBoolean(false);
+    // See ServerFlag.TICK_ALIGNED_SOCKET_WRITES
+    private final boolean tickAlignedWrites;
+    // Notified once packets are waiting to be flushed, used by transports multiplexing connections
+    private volatile @Nullable Consumer<PlayerSocketConnection> writeListener;
+    private final AtomicBoolean writePending = new AtomicBoolean(false);
+
+    // Only accessed by the writing thread
+    // Requires ServerFlag.CONNECTION_COMPRESSION_CONTEXT to be enabled
+    private PacketWriting.CompressionContext compressionContext;
+
+    // Zero-copy writes for unencrypted connections, only accessed by the writing thread
+    // Requires ServerFlag.GATHERING_SOCKET_WRITES to be enabled
+    private GatheringWriter gatheringWriter;
+    private boolean gathering;
+    private @Nullable NetworkBuffer gatheringBuffer;
+    private final List<BroadcastPacket.Segment> gatheringSegments = new ArrayList<>();
 
     private final ListenerHandle<PlayerPacketOutEvent> outgoing = EventDispatcher.getHandle(PlayerPacketOutEvent.class);
 
     public PlayerSocketConnection(SocketChannel channel, SocketAddress remoteAddress, Thread readThread, Thread writeThread) {
+        this(channel, remoteAddress, readThread, writeThread, ServerFlag.TICK_ALIGNED_SOCKET_WRITES);
+    }
+
+    PlayerSocketConnection(SocketChannel channel, SocketAddress remoteAddress, Thread readThread, Thread writeThread,
+                           boolean tickAlignedWrites) {
         super();
         this.channel = channel;
         this.remoteAddress = remoteAddress;
         this.writeThread = writeThread;
         this.readThread = readThread;
+        this.tickAlignedWrites = tickAlignedWrites;
     }
 
     public void read(PacketParser<ClientPacket> packetParser) throws IOException {
@@ -200,18 +240,66 @@ public class PlayerSocketConnection extends PlayerConnection {
     @Override
     public void sendPacket(SendablePacket packet) {
         this.packetQueue.relaxedOffer(packet);
-        unlockWriteThread();
+        unlockWriteThread(isImmediate(packet));
     }
 
     @Override
     public void sendPackets(Collection<SendablePacket> packets) {
-        for (SendablePacket packet : packets) this.packetQueue.relaxedOffer(packet);
-        unlockWriteThread();
+        boolean immediate = false;
+        for (SendablePacket packet : packets) {
+            this.packetQueue.relaxedOffer(packet);
+            immediate |= isImmediate(packet);
+        }
+        unlockWriteThread(immediate);
+    }
+
+    @Override
+    public void disconnect() {
+        super.disconnect();
+        // Let the writing thread close the channel
+        signalWrite();
+    }
+
+    private boolean isImmediate(SendablePacket packet) {
+        return packet instanceof ServerPacket && IMMEDIATE_SEND_PACKETS.contains(packet.getClass());
+    }
+
+    // Requires ServerFlag.FASTER_SOCKET_WRITES or ServerFlag.TICK_ALIGNED_SOCKET_WRITES
+    private void unlockWriteThread(boolean immediate) {
+        if (tickAlignedWrites) {
+            // Play packets wait for the end of the tick, see #signalWrite
+            if (!immediate && getServerState() == ConnectionState.PLAY) return;
+        } else if (!ServerFlag.FASTER_SOCKET_WRITES) {
+            notifyWriteListener();
+            return;
+        }
+        signalWrite();
+    }
+
+    /**
+     * Sets the listener notified when packets are queued after the last {@link #flush()}.
+     *
+     * @param writeListener the listener, called from the thread queuing the packets
+     */
+    @ApiStatus.Internal
+    public void setWriteListener(@Nullable Consumer<PlayerSocketConnection> writeListener) {
+        this.writeListener = writeListener;
+    }
+
+    private void notifyWriteListener() {
+        final Consumer<PlayerSocketConnection> listener = this.writeListener;
+        if (listener != null && !writePending.getAndSet(true)) listener.accept(this);
     }
 
-    // Requires ServerFlag.FASTER_SOCKET_WRITES
-    private void unlockWriteThread() {
-        if (!ServerFlag.FASTER_SOCKET_WRITES) return;
+    /**
+     * Wakes up the writing thread if it is waiting for packets.
+     * <p>
+     * Called for every connection at the end of the tick when {@link ServerFlag#TICK_ALIGNED_SOCKET_WRITES} is enabled,
+     * so that all the packets of the tick are written at once.
+     */
+    @ApiStatus.Internal
+    public void signalWrite() {
+        notifyWriteListener();
         if (!this.writeSignaled.compareAndExchange(false, true)) {
             LockSupport.unpark(writeThread);
         }
@@ -322,15 +410,28 @@ public class PlayerSocketConnection extends PlayerConnection {
     }
 
     private boolean writeSendable(NetworkBuffer buffer, SendablePacket sendable, boolean compressed) {
+        final EncryptionContext encryptionContext = this.encryptionContext;
+        if (gathering && encryptionContext != null) {
+            // Encryption was enabled during the flush, the next packets are encrypted into the gathering buffer
+            // Ranges gathered so far are written first, as they were queued before
+            this.gathering = false;
+        }
         final long start = buffer.writeIndex();
-        final boolean result = writePacketSync(buffer, sendable, compressed);
+        final boolean result;
+        if (sendable instanceof BroadcastPacket broadcastPacket) {
+            // Encrypt straight from the shared segment, avoiding the intermediate copy
+            result = writeBroadcast(buffer, broadcastPacket, encryptionContext != null ? encryptionContext.encrypt() : null);
+        } else {
+            result = writePacketSync(buffer, sendable, compressed);
+            // Encrypt data
+            if (result && !gathering && encryptionContext != null && buffer.writeIndex() > start) { // Encryption support
+                buffer.cipher(encryptionContext.encrypt(), start, buffer.writeIndex() - start);
+            }
+        }
         if (!result) return false;
-        // Encrypt data
         final long length = buffer.writeIndex() - start;
-        final EncryptionContext encryptionContext = this.encryptionContext;
-        if (encryptionContext != null && length > 0) { // Encryption support
-            buffer.cipher(encryptionContext.encrypt(), start, length);
-        }
+        // Reference the serialized packet, already written bodies have been referenced directly
+        if (length > 0 && buffer == gatheringBuffer) gatheringWriter.append(buffer, start, length);
         return true;
     }
 
@@ -356,13 +457,14 @@ public class PlayerSocketConnection extends PlayerConnection {
         // Write packet
         final long start = buffer.writeIndex();
         final int compressionThreshold = compressed ? MinecraftServer.getCompressionThreshold() : 0;
+        final PacketWriting.CompressionContext compressionContext = compressed ? compressionContext() : null;
         try {
             return switch (packet) {
                 case ServerPacket serverPacket -> {
                     var nextState = PacketVanilla.nextServerState(serverPacket, state);
                     if (nextState != state) setServerState(nextState);
 
-                    PacketWriting.writeFramedPacket(buffer, state, serverPacket, compressionThreshold);
+                    PacketWriting.writeFramedPacket(buffer, state, serverPacket, compressionThreshold, compressionContext);
                     yield true;
                 }
                 case FramedPacket framedPacket -> {
@@ -374,12 +476,12 @@ public class PlayerSocketConnection extends PlayerConnection {
                     if (body != null) {
                         yield writeBuffer(buffer, body, 0, body.capacity());
                     } else {
-                        PacketWriting.writeFramedPacket(buffer, state, cachedPacket.packet(state), compressionThreshold);
+                        PacketWriting.writeFramedPacket(buffer, state, cachedPacket.packet(state), compressionThreshold, compressionContext);
                         yield true;
                     }
                 }
                 case LazyPacket lazyPacket -> {
-                    PacketWriting.writeFramedPacket(buffer, state, lazyPacket.packet(), compressionThreshold);
+                    PacketWriting.writeFramedPacket(buffer, state, lazyPacket.packet(), compressionThreshold, compressionContext);
                     yield true;
                 }
                 case BufferedPacket bufferedPacket -> {
@@ -388,6 +490,7 @@ public class PlayerSocketConnection extends PlayerConnection {
                     final long length = bufferedPacket.length();
                     yield writeBuffer(buffer, rawBuffer, index, length);
                 }
+                case BroadcastPacket broadcastPacket -> writeBroadcast(buffer, broadcastPacket, null);
             };
         } catch (IndexOutOfBoundsException exception) {
             buffer.writeIndex(start);
@@ -395,7 +498,30 @@ public class PlayerSocketConnection extends PlayerConnection {
         }
     }
 
+    /**
+     * Releases the resources of the writing side, called by the writing thread once the connection is closed.
+     */
+    @ApiStatus.Internal
+    public void releaseWriter() {
+        final PacketWriting.CompressionContext context = this.compressionContext;
+        if (context != null) {
+            this.compressionContext = null;
+            context.close();
+        }
+    }
+
+    private PacketWriting.@Nullable CompressionContext compressionContext() {
+        if (!ServerFlag.CONNECTION_COMPRESSION_CONTEXT) return null;
+        PacketWriting.CompressionContext context = this.compressionContext;
+        if (context == null) this.compressionContext = context = new PacketWriting.CompressionContext();
+        return context;
+    }
+
     private boolean writeBuffer(NetworkBuffer buffer, NetworkBuffer body, long index, long length) {
+        if (gathering) {
+            gatheringWriter.append(body, index, length);
+            return true;
+        }
         if (buffer.writableBytes() < length) {
             // Not enough space in the buffer
             return false;
@@ -405,25 +531,56 @@ public class PlayerSocketConnection extends PlayerConnection {
         return true;
     }
 
+    private boolean writeBroadcast(NetworkBuffer buffer, BroadcastPacket packet, @Nullable Cipher cipher) {
+        if (!gathering && buffer.writableBytes() < packet.length()) {
+            // Not enough space in the buffer, the cipher must not be updated for a partial write
+            return false;
+        }
+        final BroadcastPacket.Segment segment = packet.segment();
+        final NetworkBuffer body = segment.buffer();
+        final long[] exclusions = packet.exclusions();
+        long lastWrite = 0;
+        if (exclusions != null) {
+            for (long offsets : exclusions) {
+                final long start = offsets >> 32;
+                if (start != lastWrite) writeBroadcastRange(buffer, body, lastWrite, start - lastWrite, cipher);
+                lastWrite = offsets & 0xFFFFFFFFL; // End = last 32 bits
+            }
+        }
+        final long length = segment.length();
+        if (length != lastWrite) writeBroadcastRange(buffer, body, lastWrite, length - lastWrite, cipher);
+        // Referenced segments must stay alive until written to the channel
+        if (gathering) gatheringSegments.add(segment);
+        else segment.release();
+        return true;
+    }
+
+    private void writeBroadcastRange(NetworkBuffer buffer, NetworkBuffer body, long index, long length,
+                                     @Nullable Cipher cipher) {
+        if (gathering) {
+            gatheringWriter.append(body, index, length);
+            return;
+        }
+        final long writeIndex = buffer.writeIndex();
+        if (cipher != null) NetworkBuffer.cipher(cipher, body, index, buffer, writeIndex, length);
+        else NetworkBuffer.copy(body, index, buffer, writeIndex, length);
+        buffer.advanceWrite(length);
+    }
+
     private NetworkBuffer writeLeftover = null;
 
     public void flushSync() throws IOException {
         // Write leftover if any
-        NetworkBuffer leftover = this.writeLeftover;
-        if (leftover != null) {
-            final boolean success = leftover.writeChannel(channel);
-            if (success) {
-                this.writeLeftover = null;
-                PacketVanilla.PACKET_POOL.add(leftover);
-            } else {
-                // Failed to write the whole leftover, try again next flush
-                return;
-            }
+        if (!flushLeftover()) {
+            // Failed to write the whole leftover, try again next flush
+            return;
         }
         // Consume queued packets
         var packetQueue = this.packetQueue;
         if (packetQueue.isEmpty()) {
-            if (!ServerFlag.FASTER_SOCKET_WRITES) {
+            // Everything has been written, the channel can be closed
+            if (!isOnline()) return;
+            if (!ServerFlag.FASTER_SOCKET_WRITES && !tickAlignedWrites) {
                 try {
                     // Can probably be improved by waking up at the end of the tick
                     // But this work well enough and without additional state.
@@ -435,18 +592,56 @@ public class PlayerSocketConnection extends PlayerConnection {
                 assert this.writeThread == Thread.currentThread(): "writeThread should be the current thread";
                 this.writeSignaled.set(false);
                 LockSupport.park(this);
-                assert this.packetQueue.peek() != null : "packet queue should not be empty";
+                // May be woken up by the end of the tick or a disconnection without any packet to write
+                if (packetQueue.isEmpty()) return;
             }
         }
         if (!channel.isConnected()) throw new EOFException("Channel is closed");
+        flushQueue();
+    }
+
+    /**
+     * Writes the leftover and the queued packets to the channel without ever waiting for new packets.
+     * <p>
+     * Used by transports multiplexing non-blocking channels.
+     *
+     * @return true if everything has been written, false if the channel could not accept all the data
+     * @throws IOException if the channel is closed
+     */
+    public boolean flush() throws IOException {
+        // Packets queued from now on notify the listener again
+        this.writePending.set(false);
+        if (!flushLeftover()) return false;
+        if (packetQueue.isEmpty()) return true;
+        if (!channel.isConnected()) throw new EOFException("Channel is closed");
+        flushQueue();
+        return writeLeftover == null && packetQueue.isEmpty();
+    }
+
+    private boolean flushLeftover() throws IOException {
+        final GatheringWriter gatheringWriter = this.gatheringWriter;
+        if (gatheringWriter != null && !gatheringWriter.isEmpty()) {
+            if (!gatheringWriter.writeChannel(channel)) return false;
+            releaseGathered();
+        }
+        NetworkBuffer leftover = this.writeLeftover;
+        if (leftover == null) return true;
+        final boolean success = leftover.writeChannel(channel);
+        if (!success) return false;
+        this.writeLeftover = null;
+        PacketVanilla.PACKET_POOL.add(leftover);
+        return true;
+    }
+
+    private void flushQueue() throws IOException {
+        if (ServerFlag.GATHERING_SOCKET_WRITES && encryptionContext == null) {
+            // Encrypted data has to be copied anyway
+            flushQueueGathering();
+            return;
+        }
         NetworkBuffer buffer = PacketVanilla.PACKET_POOL.get();
         // Write to buffer
-        PacketWriting.writeQueue(buffer, packetQueue, 1, (b, packet) -> {
-            final boolean compressed = sentPacketCounter.get() > compressionStart;
-            final boolean success = writeSendable(b, packet, compressed);
-            if (success) sentPacketCounter.getAndIncrement();
-            return success;
-        });
+        PacketWriting.writeQueue(buffer, this.packetQueue, 1, this::writeQueued);
         // Write to channel
         final boolean success = buffer.writeChannel(channel);
         // Keep the buffer if not fully written
@@ -454,6 +649,42 @@ public class PlayerSocketConnection extends PlayerConnection {
         else this.writeLeftover = buffer;
     }
 
+    private void flushQueueGathering() throws IOException {
+        GatheringWriter gatheringWriter = this.gatheringWriter;
+        if (gatheringWriter == null) this.gatheringWriter = gatheringWriter = new GatheringWriter();
+        // Only holds the serialized packets, bodies are referenced
+        NetworkBuffer buffer = PacketVanilla.PACKET_POOL.get();
+        this.gatheringBuffer = buffer;
+        this.gathering = true;
+        try {
+            PacketWriting.writeQueue(buffer, this.packetQueue, 1, (b, packet) -> {
+                // Keep each write within the usual iovec limit
+                if (this.gatheringWriter.ranges() >= MAX_GATHERING_RANGES) return false;
+                return writeQueued(b, packet);
+            });
+        } finally {
+            this.gathering = false;
+        }
+        if (gatheringWriter.writeChannel(channel)) releaseGathered();
+    }
+
+    private void releaseGathered() {
+        final NetworkBuffer buffer = this.gatheringBuffer;
+        if (buffer != null) {
+            this.gatheringBuffer = null;
+            PacketVanilla.PACKET_POOL.add(buffer);
+        }
+        for (BroadcastPacket.Segment segment : gatheringSegments) segment.release();
+        this.gatheringSegments.clear();
+    }
+
+    private boolean writeQueued(NetworkBuffer buffer, SendablePacket packet) {
+        final boolean compressed = sentPacketCounter.get() > compressionStart;
+        final boolean success = writeSendable(buffer, packet, compressed);
+        if (success) sentPacketCounter.getAndIncrement();
+        return success;
+    }
+
     public Thread readThread() {
         return readThread;
     }
@@ -0,0 +1,224 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.PacketParser;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.utils.validate.Check;
+import org.jctools.queues.MpscUnboundedXaddArrayQueue;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketException;
+import java.nio.channels.CancelledKeyException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SelectionKey;
+import java.nio.channels.Selector;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Multiplexes non-blocking connections over a fixed set of event loop threads.
+ * <p>
+ * Each loop reads the connections ready for it, then flushes the connections which queued packets
+ * as soon as they are notified, and at least every half tick.
+ * <p>
+ * Connections which are not playing yet are read on a virtual thread, as their packets are processed
+ * immediately and login handlers may block (e.g. session authentication).
+ */
+final class SelectorTransport implements ServerTransport {
+    private static final long SELECT_TIMEOUT = 1000 / ServerFlag.SERVER_TICKS_PER_SECOND / 2;
+
+    private final EventLoop[] eventLoops;
+    private final AtomicInteger nextLoop = new AtomicInteger();
+
+    private volatile boolean stop;
+    private PacketParser<ClientPacket> packetParser;
+
+    SelectorTransport(int eventLoops) {
+        Check.argCondition(eventLoops <= 0, "There must be at least one event loop");
+        this.eventLoops = new EventLoop[eventLoops];
+    }
+
+    @Override
+    public void start(PacketParser<ClientPacket> packetParser) throws IOException {
+        this.packetParser = packetParser;
+        for (int i = 0; i < eventLoops.length; i++) {
+            EventLoop eventLoop = new EventLoop(Selector.open(), i);
+            this.eventLoops[i] = eventLoop;
+            eventLoop.thread.start();
+        }
+    }
+
+    @Override
+    public void accept(SocketChannel client) throws IOException {
+        client.configureBlocking(false);
+        final EventLoop eventLoop = eventLoops[Math.floorMod(nextLoop.getAndIncrement(), eventLoops.length)];
+        Check.stateCondition(eventLoop == null, "Transport has not been started");
+        PlayerSocketConnection connection = new PlayerSocketConnection(client, client.getRemoteAddress(),
+                eventLoop.thread, eventLoop.thread);
+        eventLoop.register(connection);
+    }
+
+    @Override
+    public void stop() {
+        this.stop = true;
+        for (EventLoop eventLoop : eventLoops) {
+            if (eventLoop != null) eventLoop.selector.wakeup();
+        }
+    }
+
+    private final class EventLoop implements Runnable {
+        private final Selector selector;
+        private final Thread thread;
+        private final MpscUnboundedXaddArrayQueue<Runnable> tasks = new MpscUnboundedXaddArrayQueue<>(64);
+        private final MpscUnboundedXaddArrayQueue<PlayerSocketConnection> dirty = new MpscUnboundedXaddArrayQueue<>(64);
+
+        EventLoop(Selector selector, int index) {
+            this.selector = selector;
+            this.thread = Thread.ofPlatform().name("Ms-Socket-EventLoop-" + index).daemon().unstarted(this);
+        }
+
+        void register(PlayerSocketConnection connection) {
+            execute(() -> registerConnection(connection));
+        }
+
+        void execute(Runnable task) {
+            this.tasks.relaxedOffer(task);
+            this.selector.wakeup();
+        }
+
+        @Override
+        public void run() {
+            while (!stop) {
+                try {
+                    selector.select(this::select, SELECT_TIMEOUT);
+                } catch (IOException e) {
+                    MinecraftServer.getExceptionManager().handleException(e);
+                    break;
+                }
+                this.tasks.drain(Runnable::run);
+                this.dirty.drain(this::flushDirty);
+            }
+            for (SelectionKey key : selector.keys()) close(key);
+            try {
+                selector.close();
+            } catch (IOException e) {
+                MinecraftServer.getExceptionManager().handleException(e);
+            }
+        }
+
+        private void registerConnection(PlayerSocketConnection connection) {
+            try {
+                connection.getChannel().register(selector, SelectionKey.OP_READ, connection);
+                connection.setWriteListener(this::markDirty);
+                // Packets may have been queued before the listener was set
+                flushDirty(connection);
+            } catch (ClosedChannelException e) {
+                connection.disconnect();
+            }
+        }
+
+        private void select(SelectionKey key) {
+            try {
+                if (key.isWritable()) flush(key);
+                if (!key.isValid() || !key.isReadable()) return;
+            } catch (CancelledKeyException ignored) {
+                return; // Closed during flush
+            }
+            final PlayerSocketConnection connection = (PlayerSocketConnection) key.attachment();
+            if (connection.getClientState() == ConnectionState.PLAY) {
+                read(key);
+                return;
+            }
+            // Stop selecting reads until the handlers are done, keeping packets in order
+            key.interestOps(key.interestOps() & ~SelectionKey.OP_READ);
+            Thread.ofVirtual().name("Ms-Socket-Reader").start(() -> {
+                try {
+                    connection.read(packetParser);
+                    execute(() -> resumeRead(key));
+                } catch (Throwable e) {
+                    execute(() -> readFailed(key, e));
+                }
+            });
+        }
+
+        private void resumeRead(SelectionKey key) {
+            if (key.isValid()) key.interestOps(key.interestOps() | SelectionKey.OP_READ);
+        }
+
+        private void read(SelectionKey key) {
+            final PlayerSocketConnection connection = (PlayerSocketConnection) key.attachment();
+            try {
+                connection.read(packetParser);
+            } catch (Throwable e) {
+                readFailed(key, e);
+            }
+        }
+
+        private void readFailed(SelectionKey key, Throwable e) {
+            final PlayerSocketConnection connection = (PlayerSocketConnection) key.attachment();
+            if (e instanceof ClosedChannelException || e instanceof CancelledKeyException) {
+                close(key); // We closed the socket during read
+                return;
+            }
+            if (!(e instanceof EOFException)) {
+                boolean isExpected = e instanceof SocketException && "Connection reset".equals(e.getMessage());
+                if (!isExpected) MinecraftServer.getExceptionManager().handleException(e);
+            }
+            connection.disconnect();
+            close(key);
+        }
+
+        private void markDirty(PlayerSocketConnection connection) {
+            this.dirty.relaxedOffer(connection);
+            // Flush right away instead of at the end of the select timeout
+            this.selector.wakeup();
+        }
+
+        private void flushDirty(PlayerSocketConnection connection) {
+            final SelectionKey key = connection.getChannel().keyFor(selector);
+            if (key != null && key.isValid()) flush(key);
+        }
+
+        private void flush(SelectionKey key) {
+            final PlayerSocketConnection connection = (PlayerSocketConnection) key.attachment();
+            try {
+                final boolean flushed = connection.flush();
+                final boolean online = connection.isOnline();
+                if (!online && flushed) {
+                    close(key);
+                    return;
+                }
+                // Only wait for the channel to be writable when data is left, reads may be suspended
+                // Disconnected connections are only written until their queue is drained (e.g. the kick packet)
+                final int readOps = online ? key.interestOps() & SelectionKey.OP_READ : 0;
+                final int interestOps = flushed ? readOps : readOps | SelectionKey.OP_WRITE;
+                if (key.interestOps() != interestOps) key.interestOps(interestOps);
+            } catch (ClosedChannelException | CancelledKeyException ignored) {
+                close(key); // We closed the socket during write
+            } catch (EOFException e) {
+                connection.disconnect();
+                close(key);
+            } catch (Throwable e) {
+                boolean isExpected = e instanceof IOException && e.getMessage().equals("Broken pipe");
+                if (!isExpected) MinecraftServer.getExceptionManager().handleException(e);
+                connection.disconnect();
+                close(key);
+            }
+        }
+
+        private void close(SelectionKey key) {
+            // This loop is the writing thread of the connection
+            ((PlayerSocketConnection) key.attachment()).releaseWriter();
+            key.cancel();
+            try {
+                key.channel().close();
+            } catch (IOException ignored) {
+                // Already closed
+            }
+        }
+    }
+}
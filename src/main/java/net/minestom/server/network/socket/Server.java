@@ -5,32 +5,34 @@ import net.minestom.server.ServerFlag;
 import net.minestom.server.network.packet.PacketParser;
 import net.minestom.server.network.packet.PacketVanilla;
 import net.minestom.server.network.packet.client.ClientPacket;
-import net.minestom.server.network.player.PlayerSocketConnection;
-import net.minestom.server.utils.validate.Check;
 import org.jetbrains.annotations.ApiStatus;
 
-import java.io.EOFException;
 import java.io.IOException;
 import java.net.*;
 import java.nio.channels.AsynchronousCloseException;
-import java.nio.channels.ClosedChannelException;
 import java.nio.channels.ServerSocketChannel;
 import java.nio.channels.SocketChannel;
 import java.nio.file.Files;
-import java.util.concurrent.atomic.AtomicReference;
 
 public final class Server {
     private volatile boolean stop;
 
     private final PacketParser<ClientPacket> packetParser;
+    private final ServerTransport transport;
 
     private ServerSocketChannel serverSocket;
     private SocketAddress socketAddress;
     private String address;
     private int port;
 
-    public Server(PacketParser<ClientPacket> packetParser) {
+    public Server(PacketParser<ClientPacket> packetParser, ServerTransport transport) {
         this.packetParser = packetParser;
+        this.transport = transport;
+    }
+
+    public Server(PacketParser<ClientPacket> packetParser) {
+        this(packetParser, ServerFlag.SOCKET_EVENT_LOOPS > 0 ?
+                ServerTransport.selector(ServerFlag.SOCKET_EVENT_LOOPS) : ServerTransport.virtualThreads());
     }
 
     public Server() {
@@ -67,21 +69,17 @@ public final class Server {
 
     @ApiStatus.Internal
     public void start() {
-        // Use named thread builders for logging
-        var readBuilder = Thread.ofVirtual().name("Ms-Socket-Reader-", 0);
-        var writeBuilder = Thread.ofVirtual().name("Ms-Socket-Writer-", 0);
+        try {
+            transport.start(packetParser);
+        } catch (IOException e) {
+            throw new RuntimeException(e);
+        }
         Thread.ofVirtual().name("Ms-Socket-Server").start(() -> {
             while (!stop) {
                 try {
                     final SocketChannel client = serverSocket.accept();
                     configureSocket(client);
-                    AtomicReference<PlayerSocketConnection> reference = new AtomicReference<>(null);
-                    Thread readThread = readBuilder.unstarted(() -> playerReadLoop(reference.get()));
-                    Thread writeThread = writeBuilder.unstarted(() -> playerWriteLoop(reference.get()));
-                    PlayerSocketConnection connection = new PlayerSocketConnection(client, client.getRemoteAddress(), readThread, writeThread);
-                    reference.set(connection);
-                    readThread.start();
-                    writeThread.start();
+                    transport.accept(client);
                 } catch (AsynchronousCloseException ignored) {
                     // We are exiting, bye bye!
                 } catch (IOException e) {
@@ -101,62 +99,13 @@ public final class Server {
         }
     }
 
-    private void playerReadLoop(PlayerSocketConnection connection) {
-        Check.notNull(connection, "connection cannot be null");
-        while (!stop) {
-            try {
-                // Read & process packets
-                connection.read(packetParser);
-            } catch (ClosedChannelException ignored) {
-                break; // We closed the socket during read, just exit.
-            } catch (EOFException e) {
-                connection.disconnect();
-                break;
-            } catch (Throwable e) {
-                boolean isExpected = e instanceof SocketException && e.getMessage().equals("Connection reset");
-                if (!isExpected) MinecraftServer.getExceptionManager().handleException(e);
-                connection.disconnect();
-                break;
-            }
-        }
-    }
-
-    private void playerWriteLoop(PlayerSocketConnection connection) {
-        Check.notNull(connection, "connection cannot be null");
-        while (!stop) {
-            try {
-                connection.flushSync();
-            } catch (ClosedChannelException ignored) {
-                break; // We closed the socket during write, just exit.
-            } catch (EOFException e) {
-                connection.disconnect();
-                break;
-            } catch (Throwable e) {
-                boolean isExpected = e instanceof IOException && e.getMessage().equals("Broken pipe");
-                if (!isExpected) MinecraftServer.getExceptionManager().handleException(e);
-
-                connection.disconnect();
-                break;
-            }
-            if (!connection.isOnline()) {
-                try {
-                    connection.flushSync();
-                    connection.getChannel().close();
-                    break;
-                } catch (IOException e) {
-                    // Disconnect
-                    break;
-                }
-            }
-        }
-    }
-
     public boolean isOpen() {
         return !stop;
     }
 
     public void stop() {
         this.stop = true;
+        this.transport.stop();
         try {
             if (serverSocket != null) {
                 this.serverSocket.close();
@@ -175,6 +124,10 @@ public final class Server {
         return packetParser;
     }
 
+    public ServerTransport transport() {
+        return transport;
+    }
+
     public SocketAddress socketAddress() {
         return socketAddress;
     }
@@ -0,0 +1,49 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.network.packet.PacketParser;
+import net.minestom.server.network.packet.client.ClientPacket;
+import org.jetbrains.annotations.ApiStatus;
+
+import java.io.IOException;
+import java.nio.channels.SocketChannel;
+
+/**
+ * Defines how the connections accepted by a {@link Server} are read from and written to.
+ */
+@ApiStatus.Experimental
+public sealed interface ServerTransport permits VirtualThreadTransport, SelectorTransport {
+
+    /**
+     * Creates a transport using two virtual threads per connection, blocking on the channel.
+     *
+     * @return a new virtual thread transport
+     */
+    static ServerTransport virtualThreads() {
+        return new VirtualThreadTransport();
+    }
+
+    /**
+     * Creates a transport multiplexing non-blocking connections over a fixed number of selector threads.
+     *
+     * @param eventLoops the number of event loop threads
+     * @return a new selector transport
+     */
+    static ServerTransport selector(int eventLoops) {
+        return new SelectorTransport(eventLoops);
+    }
+
+    @ApiStatus.Internal
+    void start(PacketParser<ClientPacket> packetParser) throws IOException;
+
+    /**
+     * Takes ownership of a newly accepted connection.
+     *
+     * @param channel the accepted channel, already configured
+     * @throws IOException if the channel cannot be registered
+     */
+    @ApiStatus.Internal
+    void accept(SocketChannel channel) throws IOException;
+
+    @ApiStatus.Internal
+    void stop();
+}
@@ -0,0 +1,103 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.packet.PacketParser;
+import net.minestom.server.network.packet.client.ClientPacket;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.server.utils.validate.Check;
+
+import java.io.EOFException;
+import java.io.IOException;
+import java.net.SocketException;
+import java.nio.channels.ClosedChannelException;
+import java.nio.channels.SocketChannel;
+import java.util.concurrent.atomic.AtomicReference;
+
+final class VirtualThreadTransport implements ServerTransport {
+    // Use named thread builders for logging
+    private final Thread.Builder readBuilder = Thread.ofVirtual().name("Ms-Socket-Reader-", 0);
+    private final Thread.Builder writeBuilder = Thread.ofVirtual().name("Ms-Socket-Writer-", 0);
+
+    private volatile boolean stop;
+    private PacketParser<ClientPacket> packetParser;
+
+    @Override
+    public void start(PacketParser<ClientPacket> packetParser) {
+        this.packetParser = packetParser;
+    }
+
+    @Override
+    public void accept(SocketChannel client) throws IOException {
+        AtomicReference<PlayerSocketConnection> reference = new AtomicReference<>(null);
+        Thread readThread = readBuilder.unstarted(() -> playerReadLoop(reference.get()));
+        Thread writeThread = writeBuilder.unstarted(() -> playerWriteLoop(reference.get()));
+        PlayerSocketConnection connection = new PlayerSocketConnection(client, client.getRemoteAddress(), readThread, writeThread);
+        reference.set(connection);
+        readThread.start();
+        writeThread.start();
+    }
+
+    @Override
+    public void stop() {
+        this.stop = true;
+    }
+
+    private void playerReadLoop(PlayerSocketConnection connection) {
+        Check.notNull(connection, "connection cannot be null");
+        while (!stop) {
+            try {
+                // Read & process packets
+                connection.read(packetParser);
+            } catch (ClosedChannelException ignored) {
+                break; // We closed the socket during read, just exit.
+            } catch (EOFException e) {
+                connection.disconnect();
+                break;
+            } catch (Throwable e) {
+                boolean isExpected = e instanceof SocketException && e.getMessage().equals("Connection reset");
+                if (!isExpected) MinecraftServer.getExceptionManager().handleException(e);
+                connection.disconnect();
+                break;
+            }
+        }
+    }
+
+    private void playerWriteLoop(PlayerSocketConnection connection) {
+        Check.notNull(connection, "connection cannot be null");
+        try {
+            writeLoop(connection);
+        } finally {
+            connection.releaseWriter();
+        }
+    }
+
+    private void writeLoop(PlayerSocketConnection connection) {
+        while (!stop) {
+            try {
+                connection.flushSync();
+            } catch (ClosedChannelException ignored) {
+                break; // We closed the socket during write, just exit.
+            } catch (EOFException e) {
+                connection.disconnect();
+                break;
+            } catch (Throwable e) {
+                boolean isExpected = e instanceof IOException && e.getMessage().equals("Broken pipe");
+                if (!isExpected) MinecraftServer.getExceptionManager().handleException(e);
+
+                connection.disconnect();
+                break;
+            }
+            if (!connection.isOnline()) {
+                try {
+                    // Write everything queued before the disconnection, the channel is blocking
+                    while (!connection.flush()) Thread.onSpinWait();
+                    connection.getChannel().close();
+                    break;
+                } catch (IOException e) {
+                    // Disconnect
+                    break;
+                }
+            }
+        }
+    }
+}
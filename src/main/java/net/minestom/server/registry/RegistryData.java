@@ -120,16 +120,10 @@ public final class RegistryData {
 
     @ApiStatus.Internal
     public static Properties load(String resourcePath, boolean required) {
+        final Properties snapshot = RegistrySnapshot.load(resourcePath);
+        if (snapshot != null) return snapshot;
         try (InputStream resourceStream = loadRegistryFile(resourcePath)) {
-            if (resourceStream != null) {
-                final Map<String, Object> map = new HashMap<>();
-                try (JsonReader reader = new JsonReader(new InputStreamReader(resourceStream))) {
-                    reader.beginObject();
-                    while (reader.hasNext()) map.put(reader.nextName(), readObject(reader));
-                    reader.endObject();
-                }
-                return Properties.fromMap(map);
-            }
+            if (resourceStream != null) return readJson(resourceStream);
         } catch (IOException e) {
             MinecraftServer.getExceptionManager().handleException(e);
         }
@@ -137,6 +131,16 @@ public final class RegistryData {
         return Properties.fromMap(Map.of());
     }
 
+    static Properties readJson(InputStream resourceStream) throws IOException {
+        final Map<String, Object> map = new HashMap<>();
+        try (JsonReader reader = new JsonReader(new InputStreamReader(resourceStream))) {
+            reader.beginObject();
+            while (reader.hasNext()) map.put(reader.nextName(), readObject(reader));
+            reader.endObject();
+        }
+        return Properties.fromMap(map);
+    }
+
     /**
      * Instantiates a static registry from a resource file. The resource file is resolved using the registryKey
      * first from the classpath, then from the working directory.
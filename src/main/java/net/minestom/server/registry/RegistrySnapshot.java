@@ -0,0 +1,296 @@
+package net.minestom.server.registry;
+
+import it.unimi.dsi.fastutil.objects.Object2IntOpenHashMap;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.ServerFlag;
+import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
+
+import java.io.*;
+import java.net.JarURLConnection;
+import java.net.URI;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.net.URLConnection;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.util.*;
+import java.util.stream.Stream;
+import java.util.zip.CRC32;
+
+/**
+ * Binary image of the registry data files, read by {@link RegistryData#load(String, boolean)} instead of parsing JSON.
+ * <p>
+ * Images are generated at build time by {@link #main(String[])} and bundled at {@code registry-snapshot/<file>.bin}.
+ * They store every string once in a table, followed by the value tree of the file.
+ * An image is only used if its format version and the CRC-32 of its source file match,
+ * otherwise the JSON file is parsed as usual.
+ */
+@ApiStatus.Internal
+public final class RegistrySnapshot {
+    private static final String DIRECTORY = "registry-snapshot/";
+    private static final int MAGIC = 0x4D535253; // MSRS
+    private static final int VERSION = 2;
+
+    private static final byte MAP = 0;
+    private static final byte LIST = 1;
+    private static final byte STRING = 2;
+    private static final byte LONG = 3;
+    private static final byte DOUBLE = 4;
+    private static final byte TRUE = 5;
+    private static final byte FALSE = 6;
+
+    private RegistrySnapshot() {
+    }
+
+    /**
+     * Generates the images of the static registry data files found on the classpath.
+     *
+     * @param args the output directory
+     */
+    public static void main(String[] args) throws IOException, URISyntaxException {
+        final Path output = Path.of(args[0]);
+        final URL anchor = RegistrySnapshot.class.getClassLoader().getResource("block.json");
+        Objects.requireNonNull(anchor, "Registry data not found on the classpath");
+        final Set<String> dynamic = new HashSet<>();
+        for (RegistryData.Resource resource : RegistryData.Resource.values()) dynamic.add(resource.fileName());
+
+        final URI uri = anchor.toURI();
+        try (FileSystem fileSystem = uri.getScheme().equals("jar") ? FileSystems.newFileSystem(uri, Map.of()) : null) {
+            final Path root = (fileSystem != null ? fileSystem.provider().getPath(uri) : Path.of(uri)).getParent();
+            final List<Path> files;
+            try (Stream<Path> stream = Files.walk(root)) {
+                files = stream.filter(path -> path.toString().endsWith(".json")).toList();
+            }
+            for (Path file : files) {
+                final String name = root.relativize(file).toString().replace('\\', '/');
+                // Dynamic registries are decoded from the JSON tree by their codec
+                if (dynamic.contains(name)) continue;
+                final byte[] source = Files.readAllBytes(file);
+                final RegistryData.Properties properties = RegistryData.readJson(new ByteArrayInputStream(source));
+                final Path target = output.resolve(fileName(name));
+                Files.createDirectories(target.getParent());
+                try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(target))) {
+                    write(out, properties, crc(new ByteArrayInputStream(source)));
+                }
+            }
+        }
+    }
+
+    /**
+     * Reads the image of a registry data file, if one is bundled and up to date.
+     *
+     * @param path the path of the JSON file, e.g. "block.json"
+     * @return the file properties, null if the JSON file must be parsed instead
+     */
+    static @Nullable RegistryData.Properties load(String path) {
+        if (!ServerFlag.REGISTRY_SNAPSHOT) return null;
+        return load(RegistrySnapshot.class.getClassLoader(), path);
+    }
+
+    /**
+     * Reads the image of a registry data file from a class loader.
+     *
+     * @param classLoader the class loader of the JSON file and its image
+     * @param path        the path of the JSON file
+     * @return the file properties, null if there is no image or if it does not match the JSON file
+     */
+    static @Nullable RegistryData.Properties load(ClassLoader classLoader, String path) {
+        final URL image = classLoader.getResource(fileName(path));
+        if (image == null) return null;
+        // The JSON file may be read from the working directory instead
+        final URL source = classLoader.getResource(path);
+        if (source == null) return null;
+        try {
+            // A mismatch means the data has been swapped
+            final long sourceCrc = crc(source);
+            try (InputStream input = image.openStream()) {
+                return read(input, sourceCrc);
+            }
+        } catch (IOException e) {
+            MinecraftServer.getExceptionManager().handleException(e);
+            return null;
+        }
+    }
+
+    /**
+     * Writes the image of a registry data file.
+     *
+     * @param out          the output stream
+     * @param properties   the parsed file
+     * @param sourceCrc    the CRC-32 of the JSON file
+     */
+    static void write(OutputStream out, RegistryData.Properties properties, long sourceCrc) throws IOException {
+        final DataOutputStream output = new DataOutputStream(out);
+        final Map<String, Object> root = properties.asMap();
+        // String table, in first appearance order
+        final Object2IntOpenHashMap<String> strings = new Object2IntOpenHashMap<>();
+        strings.defaultReturnValue(-1);
+        collectStrings(root, strings);
+        final String[] table = new String[strings.size()];
+        for (Object2IntOpenHashMap.Entry<String> entry : strings.object2IntEntrySet()) {
+            table[entry.getIntValue()] = entry.getKey();
+        }
+
+        output.writeInt(MAGIC);
+        output.writeInt(VERSION);
+        output.writeLong(sourceCrc);
+        writeVarInt(output, table.length);
+        for (String string : table) {
+            final byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            writeVarInt(output, bytes.length);
+            output.write(bytes);
+        }
+        writeValue(output, root, strings);
+        output.flush();
+    }
+
+    /**
+     * Reads the image of a registry data file.
+     *
+     * @param in           the input stream
+     * @param sourceCrc    the CRC-32 of the JSON file
+     * @return the file properties, null if the image is outdated
+     */
+    static @Nullable RegistryData.Properties read(InputStream in, long sourceCrc) throws IOException {
+        final DataInputStream input = new DataInputStream(in instanceof BufferedInputStream ? in : new BufferedInputStream(in, 65536));
+        if (input.readInt() != MAGIC || input.readInt() != VERSION) return null;
+        if (input.readLong() != sourceCrc) return null;
+        final String[] table = new String[readVarInt(input)];
+        byte[] buffer = new byte[256];
+        for (int i = 0; i < table.length; i++) {
+            final int length = readVarInt(input);
+            if (length > buffer.length) buffer = new byte[Math.max(length, buffer.length * 2)];
+            input.readFully(buffer, 0, length);
+            table[i] = new String(buffer, 0, length, StandardCharsets.UTF_8);
+        }
+        if (input.readByte() != MAP) throw new IOException("Invalid registry snapshot root");
+        return RegistryData.Properties.fromMap(readMap(input, table));
+    }
+
+    static String fileName(String path) {
+        return DIRECTORY + (path.endsWith(".json") ? path.substring(0, path.length() - 5) : path) + ".bin";
+    }
+
+    private static long crc(URL url) throws IOException {
+        final URLConnection connection = url.openConnection();
+        if (connection instanceof JarURLConnection jarConnection) {
+            // Jar entries store their CRC in the central directory, the file is not read
+            final long crc = jarConnection.getJarEntry().getCrc();
+            if (crc != -1) return crc;
+        }
+        try (InputStream input = connection.getInputStream()) {
+            return crc(input);
+        }
+    }
+
+    static long crc(InputStream input) throws IOException {
+        final CRC32 crc = new CRC32();
+        final byte[] buffer = new byte[8192];
+        int length;
+        while ((length = input.read(buffer)) != -1) crc.update(buffer, 0, length);
+        return crc.getValue();
+    }
+
+    private static void collectStrings(Object value, Object2IntOpenHashMap<String> strings) {
+        switch (value) {
+            case Map<?, ?> map -> map.forEach((key, element) -> {
+                strings.putIfAbsent((String) key, strings.size());
+                collectStrings(element, strings);
+            });
+            case List<?> list -> list.forEach(element -> collectStrings(element, strings));
+            case String string -> strings.putIfAbsent(string, strings.size());
+            default -> {
+            }
+        }
+    }
+
+    private static void writeValue(DataOutputStream output, Object value, Object2IntOpenHashMap<String> strings) throws IOException {
+        switch (value) {
+            case Map<?, ?> map -> {
+                output.writeByte(MAP);
+                writeVarInt(output, map.size());
+                for (Map.Entry<?, ?> entry : map.entrySet()) {
+                    writeVarInt(output, strings.getInt(entry.getKey()));
+                    writeValue(output, entry.getValue(), strings);
+                }
+            }
+            case List<?> list -> {
+                output.writeByte(LIST);
+                writeVarInt(output, list.size());
+                for (Object element : list) writeValue(output, element, strings);
+            }
+            case String string -> {
+                output.writeByte(STRING);
+                writeVarInt(output, strings.getInt(string));
+            }
+            case Long number -> {
+                output.writeByte(LONG);
+                writeVarLong(output, (number << 1) ^ (number >> 63)); // Zigzag
+            }
+            case Double number -> {
+                output.writeByte(DOUBLE);
+                output.writeDouble(number);
+            }
+            case Boolean bool -> output.writeByte(bool ? TRUE : FALSE);
+            default -> throw new IllegalArgumentException("Unsupported registry value: " + value);
+        }
+    }
+
+    private static Object readValue(DataInputStream input, String[] table) throws IOException {
+        final byte type = input.readByte();
+        return switch (type) {
+            case MAP -> readMap(input, table);
+            case LIST -> {
+                final Object[] elements = new Object[readVarInt(input)];
+                for (int i = 0; i < elements.length; i++) elements[i] = readValue(input, table);
+                yield List.of(elements);
+            }
+            case STRING -> table[readVarInt(input)];
+            case LONG -> {
+                final long zigzag = readVarLong(input);
+                yield (zigzag >>> 1) ^ -(zigzag & 1);
+            }
+            case DOUBLE -> input.readDouble();
+            case TRUE -> true;
+            case FALSE -> false;
+            default -> throw new IOException("Invalid registry snapshot value type: " + type);
+        };
+    }
+
+    private static Map<String, Object> readMap(DataInputStream input, String[] table) throws IOException {
+        final int size = readVarInt(input);
+        final HashMap<String, Object> map = HashMap.newHashMap(size);
+        for (int i = 0; i < size; i++) {
+            final String key = table[readVarInt(input)];
+            map.put(key, readValue(input, table));
+        }
+        return Map.copyOf(map);
+    }
+
+    private static void writeVarInt(DataOutputStream output, int value) throws IOException {
+        writeVarLong(output, value & 0xFFFFFFFFL);
+    }
+
+    private static void writeVarLong(DataOutputStream output, long value) throws IOException {
+        while ((value & ~0x7FL) != 0) {
+            output.writeByte((int) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        output.writeByte((int) value);
+    }
+
+    private static int readVarInt(DataInputStream input) throws IOException {
+        return (int) readVarLong(input);
+    }
+
+    private static long readVarLong(DataInputStream input) throws IOException {
+        long value = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            final byte b = input.readByte();
+            value |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) return value;
+        }
+        throw new IOException("VarLong is too big");
+    }
+}
@@ -8,9 +8,15 @@ import org.jetbrains.annotations.Unmodifiable;
 
 import java.util.*;
 import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.locks.ReentrantLock;
 import java.util.function.IntFunction;
 
 final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatcher<P, E> {
+    // Maximum number of partitions moved per refresh in balanced mode
+    private static final int MAX_MIGRATIONS = 16;
+    // Minimum load difference between two threads, relative to the most loaded one, to move a partition
+    private static final double IMBALANCE_THRESHOLD = 0.1;
+
     private final ThreadProvider<P> provider;
     private final List<TickThread> threads;
 
@@ -31,6 +37,8 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
         TickThread[] threads = new TickThread[threadCount];
         Arrays.setAll(threads, threadGenerator);
         this.threads = List.of(threads);
+        final boolean balanced = provider.refreshType() == ThreadProvider.RefreshType.BALANCED;
+        for (TickThread thread : threads) thread.measurePartitions = balanced;
     }
 
     @Unmodifiable
@@ -80,22 +88,70 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
                     // Update chunk's thread
                     Partition partitionEntry = partitions.get(partition);
                     assert partitionEntry != null;
-                    final TickThread previous = partitionEntry.thread;
                     final TickThread next = retrieveThread(partition);
-                    if (next != previous) {
-                        partitionEntry.thread = next;
-                        previous.entries.remove(partitionEntry);
-                        next.entries.add(partitionEntry);
-                    }
+                    if (next != partitionEntry.thread) migrate(partitionEntry, next);
                     this.partitionUpdateQueue.addLast(partition);
                     if (--counter <= 0 || System.nanoTime() - currentTime >= nanoTimeout) {
                         break;
                     }
                 }
             }
+            case BALANCED -> balance(nanoTimeout);
+        }
+    }
+
+    private void balance(long nanoTimeout) {
+        if (threads.size() < 2) return;
+        final long currentTime = System.nanoTime();
+        for (int i = 0; i < MAX_MIGRATIONS && System.nanoTime() - currentTime < nanoTimeout; i++) {
+            TickThread busiest = threads.getFirst(), idlest = busiest;
+            for (TickThread thread : threads) {
+                if (thread.loadNanos() > busiest.loadNanos()) busiest = thread;
+                if (thread.loadNanos() < idlest.loadNanos()) idlest = thread;
+            }
+            final long difference = busiest.loadNanos() - idlest.loadNanos();
+            if (difference <= busiest.loadNanos() * IMBALANCE_THRESHOLD) return;
+            // Move the partition whose cost brings both threads the closest to equal load
+            // Partitions costing more than the difference would only move the imbalance
+            Partition candidate = null;
+            long candidateDistance = Long.MAX_VALUE;
+            for (Partition partition : busiest.entries) {
+                final long cost = partition.cost;
+                if (cost <= 0 || cost >= difference) continue;
+                final long distance = Math.abs(difference - 2 * cost);
+                if (distance < candidateDistance) {
+                    candidate = partition;
+                    candidateDistance = distance;
+                }
+            }
+            if (candidate == null) return;
+            migrate(candidate, idlest);
+            // Account for the move until the next measurement
+            busiest.updateLoad(-candidate.cost);
+            idlest.updateLoad(candidate.cost);
         }
     }
 
+    private void migrate(Partition partitionEntry, TickThread next) {
+        final TickThread previous = partitionEntry.thread;
+        // Prevent the elements from being acquired through their previous thread while moving
+        final ReentrantLock lock = previous.lock();
+        lock.lock();
+        try {
+            partitionEntry.thread = next;
+            previous.entries.remove(partitionEntry);
+            next.entries.add(partitionEntry);
+            for (Tickable element : partitionEntry.elements) {
+                if (element instanceof AcquirableSource<?> acquirableSource) {
+                    ((AcquirableImpl<?>) acquirableSource.acquirable()).assign(next);
+                }
+            }
+        } finally {
+            lock.unlock();
+        }
+        next.migrations.incrementAndGet();
+    }
+
     @Override
     public void refreshThreads() {
         refreshThreads(Long.MAX_VALUE);
@@ -186,6 +242,8 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
     public static final class Partition {
         private TickThread thread;
         private final List<Tickable> elements = new ArrayList<>();
+        // Averaged tick time in nanoseconds, only measured in balanced mode
+        private long cost;
 
         private Partition(TickThread thread) {
             this.thread = thread;
@@ -211,5 +269,9 @@ final class ThreadDispatcherImpl<P, E extends Tickable> implements ThreadDispatc
         public List<Tickable> elements() {
             return elements;
         }
+
+        long updateCost(long nanos) {
+            return this.cost += (nanos - cost) / 8;
+        }
     }
 }
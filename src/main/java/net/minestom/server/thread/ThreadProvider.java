@@ -18,6 +18,29 @@ public interface ThreadProvider<T> {
         };
     }
 
+    /**
+     * Creates a provider placing partitions in a round-robin fashion,
+     * then moving them between threads based on their measured tick time.
+     *
+     * @return a new balanced provider
+     * @see RefreshType#BALANCED
+     */
+    static <T> ThreadProvider<T> balanced() {
+        return new ThreadProvider<>() {
+            private final AtomicInteger counter = new AtomicInteger();
+
+            @Override
+            public int findThread(T partition) {
+                return counter.getAndIncrement();
+            }
+
+            @Override
+            public RefreshType refreshType() {
+                return RefreshType.BALANCED;
+            }
+        };
+    }
+
     /**
      * Performs a server tick for all chunks based on their linked thread.
      *
@@ -49,6 +72,13 @@ public interface ThreadProvider<T> {
          * <p>
          * Means that {@link #findThread(Object)} may be called multiple time for each partition.
          */
-        ALWAYS
+        ALWAYS,
+        /**
+         * Thread is updated based on the measured tick time of each partition.
+         * <p>
+         * Means that {@link #findThread(Object)} will only be called once for each partition,
+         * partitions are then moved from the most loaded threads to the least loaded ones.
+         */
+        BALANCED
     }
 }
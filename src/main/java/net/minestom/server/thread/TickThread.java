@@ -10,6 +10,7 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.concurrent.atomic.AtomicReference;
 import java.util.concurrent.locks.LockSupport;
 import java.util.concurrent.locks.ReentrantLock;
@@ -30,6 +31,11 @@ public class TickThread extends MinestomThread {
     private long tickNum = 0;
     final List<ThreadDispatcherImpl.Partition> entries = new ArrayList<>();
 
+    // Partition cost measurement, enabled by balanced dispatchers
+    boolean measurePartitions;
+    private volatile long loadNanos;
+    final AtomicLong migrations = new AtomicLong();
+
     public TickThread(int number) {
         super(MinecraftServer.THREAD_NAME_TICK + "-" + number);
     }
@@ -67,10 +73,16 @@ public class TickThread extends MinestomThread {
     protected void tick() {
         final ReentrantLock lock = this.lock;
         final long tickTime = TimeUnit.NANOSECONDS.toMillis(this.tickTimeNanos);
+        final boolean measure = this.measurePartitions;
+        long load = 0;
         for (ThreadDispatcherImpl.Partition entry : entries) {
             assert entry.thread() == this;
             final List<Tickable> elements = entry.elements();
-            if (elements.isEmpty()) continue;
+            if (elements.isEmpty()) {
+                if (measure) entry.updateCost(0);
+                continue;
+            }
+            final long start = measure ? System.nanoTime() : 0;
             for (Tickable element : elements) {
                 if (lock.hasQueuedThreads()) {
                     lock.unlock();
@@ -84,7 +96,9 @@ public class TickThread extends MinestomThread {
                     MinecraftServer.getExceptionManager().handleException(e);
                 }
             }
+            if (measure) load += entry.updateCost(System.nanoTime() - start);
         }
+        if (measure) this.loadNanos = load;
     }
 
     private boolean assertElement(Tickable element) {
@@ -129,6 +143,30 @@ public class TickThread extends MinestomThread {
         return tickNum;
     }
 
+    /**
+     * Gets the averaged time spent ticking the partitions of this thread.
+     * <p>
+     * Only measured when the dispatcher balances its partitions, see {@link ThreadProvider.RefreshType#BALANCED}.
+     *
+     * @return the thread load in nanoseconds
+     */
+    public long loadNanos() {
+        return loadNanos;
+    }
+
+    void updateLoad(long delta) {
+        this.loadNanos += delta;
+    }
+
+    /**
+     * Gets the number of partitions moved to this thread after their initial placement.
+     *
+     * @return the number of migrations
+     */
+    public long migrationCount() {
+        return migrations.get();
+    }
+
     void shutdown() {
         this.stop = true;
         LockSupport.unpark(this);
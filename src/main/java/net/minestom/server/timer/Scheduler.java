@@ -35,6 +35,13 @@ public sealed interface Scheduler extends Executor permits SchedulerImpl, Schedu
      */
     void processTickEnd();
 
+    /**
+     * Cancels every task submitted to this scheduler so far, tasks submitted afterward are unaffected.
+     * <p>
+     * This method is thread-safe.
+     */
+    void cancelAll();
+
     /**
      * Submits a new task with custom scheduling logic.
      * <p>
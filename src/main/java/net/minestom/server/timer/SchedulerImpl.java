@@ -1,33 +1,28 @@
 package net.minestom.server.timer;
 
-import it.unimi.dsi.fastutil.ints.Int2ObjectAVLTreeMap;
 import net.minestom.server.MinecraftServer;
 import org.jctools.queues.MpscUnboundedArrayQueue;
 
 import java.time.Duration;
-import java.util.ArrayList;
-import java.util.List;
-import java.util.concurrent.Executors;
-import java.util.concurrent.ScheduledExecutorService;
-import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Supplier;
 
 final class SchedulerImpl implements Scheduler {
     private static final AtomicInteger TASK_COUNTER = new AtomicInteger();
-    private static final ScheduledExecutorService SCHEDULER = Executors.newSingleThreadScheduledExecutor(r -> {
-        Thread thread = new Thread(r);
-        thread.setDaemon(true);
-        return thread;
-    });
 
     private final MpscUnboundedArrayQueue<TaskImpl> tasksToExecute = new MpscUnboundedArrayQueue<>(64);
     private final MpscUnboundedArrayQueue<TaskImpl> tickEndTasksToExecute = new MpscUnboundedArrayQueue<>(64);
-    // Tasks scheduled on a certain tick/tick end
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickStartTaskQueue = new Int2ObjectAVLTreeMap<>();
-    private final Int2ObjectAVLTreeMap<List<TaskImpl>> tickEndTaskQueue = new Int2ObjectAVLTreeMap<>();
-
-    private int tickState;
+    // Delayed tasks waiting to be inserted in or removed from the wheels by the processing thread
+    private final MpscUnboundedArrayQueue<TaskImpl> tasksToSchedule = new MpscUnboundedArrayQueue<>(64);
+    private final MpscUnboundedArrayQueue<TaskImpl> tasksToUnlink = new MpscUnboundedArrayQueue<>(64);
+    // Tasks scheduled on a certain tick/tick end, and tasks scheduled after a duration in milliseconds
+    private final TimingWheel tickWheel = new TimingWheel(this::expire);
+    private final TimingWheel durationWheel = new TimingWheel(this::expire);
+    private final long origin = System.nanoTime();
+
+    private volatile int tickState;
+    // Cancelled tasks are left in the wheels, they are dropped once reached
+    private volatile int generation;
 
     @Override
     public void process() {
@@ -40,26 +35,49 @@ final class SchedulerImpl implements Scheduler {
     }
 
     private void processTick(int tickDelta) {
-        processTickTasks(tickStartTaskQueue, tasksToExecute, tickDelta);
+        processTickTasks(tasksToExecute, tickDelta);
     }
 
     @Override
     public void processTickEnd() {
-        processTickTasks(tickEndTaskQueue, tickEndTasksToExecute, 0);
+        processTickTasks(tickEndTasksToExecute, 0);
     }
 
-    private void processTickTasks(Int2ObjectAVLTreeMap<List<TaskImpl>> targetTaskQueue, MpscUnboundedArrayQueue<TaskImpl> targetTasksToExecute, int tickDelta) {
-        synchronized (this) {
-            this.tickState += tickDelta;
-            int tickToProcess;
-            while (!targetTaskQueue.isEmpty() && (tickToProcess = targetTaskQueue.firstIntKey()) <= tickState) {
-                final List<TaskImpl> tickScheduledTasks = targetTaskQueue.remove(tickToProcess);
-                if (tickScheduledTasks != null) tickScheduledTasks.forEach(targetTasksToExecute::relaxedOffer);
-            }
-        }
+    @Override
+    public void cancelAll() {
+        // Concurrent calls may lose an increment, the generation changes either way
+        this.generation++;
+    }
+
+    private void processTickTasks(MpscUnboundedArrayQueue<TaskImpl> targetTasksToExecute, int tickDelta) {
+        if (tickDelta != 0) this.tickState += tickDelta;
+        updateWheels();
         runTasks(targetTasksToExecute);
     }
 
+    private void updateWheels() {
+        if (!tasksToUnlink.isEmpty()) {
+            tasksToUnlink.drain(task -> {
+                final TimingWheel wheel = task.wheel;
+                if (wheel != null) wheel.remove(task);
+            });
+        }
+        if (!tasksToSchedule.isEmpty()) {
+            tasksToSchedule.drain(task -> {
+                if (task.isAlive()) (task.durationBased ? durationWheel : tickWheel).add(task);
+            });
+        }
+        tickWheel.advance(tickState);
+        durationWheel.advance(millis());
+    }
+
+    private void expire(TaskImpl task) {
+        if (!task.isAlive()) return;
+        if (task.executionType() == ExecutionType.TICK_END) {
+            tickEndTasksToExecute.relaxedOffer(task);
+        } else tasksToExecute.relaxedOffer(task);
+    }
+
     private void runTasks(MpscUnboundedArrayQueue<TaskImpl> targetQueue) {
         // Run all tasks lock-free, either in the current thread or pool
         if (!targetQueue.isEmpty()) {
@@ -79,11 +97,19 @@ final class SchedulerImpl implements Scheduler {
         return taskRef;
     }
 
+    int generation() {
+        return generation;
+    }
+
     void unparkTask(TaskImpl task) {
         if (task.tryUnpark())
             this.tasksToExecute.relaxedOffer(task);
     }
 
+    void unlinkTask(TaskImpl task) {
+        this.tasksToUnlink.relaxedOffer(task);
+    }
+
     private void safeExecute(TaskImpl task) {
         // Prevent the task from being executed in the current thread
         // By either adding the task to the execution queue or submitting it to the pool
@@ -93,6 +119,10 @@ final class SchedulerImpl implements Scheduler {
         }
     }
 
+    private long millis() {
+        return (System.nanoTime() - origin) / 1_000_000;
+    }
+
     private void handleTask(TaskImpl task) {
         TaskSchedule schedule;
         try {
@@ -105,17 +135,14 @@ final class SchedulerImpl implements Scheduler {
         switch (schedule) {
             case TaskScheduleImpl.DurationSchedule durationSchedule -> {
                 final Duration duration = durationSchedule.duration();
-                SCHEDULER.schedule(() -> safeExecute(task), duration.toMillis(), TimeUnit.MILLISECONDS);
+                task.deadline = millis() + duration.toMillis();
+                task.durationBased = true;
+                tasksToSchedule.relaxedOffer(task);
             }
             case TaskScheduleImpl.TickSchedule tickSchedule -> {
-                synchronized (this) {
-                    final int target = tickState + tickSchedule.tick();
-                    var targetTaskQueue = switch (task.executionType()) {
-                        case TICK_START -> tickStartTaskQueue;
-                        case TICK_END -> tickEndTaskQueue;
-                    };
-                    targetTaskQueue.computeIfAbsent(target, i -> new ArrayList<>()).add(task);
-                }
+                task.deadline = (long) tickState + tickSchedule.tick();
+                task.durationBased = false;
+                tasksToSchedule.relaxedOffer(task);
             }
             case TaskScheduleImpl.FutureSchedule futureSchedule ->
                     futureSchedule.future().thenRun(() -> safeExecute(task));
@@ -23,6 +23,11 @@ public final class SchedulerManager implements Scheduler {
         this.scheduler.processTickEnd();
     }
 
+    @Override
+    public void cancelAll() {
+        this.scheduler.cancelAll();
+    }
+
     @Override
     public Task submitTask(Supplier<TaskSchedule> task,
                                     ExecutionType executionType) {
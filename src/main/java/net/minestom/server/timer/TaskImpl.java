@@ -22,9 +22,18 @@ final class TaskImpl implements Task {
     private final ExecutionType executionType;
     private final SchedulerImpl owner;
 
+    private final int generation;
+
     volatile boolean alive;
     volatile boolean parked;
 
+    // Wheel state, only accessed by the thread processing the owner
+    long deadline;
+    boolean durationBased;
+    TimingWheel wheel;
+    int bucket;
+    TaskImpl previous, next;
+
     TaskImpl(int id,
              Supplier<TaskSchedule> task,
              ExecutionType executionType,
@@ -33,6 +42,7 @@ final class TaskImpl implements Task {
         this.task = task;
         this.executionType = executionType;
         this.owner = owner;
+        this.generation = owner.generation();
         this.alive = true;
     }
 
@@ -53,11 +63,13 @@ final class TaskImpl implements Task {
     @Override
     public void cancel() {
         this.alive = false;
+        // Racy read, a task missed here is dropped once its slot is reached
+        if (wheel != null) this.owner.unlinkTask(this);
     }
 
     @Override
     public boolean isAlive() {
-        return alive;
+        return alive && generation == owner.generation();
     }
 
     public int id() {
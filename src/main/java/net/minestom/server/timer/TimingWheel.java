@@ -0,0 +1,151 @@
+package net.minestom.server.timer;
+
+import java.util.function.Consumer;
+
+/**
+ * Hierarchical timing wheel holding the delayed tasks of a scheduler.
+ * <p>
+ * Deadlines are absolute, in ticks or milliseconds depending on the wheel. Each level has 64 slots,
+ * a task is placed on the level of the highest 6 bits group in which its deadline differs from the current time,
+ * and moves down one level whenever the wheel reaches its slot. Deadlines out of range are kept in an overflow list.
+ * Insertion and removal are O(1), occupancy masks let {@link #advance(long)} jump to the next non-empty slot.
+ * <p>
+ * Not thread-safe, only accessed by the thread processing the scheduler.
+ */
+final class TimingWheel {
+    private static final int SLOT_BITS = 6;
+    private static final int SLOT_MASK = (1 << SLOT_BITS) - 1;
+    private static final int LEVELS = 4;
+    private static final int RANGE_BITS = SLOT_BITS * LEVELS;
+    private static final int OVERFLOW = LEVELS << SLOT_BITS;
+
+    private final Consumer<TaskImpl> expired;
+    // Doubly linked FIFO lists, one per slot plus the overflow list
+    private final TaskImpl[] heads = new TaskImpl[OVERFLOW + 1];
+    private final TaskImpl[] tails = new TaskImpl[OVERFLOW + 1];
+    private final long[] occupied = new long[LEVELS];
+    private long current;
+    private int size;
+
+    TimingWheel(Consumer<TaskImpl> expired) {
+        this.expired = expired;
+    }
+
+    /**
+     * Schedules the task at {@link TaskImpl#deadline}, tasks already due are expired immediately.
+     */
+    void add(TaskImpl task) {
+        final long deadline = task.deadline;
+        if (deadline <= current) {
+            expired.accept(task);
+            return;
+        }
+        final int level = (63 - Long.numberOfLeadingZeros(deadline ^ current)) / SLOT_BITS;
+        final int bucket = level < LEVELS ?
+                (level << SLOT_BITS) | (int) ((deadline >>> (level * SLOT_BITS)) & SLOT_MASK) : OVERFLOW;
+        final TaskImpl tail = tails[bucket];
+        task.wheel = this;
+        task.bucket = bucket;
+        task.previous = tail;
+        task.next = null;
+        if (tail != null) tail.next = task;
+        else heads[bucket] = task;
+        tails[bucket] = task;
+        if (bucket != OVERFLOW) occupied[level] |= 1L << (bucket & SLOT_MASK);
+        this.size++;
+    }
+
+    void remove(TaskImpl task) {
+        if (task.wheel != this) return;
+        final int bucket = task.bucket;
+        final TaskImpl previous = task.previous, next = task.next;
+        if (previous != null) previous.next = next;
+        else heads[bucket] = next;
+        if (next != null) next.previous = previous;
+        else tails[bucket] = previous;
+        if (heads[bucket] == null && bucket != OVERFLOW) {
+            occupied[bucket >>> SLOT_BITS] &= ~(1L << (bucket & SLOT_MASK));
+        }
+        unlink(task);
+        this.size--;
+    }
+
+    /**
+     * Moves the wheel to {@code time}, expiring every task whose deadline has been reached.
+     */
+    void advance(long time) {
+        while (current < time) {
+            if (size == 0) {
+                this.current = time;
+                return;
+            }
+            final long next = nextSlotTime();
+            if (next > time) {
+                this.current = time;
+                return;
+            }
+            this.current = next;
+            // Move the tasks of the reached slots down, highest level first
+            if ((next & ((1L << RANGE_BITS) - 1)) == 0) cascade(OVERFLOW);
+            for (int level = LEVELS - 1; level > 0; level--) {
+                final int shift = level * SLOT_BITS;
+                if ((next & ((1L << shift) - 1)) != 0) continue;
+                cascade((level << SLOT_BITS) | (int) ((next >>> shift) & SLOT_MASK));
+            }
+            // Remaining tasks of the first level slot are due
+            final int bucket = (int) (next & SLOT_MASK);
+            TaskImpl task = detach(bucket);
+            while (task != null) {
+                final TaskImpl following = task.next;
+                unlink(task);
+                expired.accept(task);
+                task = following;
+            }
+        }
+    }
+
+    int size() {
+        return size;
+    }
+
+    private long nextSlotTime() {
+        long next = Long.MAX_VALUE;
+        for (int level = 0; level < LEVELS; level++) {
+            final long mask = occupied[level];
+            if (mask == 0) continue;
+            // Occupied slots are always ahead of the current one on their level
+            final int shift = level * SLOT_BITS;
+            final long base = (current >>> (shift + SLOT_BITS)) << (shift + SLOT_BITS);
+            next = Math.min(next, base | ((long) Long.numberOfTrailingZeros(mask) << shift));
+        }
+        if (heads[OVERFLOW] != null) next = Math.min(next, ((current >>> RANGE_BITS) + 1) << RANGE_BITS);
+        return next;
+    }
+
+    private void cascade(int bucket) {
+        TaskImpl task = detach(bucket);
+        while (task != null) {
+            final TaskImpl following = task.next;
+            unlink(task);
+            // Cancelled tasks are dropped here instead of being moved again
+            if (task.isAlive()) add(task);
+            task = following;
+        }
+    }
+
+    private TaskImpl detach(int bucket) {
+        final TaskImpl head = heads[bucket];
+        if (head == null) return null;
+        heads[bucket] = null;
+        tails[bucket] = null;
+        if (bucket != OVERFLOW) occupied[bucket >>> SLOT_BITS] &= ~(1L << (bucket & SLOT_MASK));
+        for (TaskImpl task = head; task != null; task = task.next) this.size--;
+        return head;
+    }
+
+    private static void unlink(TaskImpl task) {
+        task.wheel = null;
+        task.previous = null;
+        task.next = null;
+    }
+}
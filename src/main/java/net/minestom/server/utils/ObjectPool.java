@@ -3,12 +3,14 @@ package net.minestom.server.utils;
 import org.jctools.queues.MessagePassingQueue;
 import org.jctools.queues.MpmcUnboundedXaddArrayQueue;
 import org.jetbrains.annotations.ApiStatus;
+import org.jetbrains.annotations.Nullable;
 
 import java.lang.ref.Cleaner;
 import java.lang.ref.SoftReference;
 import java.util.Collection;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.Supplier;
 import java.util.function.UnaryOperator;
@@ -22,18 +24,30 @@ public final class ObjectPool<T> {
     private final MessagePassingQueue<SoftReference<T>> pool = new MpmcUnboundedXaddArrayQueue<>(QUEUE_SIZE);
     private final Supplier<T> supplier;
     private final UnaryOperator<T> sanitizer;
+    private final @Nullable Consumer<T> disposer;
+
+    /**
+     * Creates a pool releasing the objects it does not keep.
+     * <p>
+     * At most {@value QUEUE_SIZE} objects are pooled, the others are given to {@code disposer},
+     * as well as the objects removed by {@link #clear()}.
+     */
+    public static <T> ObjectPool<T> pool(Supplier<T> supplier, UnaryOperator<T> sanitizer, Consumer<T> disposer) {
+        return new ObjectPool<>(supplier, sanitizer, disposer);
+    }
 
     public static <T> ObjectPool<T> pool(Supplier<T> supplier, UnaryOperator<T> sanitizer) {
-        return new ObjectPool<>(supplier, sanitizer);
+        return new ObjectPool<>(supplier, sanitizer, null);
     }
 
     public static <T> ObjectPool<T> pool(Supplier<T> supplier) {
-        return new ObjectPool<>(supplier, UnaryOperator.identity());
+        return new ObjectPool<>(supplier, UnaryOperator.identity(), null);
     }
 
-    private ObjectPool(Supplier<T> supplier, UnaryOperator<T> sanitizer) {
+    private ObjectPool(Supplier<T> supplier, UnaryOperator<T> sanitizer, @Nullable Consumer<T> disposer) {
         this.supplier = supplier;
         this.sanitizer = sanitizer;
+        this.disposer = disposer;
     }
 
     public T get() {
@@ -52,12 +66,26 @@ public final class ObjectPool<T> {
     }
 
     public void add(T object) {
+        final Consumer<T> disposer = this.disposer;
+        if (disposer != null && pool.size() >= QUEUE_SIZE) {
+            disposer.accept(object);
+            return;
+        }
         object = sanitizer.apply(object);
         this.pool.offer(new SoftReference<>(object));
     }
 
     public void clear() {
-        this.pool.clear();
+        final Consumer<T> disposer = this.disposer;
+        if (disposer == null) {
+            this.pool.clear();
+            return;
+        }
+        SoftReference<T> ref;
+        while ((ref = pool.poll()) != null) {
+            final T object = ref.get();
+            if (object != null) disposer.accept(object);
+        }
     }
 
     public int count() {
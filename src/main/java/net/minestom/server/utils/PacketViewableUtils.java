@@ -1,5 +1,7 @@
 package net.minestom.server.utils;
 
+import it.unimi.dsi.fastutil.ints.Int2IntMap;
+import it.unimi.dsi.fastutil.ints.Int2IntOpenHashMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectMap;
 import it.unimi.dsi.fastutil.ints.Int2ObjectOpenHashMap;
 import it.unimi.dsi.fastutil.longs.LongArrayList;
@@ -9,9 +11,12 @@ import net.minestom.server.ServerFlag;
 import net.minestom.server.Viewable;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.instance.Instance;
 import net.minestom.server.network.ConnectionState;
 import net.minestom.server.network.NetworkBuffer;
 import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.server.BroadcastPacket;
 import net.minestom.server.network.packet.server.BufferedPacket;
 import net.minestom.server.network.packet.server.ServerPacket;
 import net.minestom.server.network.player.PlayerConnection;
@@ -19,14 +24,26 @@ import net.minestom.server.network.player.PlayerSocketConnection;
 import org.jetbrains.annotations.ApiStatus;
 import org.jetbrains.annotations.Nullable;
 
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Objects;
 import java.util.WeakHashMap;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.ToIntFunction;
 
 @ApiStatus.Internal
 public final class PacketViewableUtils {
+    /**
+     * Number of movement distance bands, band {@code n} receives entity movements every {@code 2^n} ticks.
+     */
+    public static final int MOVEMENT_BANDS = 4;
+
     // Viewable packets
     private static volatile Map<Viewable, ViewableStorage> storageMap = new WeakHashMap<>();
+    // Chunk packets for the viewers of a single movement band
+    private static volatile Map<Chunk, BandStorages> bandStorageMap = new WeakHashMap<>();
 
     public static void prepareViewablePacket(Viewable viewable, ServerPacket serverPacket,
                                              @Nullable Entity entity) {
@@ -62,11 +79,172 @@ public final class PacketViewableUtils {
         return storage;
     }
 
+    /**
+     * Prepares a packet for the viewers of a chunk within a movement band.
+     * <p>
+     * Packets are grouped per band, viewers are assigned to a band with {@link #movementBand(Chunk, Player)} when flushed.
+     *
+     * @param chunk        the chunk of the entity
+     * @param band         the band of the viewers receiving the packet
+     * @param serverPacket the packet to send
+     * @param entity       the entity excluded from the viewers
+     */
+    public static void prepareBandPacket(Chunk chunk, int band, ServerPacket serverPacket, Entity entity) {
+        final Player exception = entity instanceof Player ? (Player) entity : null;
+        retrieveBandStorage(chunk, band).append(serverPacket, exception);
+    }
+
+    /**
+     * Prepares a packet for the viewers of every movement band of a chunk.
+     * <p>
+     * Used for the packets which must stay ordered with the band packets, as band storages are flushed
+     * after the viewable ones.
+     *
+     * @param chunk        the chunk of the entity
+     * @param serverPacket the packet to send
+     * @param entity       the entity excluded from the viewers
+     */
+    public static void prepareBandsPacket(Chunk chunk, ServerPacket serverPacket, Entity entity) {
+        for (int band = 0; band < MOVEMENT_BANDS; band++) {
+            prepareBandPacket(chunk, band, serverPacket, entity);
+        }
+    }
+
+    /**
+     * Gets the movement band of a chunk viewer.
+     *
+     * @param chunk  the viewed chunk
+     * @param player the viewer
+     * @return the band, based on the chunk distance and {@link ServerFlag#ENTITY_MOVEMENT_LOD_DISTANCE}
+     */
+    public static int movementBand(Chunk chunk, Player player) {
+        if (ServerFlag.ENTITY_MOVEMENT_LOD_DISTANCE <= 0) return 0;
+        final int distance = Math.max(Math.abs(player.getPosition().chunkX() - chunk.getChunkX()),
+                Math.abs(player.getPosition().chunkZ() - chunk.getChunkZ()));
+        return Math.min(distance / ServerFlag.ENTITY_MOVEMENT_LOD_DISTANCE, MOVEMENT_BANDS - 1);
+    }
+
+    private static ViewableStorage retrieveBandStorage(Chunk chunk, int band) {
+        Map<Chunk, BandStorages> map = bandStorageMap;
+        BandStorages bandStorages = map.get(chunk);
+        if (bandStorages == null) {
+            synchronized (PacketViewableUtils.class) {
+                map = bandStorageMap;
+                bandStorages = map.get(chunk);
+                if (bandStorages == null) {
+                    bandStorages = new BandStorages();
+                    map = new WeakHashMap<>(map);
+                    map.put(chunk, bandStorages);
+                    bandStorageMap = map;
+                }
+            }
+        }
+        final ViewableStorage[] storages = bandStorages.storages;
+        ViewableStorage storage = storages[band];
+        if (storage == null) {
+            // Bands are only allocated once used
+            synchronized (storages) {
+                storage = storages[band];
+                if (storage == null) storages[band] = storage = new ViewableStorage();
+            }
+        }
+        return storage;
+    }
+
     public static void flush() {
         if (!ServerFlag.VIEWABLE_PACKET) return;
         Map<Viewable, ViewableStorage> map = storageMap;
         map.entrySet().parallelStream().forEach(entry ->
-                entry.getValue().process(entry.getKey()));
+                entry.getValue().process(entry.getKey().getViewers()));
+        Map<Chunk, BandStorages> bandMap = bandStorageMap;
+        if (!bandMap.isEmpty()) {
+            bandMap.entrySet().parallelStream().forEach(entry -> {
+                final Chunk chunk = entry.getKey();
+                processBands(chunk, entry.getValue(), chunk.getViewers(), player -> movementBand(chunk, player));
+            });
+        }
+    }
+
+    /**
+     * Flushes the band packets of a chunk to the given viewers.
+     * <p>
+     * Used by tests, as movement bands can only be enabled at startup.
+     */
+    static void flushBands(Chunk chunk, Collection<Player> viewers, ToIntFunction<Player> bandFunction) {
+        final BandStorages bandStorages = bandStorageMap.get(chunk);
+        if (bandStorages != null) processBands(chunk, bandStorages, viewers, bandFunction);
+    }
+
+    private static void processBands(Chunk chunk, BandStorages bandStorages, Collection<Player> chunkViewers,
+                                     ToIntFunction<Player> bandFunction) {
+        final ViewableStorage[] storages = bandStorages.storages;
+        boolean pending = false;
+        synchronized (storages) {
+            for (ViewableStorage storage : storages) {
+                if (storage != null && storage.hasPackets()) pending = true;
+            }
+        }
+        // Split the viewers once, every band is then sent as a single buffer
+        @SuppressWarnings("unchecked")
+        final List<Player>[] viewers = pending ? new List[MOVEMENT_BANDS] : null;
+        if (viewers != null) {
+            for (int band = 0; band < MOVEMENT_BANDS; band++) viewers[band] = new ArrayList<>();
+        }
+        // Viewers which just started viewing the chunk or changed band
+        List<Player> resynchronized = null;
+        final Int2IntOpenHashMap viewerBands = bandStorages.nextViewerBands;
+        final Int2IntOpenHashMap previousBands = bandStorages.viewerBands;
+        viewerBands.clear();
+        for (Player player : chunkViewers) {
+            final int band = bandFunction.applyAsInt(player);
+            if (viewers != null) viewers[band].add(player);
+            viewerBands.put(player.getEntityId(), band);
+            if (previousBands.get(player.getEntityId()) != band) {
+                if (resynchronized == null) resynchronized = new ArrayList<>();
+                resynchronized.add(player);
+            }
+        }
+        bandStorages.nextViewerBands = previousBands;
+        bandStorages.viewerBands = viewerBands;
+        if (viewers != null) {
+            for (int band = 0; band < MOVEMENT_BANDS; band++) {
+                final ViewableStorage storage;
+                synchronized (storages) {
+                    storage = storages[band];
+                }
+                if (storage != null) storage.process(viewers[band]);
+            }
+        }
+        if (resynchronized != null) resynchronize(chunk, resynchronized, viewerBands);
+    }
+
+    /**
+     * Sends the absolute position of the chunk entities to viewers whose band changed,
+     * their next relative movements are based on the position last sent to their new band.
+     */
+    private static void resynchronize(Chunk chunk, List<Player> players, Int2IntMap viewerBands) {
+        final Instance instance = chunk.getInstance();
+        for (Entity entity : instance.getChunkEntities(chunk)) {
+            // Other entities are updated at full rate
+            if (!entity.hasPredictableViewers()) continue;
+            for (Player player : players) {
+                if (entity == player || !entity.isViewer(player)) continue;
+                player.sendPacket(entity.getMovementBandSyncPacket(viewerBands.get(player.getEntityId())));
+            }
+        }
+    }
+
+    private static final class BandStorages {
+        final ViewableStorage[] storages = new ViewableStorage[MOVEMENT_BANDS];
+        // Viewer id -> band of the last flush, swapped on every flush
+        // Only accessed by the thread flushing the chunk
+        Int2IntOpenHashMap viewerBands = bandMap(), nextViewerBands = bandMap();
+
+        private static Int2IntOpenHashMap bandMap() {
+            Int2IntOpenHashMap map = new Int2IntOpenHashMap();
+            map.defaultReturnValue(-1);
+            return map;
+        }
     }
 
     public static void prepareViewablePacket(Viewable viewable, ServerPacket serverPacket) {
@@ -76,12 +254,18 @@ public final class PacketViewableUtils {
     private static final class ViewableStorage {
         private static final ObjectPool<NetworkBuffer> POOL = ObjectPool.pool(
                 () -> NetworkBuffer.resizableBuffer(ServerFlag.POOLED_BUFFER_SIZE, MinecraftServer.process()),
-                NetworkBuffer::clear);
+                NetworkBuffer::clear, NetworkBuffer::release);
         // Player id -> list of offsets to ignore (32:32 bits)
         private final Int2ObjectMap<LongArrayList> entityIdMap = new Int2ObjectOpenHashMap<>();
-        private final NetworkBuffer buffer = POOL.getAndRegister(this);
+        // Swapped with a new pooled buffer when shared as a broadcast segment
+        private final AtomicReference<NetworkBuffer> bufferRef = new AtomicReference<>(POOL.get());
+
+        ViewableStorage() {
+            POOL.register(this, bufferRef);
+        }
 
         private synchronized void append(ServerPacket serverPacket, @Nullable Player exception) {
+            final NetworkBuffer buffer = bufferRef.get();
             final long start = buffer.writeIndex();
             // Viewable storage is only used for play packets, so fine to assume this.
             PacketWriting.writeFramedPacket(buffer, ConnectionState.PLAY, serverPacket, MinecraftServer.getCompressionThreshold());
@@ -93,12 +277,37 @@ public final class PacketViewableUtils {
             }
         }
 
-        private synchronized void process(Viewable viewable) {
+        private synchronized boolean hasPackets() {
+            return bufferRef.get().writeIndex() != 0;
+        }
+
+        private synchronized void process(Collection<Player> viewers) {
+            final NetworkBuffer buffer = bufferRef.get();
             if (buffer.writeIndex() == 0) return;
+            if (ServerFlag.VIEWABLE_PACKET_BROADCAST) {
+                processBroadcast(viewers, buffer);
+                return;
+            }
             NetworkBuffer copy = buffer.copy(0, buffer.writeIndex());
             copy.readOnly();
-            viewable.getViewers().forEach(player -> processPlayer(player, copy));
-            this.buffer.clear();
+            viewers.forEach(player -> processPlayer(player, copy));
+            buffer.clear();
+            this.entityIdMap.clear();
+        }
+
+        private void processBroadcast(Collection<Player> viewers, NetworkBuffer buffer) {
+            // Hand the whole buffer to the viewers, it comes back to the pool once written to every connection
+            this.bufferRef.set(POOL.get());
+            BroadcastPacket.Segment segment = new BroadcastPacket.Segment(buffer, buffer.writeIndex(), POOL::add);
+            for (Player player : viewers) {
+                if (!(player.getPlayerConnection() instanceof PlayerSocketConnection socketConnection)) {
+                    continue; // TODO for non-socket connection
+                }
+                final LongArrayList pairs = entityIdMap.get(player.getEntityId());
+                final long[] exclusions = pairs != null ? pairs.toLongArray() : null;
+                socketConnection.sendPacket(new BroadcastPacket(segment.retain(), exclusions));
+            }
+            segment.release();
             this.entityIdMap.clear();
         }
 
@@ -10,6 +10,9 @@ import org.junit.jupiter.api.Test;
 import java.util.Set;
 import java.util.UUID;
 
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
 @SuppressWarnings("ConstantConditions")
 public class CommandPacketFilteringTest {
     private static final Player PLAYER = new Player(null, new GameProfile(UUID.randomUUID(), "Test"));
@@ -199,6 +202,26 @@ public class CommandPacketFilteringTest {
                 """);
     }
 
+    @Test
+    public void cachedPacketPerCondition() {
+        final CommandManager manager = new CommandManager();
+        final Command foo = new Command("foo");
+        foo.setCondition((sender, commandString) -> ((Player) sender).getUsername().startsWith("admin"));
+        manager.register(foo);
+
+        final Player admin1 = new Player(null, new GameProfile(UUID.randomUUID(), "admin1"));
+        final Player admin2 = new Player(null, new GameProfile(UUID.randomUUID(), "admin2"));
+        final Player user = new Player(null, new GameProfile(UUID.randomUUID(), "user"));
+        final var adminPacket = manager.declareCommandsPacket(admin1);
+        assertSame(adminPacket, manager.declareCommandsPacket(admin2));
+        assertNotSame(adminPacket, manager.declareCommandsPacket(user));
+
+        // Registering a command invalidates every packet
+        manager.register(new Command("bar"));
+        assertNotSame(adminPacket, manager.declareCommandsPacket(admin1));
+        assertSame(manager.declareCommandsPacket(admin1), manager.declareCommandsPacket(admin2));
+    }
+
     private void assertFiltering(Command command, String expectedStructure) {
         final DeclareCommandsPacket packet = GraphConverter.createPacket(Graph.merge(Set.of(command)), PLAYER);
         CommandTestUtils.assertPacket(packet, expectedStructure);
@@ -0,0 +1,167 @@
+package net.minestom.server.entity;
+
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.damage.DamageType;
+import net.minestom.server.instance.InstanceContainer;
+import net.minestom.server.instance.block.Block;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class EntityActivationIntegrationTest {
+    private static final int INTERVAL = 20;
+    private static final EntityActivation SLEEPING = new EntityActivation(0, true, INTERVAL);
+    private static final EntityActivation RANGE = new EntityActivation(32, false, INTERVAL);
+
+    @Test
+    public void disabledByDefault(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 40, 0)).join();
+        for (int i = 0; i < 40; i++) env.tick();
+        assertFalse(entity.isResting());
+    }
+
+    @Test
+    public void restOnGround(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 42, 0)).join();
+        assertFalse(entity.isResting());
+
+        // Falls, then stays still on the ground
+        tick(entity, SLEEPING, 40);
+        assertTrue(entity.isResting());
+
+        entity.setVelocity(new Vec(0, 10, 0));
+        tick(entity, SLEEPING, 1);
+        assertFalse(entity.isResting());
+    }
+
+    @Test
+    public void sleepingSkipsPhysics(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        final Pos position = new Pos(0.5, 40, 0.5);
+        entity.setInstance(instance, position).join();
+        tick(entity, SLEEPING, 30);
+        assertTrue(entity.isResting());
+        // Wait for the tick after a full tick
+        while (!isFullTick(entity, 1)) tick(entity, SLEEPING, 1);
+
+        // Not woken up by the block change, the server flag is disabled
+        instance.setBlock(0, 39, 0, Block.AIR);
+        while (!isFullTick(entity, 0)) {
+            tick(entity, SLEEPING, 1);
+            assertTrue(entity.isResting());
+            assertEquals(position, entity.getPosition());
+        }
+        // The periodic full tick notices the missing ground
+        tick(entity, SLEEPING, 1);
+        assertFalse(entity.isResting());
+        tick(entity, SLEEPING, 5);
+        assertTrue(entity.getPosition().y() < position.y());
+    }
+
+    @Test
+    public void wakeSleeping(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        final Pos position = new Pos(0.5, 40, 0.5);
+        entity.setInstance(instance, position).join();
+        tick(entity, SLEEPING, 30);
+        assertTrue(entity.isResting());
+
+        instance.setBlock(0, 39, 0, Block.AIR);
+        entity.wake();
+        tick(entity, SLEEPING, 5);
+        assertTrue(entity.getPosition().y() < position.y());
+    }
+
+    @Test
+    public void outOfRange(Env env) {
+        var instance = env.createFlatInstance();
+        var updates = new int[1];
+        var entity = new Entity(EntityType.ZOMBIE) {
+            @Override
+            public void update(long time) {
+                updates[0]++;
+            }
+        };
+        entity.setInstance(instance, new Pos(0, 40, 0)).join();
+        // The range is checked on full ticks
+        while (!isFullTick(entity, 0)) tick(entity, RANGE, 1);
+        tick(entity, RANGE, 1);
+
+        // Only full ticks are run without players
+        updates[0] = 0;
+        tick(entity, RANGE, 2 * INTERVAL);
+        assertEquals(2, updates[0]);
+
+        // Active again from the next full tick
+        env.createPlayer(instance, new Pos(0, 40, 10));
+        tick(entity, RANGE, INTERVAL);
+        updates[0] = 0;
+        tick(entity, RANGE, 10);
+        assertEquals(10, updates[0]);
+    }
+
+    @Test
+    public void sharedInstanceInRange(Env env) {
+        var container = (InstanceContainer) env.createFlatInstance();
+        var shared = env.process().instance().createSharedInstance(container);
+        var updates = new int[1];
+        var entity = new Entity(EntityType.ZOMBIE) {
+            @Override
+            public void update(long time) {
+                updates[0]++;
+            }
+        };
+        entity.setInstance(container, new Pos(0, 40, 0)).join();
+        // Players of the shared instance see the container entities
+        env.createPlayer(shared, new Pos(0, 40, 10));
+        while (!isFullTick(entity, 0)) tick(entity, RANGE, 1);
+        tick(entity, RANGE, 1);
+
+        updates[0] = 0;
+        tick(entity, RANGE, 10);
+        assertEquals(10, updates[0]);
+    }
+
+    @Test
+    public void wakeOnTeleport(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 40, 0)).join();
+        tick(entity, SLEEPING, 30);
+        assertTrue(entity.isResting());
+
+        entity.teleport(new Pos(0, 45, 0)).join();
+        tick(entity, SLEEPING, 1);
+        assertFalse(entity.isResting());
+    }
+
+    @Test
+    public void wakeOnDamage(Env env) {
+        var instance = env.createFlatInstance();
+        var entity = new LivingEntity(EntityType.ZOMBIE);
+        entity.setInstance(instance, new Pos(0, 40, 0)).join();
+        tick(entity, SLEEPING, 30);
+        assertTrue(entity.isResting());
+
+        entity.damage(DamageType.GENERIC, 1);
+        assertFalse(entity.isResting());
+    }
+
+    private static void tick(Entity entity, EntityActivation activation, int ticks) {
+        for (int i = 0; i < ticks; i++) entity.tick(System.currentTimeMillis(), activation);
+    }
+
+    private static boolean isFullTick(Entity entity, int offset) {
+        return (entity.getAliveTicks() + entity.getEntityId()) % INTERVAL == offset;
+    }
+}
@@ -74,6 +74,42 @@ public class EntityMetaIntegrationTest {
         assertEquals(4, packets.size());
     }
 
+    @Test
+    public void coalesceChanges(Env env) {
+        var instance = env.createFlatInstance();
+        var connection = env.createConnection();
+        var player = connection.connect(instance, new Pos(0, 42, 0));
+
+        var incomingPackets = connection.trackIncoming(EntityMetaDataPacket.class);
+        player.getEntityMeta().setCoalesceChanges(true);
+        player.setInvisible(true);
+        player.setNoGravity(true);
+        player.setSneaking(true);
+        // Changes are only marked until the end of the entity tick
+        incomingPackets.assertEmpty();
+
+        incomingPackets = connection.trackIncoming(EntityMetaDataPacket.class);
+        env.tick();
+        var packets = incomingPackets.collect();
+        assertEquals(1, packets.size());
+        var entries = packets.getFirst().entries();
+        assertEquals((byte) 34, entries.get(0).value());
+        assertEquals(true, entries.get(5).value());
+        assertEquals(EntityPose.SNEAKING, entries.get(6).value());
+
+        // Nothing left to send
+        incomingPackets = connection.trackIncoming(EntityMetaDataPacket.class);
+        env.tick();
+        incomingPackets.assertEmpty();
+
+        // Disabling the mode sends pending changes immediately
+        incomingPackets = connection.trackIncoming(EntityMetaDataPacket.class);
+        player.setInvisible(false);
+        player.getEntityMeta().setCoalesceChanges(false);
+        player.setSneaking(false);
+        assertEquals(3, incomingPackets.collect().size());
+    }
+
     private void validMetaDataPackets(List<EntityMetaDataPacket> packets, int entityId, Consumer<Metadata.Entry<?>> contentChecker) {
         for (var packet : packets) {
             assertEquals(packet.entityId(), entityId);
@@ -1,6 +1,8 @@
 package net.minestom.server.entity.pathfinding;
 
+import net.minestom.server.collision.BoundingBox;
 import net.minestom.server.coordinate.ChunkRange;
+import net.minestom.server.coordinate.Point;
 import net.minestom.server.coordinate.Pos;
 import net.minestom.server.entity.EntityType;
 import net.minestom.server.entity.LivingEntity;
@@ -11,6 +13,8 @@ import net.minestom.testing.Env;
 import net.minestom.testing.EnvTest;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
@@ -207,4 +211,93 @@ public class PathfinderIntegrationTest {
         var snapped = nodeGenerator.gravitySnap(i, -140.74433362614695, 40.58268292446131, 18.87966960447388, zombie.getBoundingBox(), 100);
         assertEquals(40.0, snapped.getAsDouble());
     }
+
+    @Test
+    public void testBudgetTermination(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> {
+            i.loadChunk(x, z).join();
+        });
+
+        var zombie = new LivingEntity(EntityType.ZOMBIE);
+        var path = new PPath(200, 20, null);
+        List<Integer> acquired = new ArrayList<>();
+        PathGenerator.generate(i, new Pos(0, 40, 0), new Pos(0, 40, 100), 1, 200, 20,
+                zombie.getBoundingBox(), true, new GroundNodeGenerator(), path, nodes -> {
+                    acquired.add(nodes);
+                    return false;
+                });
+        assertEquals(List.of(PathGenerator.BUDGET_BATCH), acquired);
+        assertEquals(PPath.State.TERMINATED, path.getState());
+    }
+
+    @Test
+    public void testSearchReuse(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> {
+            i.loadChunk(x, z).join();
+        });
+        i.setBlock(0, 40, 5, Block.STONE);
+        i.setBlock(0, 41, 5, Block.STONE);
+
+        var zombie = new LivingEntity(EntityType.ZOMBIE);
+        // Searches on the same thread share their buffers
+        var first = PathGenerator.generate(i, new Pos(0, 40, 0), new Pos(0, 40, 10), 1, 50, 20,
+                zombie.getBoundingBox(), true, new GroundNodeGenerator(), null);
+        PathGenerator.generate(i, new Pos(20, 40, 20), new Pos(-20, 40, -20), 1, 50, 20,
+                zombie.getBoundingBox(), true, new GroundNodeGenerator(), null);
+        var second = PathGenerator.generate(i, new Pos(0, 40, 0), new Pos(0, 40, 10), 1, 50, 20,
+                zombie.getBoundingBox(), true, new GroundNodeGenerator(), null);
+
+        assertEquals(PPath.State.COMPUTED, first.getState());
+        assertEquals(first.getState(), second.getState());
+        assertEquals(first.getNodes().size(), second.getNodes().size());
+        for (int n = 0; n < first.getNodes().size(); n++) {
+            var a = first.getNodes().get(n);
+            var b = second.getNodes().get(n);
+            assertEquals(a.x(), b.x());
+            assertEquals(a.y(), b.y());
+            assertEquals(a.z(), b.z());
+        }
+        validateNodes(first.getNodes(), i);
+    }
+
+    @Test
+    public void testVisitedSet(Env env) {
+        var i = env.createFlatInstance();
+
+        ChunkRange.chunksInRange(0, 0, 10, (x, z) -> {
+            i.loadChunk(x, z).join();
+        });
+
+        var zombie = new LivingEntity(EntityType.ZOMBIE);
+        List<Integer> sizes = new ArrayList<>();
+        var generator = new GroundNodeGenerator() {
+            @Override
+            public Collection<? extends PNode> getWalkable(Block.Getter getter, Set<PNode> visited, PNode current, Point goal, BoundingBox boundingBox) {
+                // The visited set must behave as a regular set
+                Set<PNode> copy = new HashSet<>(visited);
+                assertEquals(visited.size(), copy.size());
+                assertTrue(visited.containsAll(copy));
+                if (!copy.isEmpty()) {
+                    var node = copy.iterator().next();
+                    assertTrue(visited.remove(node));
+                    assertFalse(visited.contains(node));
+                    assertEquals(copy.size() - 1, visited.size());
+                    assertTrue(visited.add(node));
+                    assertFalse(visited.add(node));
+                    assertEquals(copy, new HashSet<>(visited));
+                }
+                sizes.add(visited.size());
+                return super.getWalkable(getter, visited, current, goal, boundingBox);
+            }
+        };
+        var path = PathGenerator.generate(i, new Pos(0, 40, 0), new Pos(0, 40, 10), 1, 50, 20,
+                zombie.getBoundingBox(), true, generator, null);
+
+        assertEquals(PPath.State.COMPUTED, path.getState());
+        assertTrue(sizes.getLast() > 0);
+    }
 }
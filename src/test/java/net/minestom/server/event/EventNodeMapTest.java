@@ -8,7 +8,10 @@ import net.minestom.server.item.Material;
 import org.junit.jupiter.api.Test;
 
 import java.lang.ref.WeakReference;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static net.minestom.testing.TestUtils.waitUntilCleared;
 import static org.junit.jupiter.api.Assertions.*;
@@ -75,6 +78,40 @@ public class EventNodeMapTest {
         assertFalse(result.get());
     }
 
+    @Test
+    public void mapEquality() {
+        var node = EventNode.all("main");
+        AtomicInteger calls = new AtomicInteger();
+        node.map(ItemStack.of(Material.DIAMOND), EventFilter.ITEM)
+                .addListener(EventNodeTest.ItemTestEvent.class, event -> calls.incrementAndGet());
+
+        // Items are compared by equality, not by identity
+        node.call(new EventNodeTest.ItemTestEvent(ItemStack.of(Material.DIAMOND)));
+        assertEquals(1, calls.get());
+    }
+
+    @Test
+    public void mapMany() {
+        MinecraftServer.updateProcess();
+        var node = EventNode.all("main");
+        List<Entity> entities = new ArrayList<>();
+        int[] calls = new int[100];
+        for (int i = 0; i < calls.length; i++) {
+            final int index = i;
+            var entity = new Entity(EntityType.ZOMBIE);
+            entities.add(entity);
+            node.map(entity, EventFilter.ENTITY)
+                    .addListener(EventNodeTest.EntityTestEvent.class, event -> calls[index]++);
+        }
+        for (int i = 0; i < calls.length; i++) {
+            node.call(new EventNodeTest.EntityTestEvent(entities.get(i)));
+            assertEquals(1, calls[i]);
+        }
+
+        node.call(new EventNodeTest.EntityTestEvent(new Entity(EntityType.ZOMBIE)));
+        for (int count : calls) assertEquals(1, count);
+    }
+
     @Test
     public void entityLocal() {
         var process = MinecraftServer.updateProcess();
@@ -0,0 +1,48 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkPacketPreparerIntegrationTest {
+
+    @Test
+    public void preparedEqualsSerial(Env env) throws Exception {
+        var instance = env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        var packet = (CachedPacket) chunk.getFullDataPacket();
+
+        ExecutorService executor = Executors.newSingleThreadExecutor();
+        try {
+            for (int i = 0; i < 3; i++) {
+                instance.setBlock(i, 40 + i, 0, Block.DIAMOND_BLOCK);
+                assertFalse(packet.isValid());
+                assertTrue(ChunkPacketPreparer.prepare(chunk, executor));
+                executor.submit(() -> {}).get(5, TimeUnit.SECONDS);
+                assertFalse(ChunkPacketPreparer.isPreparing(chunk));
+                assertTrue(packet.isValid());
+                // Nothing to do for an already valid packet
+                assertFalse(ChunkPacketPreparer.prepare(chunk, executor));
+                final NetworkBuffer prepared = packet.body(ConnectionState.PLAY);
+
+                packet.invalidate();
+                final NetworkBuffer serial = packet.body(ConnectionState.PLAY);
+                assertNotSame(prepared, serial);
+                assertTrue(NetworkBuffer.equals(prepared, serial));
+            }
+        } finally {
+            executor.shutdown();
+        }
+    }
+}
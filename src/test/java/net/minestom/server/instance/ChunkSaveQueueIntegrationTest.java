@@ -0,0 +1,110 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.tag.Tag;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.jetbrains.annotations.Nullable;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class ChunkSaveQueueIntegrationTest {
+
+    @Test
+    public void skipUnmodified(Env env) {
+        RecordingLoader loader = new RecordingLoader();
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        ChunkSaveQueue queue = new ChunkSaveQueue(instance);
+        Chunk chunk = instance.loadChunk(0, 0).join();
+
+        // Generated chunks have never been saved
+        queue.save(chunk).join();
+        assertEquals(1, loader.saved.size());
+        queue.save(chunk).join();
+        assertEquals(1, loader.saved.size());
+
+        instance.setBlock(0, 50, 0, Block.STONE);
+        queue.save(chunk).join();
+        assertEquals(2, loader.saved.size());
+        assertEquals(Block.STONE, block(loader.saved.getLast()));
+
+        chunk.setTag(Tag.Integer("value"), 5);
+        queue.save(chunk).join();
+        assertEquals(3, loader.saved.size());
+        assertEquals(5, loader.saved.getLast().getTag(Tag.Integer("value")));
+    }
+
+    @Test
+    public void snapshotIsolation(Env env) {
+        RecordingLoader loader = new RecordingLoader();
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        ChunkSaveQueue queue = new ChunkSaveQueue(instance);
+        Chunk chunk = instance.loadChunk(0, 0).join();
+
+        instance.setBlock(0, 50, 0, Block.STONE);
+        var future = queue.save(chunk);
+        instance.setBlock(0, 50, 0, Block.DIRT);
+        future.join();
+        assertEquals(Block.STONE, block(loader.saved.getLast()));
+    }
+
+    @Test
+    public void restorePending(Env env) {
+        RecordingLoader loader = new RecordingLoader();
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        ChunkSaveQueue queue = new ChunkSaveQueue(instance);
+        assertNull(queue.restore(0, 0));
+
+        Chunk chunk = instance.loadChunk(0, 0).join();
+        instance.setBlock(0, 50, 0, Block.STONE);
+        queue.save(chunk).join();
+        // Written, no longer pending
+        assertNull(queue.restore(0, 0));
+    }
+
+    @Test
+    public void unloadAfterWrite(Env env) {
+        RecordingLoader loader = new RecordingLoader();
+        var instance = (InstanceContainer) env.createFlatInstance(loader);
+        ChunkSaveQueue queue = new ChunkSaveQueue(instance);
+        Chunk chunk = instance.loadChunk(0, 0).join();
+
+        var future = queue.save(chunk);
+        queue.unload(chunk);
+        future.join();
+        queue.close();
+        assertEquals(1, loader.saved.size());
+        assertEquals(List.of(chunk), loader.unloaded);
+    }
+
+    private static Block block(Chunk chunk) {
+        synchronized (chunk) {
+            return chunk.getBlock(0, 50, 0);
+        }
+    }
+
+    static final class RecordingLoader implements ChunkLoader {
+        final List<Chunk> saved = new CopyOnWriteArrayList<>();
+        final List<Chunk> unloaded = new CopyOnWriteArrayList<>();
+
+        @Override
+        public @Nullable Chunk loadChunk(Instance instance, int chunkX, int chunkZ) {
+            return null;
+        }
+
+        @Override
+        public void saveChunk(Chunk chunk) {
+            saved.add(chunk);
+        }
+
+        @Override
+        public void unloadChunk(Chunk chunk) {
+            unloaded.add(chunk);
+        }
+    }
+}
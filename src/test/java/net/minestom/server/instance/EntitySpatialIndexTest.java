@@ -0,0 +1,96 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EntitySpatialIndexTest {
+    @Test
+    public void sphere() {
+        var index = new EntitySpatialIndex();
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        index.add(ent1, new Vec(0, 40, 0));
+        index.add(ent2, new Vec(20, 40, 0));
+
+        assertEquals(List.of(ent1), sphere(index, new Vec(1, 40, 0), 5));
+        assertEquals(2, sphere(index, new Vec(10, 40, 0), 10).size());
+        // Large query scanning every slot
+        assertEquals(2, sphere(index, Vec.ZERO, 1000).size());
+
+        index.move(ent2, new Vec(2, 40, 0));
+        assertEquals(2, sphere(index, new Vec(1, 40, 0), 5).size());
+
+        index.remove(ent1);
+        assertEquals(List.of(ent2), sphere(index, new Vec(1, 40, 0), 5));
+        index.remove(ent2);
+        assertTrue(sphere(index, new Vec(1, 40, 0), 5).isEmpty());
+    }
+
+    @Test
+    public void box() {
+        var index = new EntitySpatialIndex();
+        var entity = new Entity(EntityType.ZOMBIE);
+        entity.setBoundingBox(20, 2, 20);
+        index.add(entity, new Vec(0, 40, 0));
+
+        // Position outside of the queried box, but not its bounding box
+        List<Entity> result = new ArrayList<>();
+        index.box(8, 40, 8, 9, 41, 9, result);
+        assertEquals(List.of(entity), result);
+
+        result.clear();
+        index.box(11, 40, 11, 12, 41, 12, result);
+        assertTrue(result.isEmpty());
+    }
+
+    @Test
+    public void extentShrinks() {
+        var index = new EntitySpatialIndex();
+        var small = new Entity(EntityType.ZOMBIE);
+        small.setBoundingBox(1, 2, 1);
+        var large = new Entity(EntityType.ZOMBIE);
+        large.setBoundingBox(20, 2, 20);
+        index.add(small, new Vec(0, 40, 0));
+        index.add(large, new Vec(50, 40, 0));
+        assertEquals(10, index.maxExtent());
+
+        // Queries are no longer widened once the large box is gone
+        index.remove(large);
+        assertEquals(2, index.maxExtent());
+        index.add(large, new Vec(50, 40, 0));
+        large.setBoundingBox(1, 1, 1);
+        index.move(large, new Vec(50, 40, 0));
+        assertEquals(2, index.maxExtent());
+        index.remove(small);
+        index.remove(large);
+        assertEquals(0, index.maxExtent());
+    }
+
+    @Test
+    public void slotReuse() {
+        var index = new EntitySpatialIndex();
+        List<Entity> entities = new ArrayList<>();
+        for (int i = 0; i < 200; i++) {
+            var entity = new Entity(EntityType.ZOMBIE);
+            entities.add(entity);
+            index.add(entity, new Vec(i % 16, 40, i / 16));
+        }
+        for (int i = 0; i < 200; i += 2) index.remove(entities.get(i));
+        for (int i = 0; i < 200; i += 2) index.add(entities.get(i), new Vec(100, 40, 100));
+        assertEquals(100, sphere(index, new Vec(100, 40, 100), 1).size());
+        assertEquals(100, sphere(index, new Vec(8, 40, 6), 20).size());
+    }
+
+    private static List<Entity> sphere(EntitySpatialIndex index, Vec point, double range) {
+        List<Entity> result = new ArrayList<>();
+        index.sphere(point, range, result);
+        return result;
+    }
+}
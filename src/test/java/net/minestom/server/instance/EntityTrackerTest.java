@@ -5,6 +5,8 @@ import net.minestom.server.coordinate.Vec;
 import net.minestom.server.entity.Entity;
 import net.minestom.server.entity.EntityType;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import java.util.HashSet;
 import java.util.Set;
@@ -246,4 +248,39 @@ public class EntityTrackerTest {
         assertThrows(Exception.class, () -> entities.add(new Entity(EntityType.ZOMBIE)));
         assertThrows(Exception.class, () -> chunkEntities.add(new Entity(EntityType.ZOMBIE)));
     }
+
+    @Test
+    public void intersecting() {
+        var ent1 = new Entity(EntityType.ZOMBIE);
+        var ent2 = new Entity(EntityType.ZOMBIE);
+        EntityTracker tracker = EntityTracker.newTracker();
+        tracker.register(ent1, new Vec(0, 40, 0), EntityTracker.Target.ENTITIES, null);
+        tracker.register(ent2, new Vec(15.9, 40, 0), EntityTracker.Target.ENTITIES, null);
+
+        Set<Entity> result = new HashSet<>();
+        // Second entity crosses into the neighbour chunk
+        tracker.intersectingEntities(new Vec(16, 40, -1), new Vec(17, 41, 1), EntityTracker.Target.ENTITIES, result::add);
+        assertEquals(Set.of(ent2), result);
+
+        result.clear();
+        tracker.intersectingEntities(new Vec(-1, 40, -1), new Vec(16, 41, 1), EntityTracker.Target.ENTITIES, result::add);
+        assertEquals(Set.of(ent1, ent2), result);
+    }
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void intersectingBoundingBoxUpdate(boolean spatialIndex) {
+        var entity = new Entity(EntityType.ZOMBIE);
+        EntityTracker tracker = new EntityTrackerImpl(spatialIndex);
+        tracker.register(entity, new Vec(0, 40, 0), EntityTracker.Target.ENTITIES, null);
+
+        Set<Entity> result = new HashSet<>();
+        tracker.intersectingEntities(new Vec(4, 40, -1), new Vec(5, 41, 1), EntityTracker.Target.ENTITIES, result::add);
+        assertEquals(Set.of(), result);
+
+        entity.setBoundingBox(10, 2, 10);
+        tracker.boundingBoxUpdate(entity);
+        tracker.intersectingEntities(new Vec(4, 40, -1), new Vec(5, 41, 1), EntityTracker.Target.ENTITIES, result::add);
+        assertEquals(Set.of(entity), result);
+    }
 }
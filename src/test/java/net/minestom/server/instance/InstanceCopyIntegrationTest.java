@@ -0,0 +1,56 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.instance.block.Block;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.packet.server.CachedPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class InstanceCopyIntegrationTest {
+
+    @Test
+    public void copyOnWrite(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+
+        var copy = instance.copy();
+        env.process().instance().registerInstance(copy);
+        assertEquals(Block.STONE, copy.getBlock(0, 39, 0));
+
+        copy.setBlock(0, 39, 0, Block.DIAMOND_BLOCK);
+        assertEquals(Block.DIAMOND_BLOCK, copy.getBlock(0, 39, 0));
+        assertEquals(Block.STONE, instance.getBlock(0, 39, 0));
+
+        instance.setBlock(1, 39, 0, Block.GOLD_BLOCK);
+        assertEquals(Block.GOLD_BLOCK, instance.getBlock(1, 39, 0));
+        assertEquals(Block.STONE, copy.getBlock(1, 39, 0));
+        assertEquals(Block.DIAMOND_BLOCK, copy.getBlock(0, 39, 0));
+    }
+
+    @Test
+    public void sharedChunkPacket(Env env) {
+        var instance = (InstanceContainer) env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        var packet = (CachedPacket) chunk.getFullDataPacket();
+        var body = packet.body(ConnectionState.PLAY);
+        assertNotNull(body);
+
+        var copy = instance.copy();
+        env.process().instance().registerInstance(copy);
+        var copiedChunk = copy.getChunk(0, 0);
+        assertNotNull(copiedChunk);
+        var copiedPacket = (CachedPacket) copiedChunk.getFullDataPacket();
+        assertTrue(copiedPacket.isValid());
+        assertSame(body, copiedPacket.body(ConnectionState.PLAY));
+
+        // Modifications only invalidate the modified chunk
+        copy.setBlock(0, 39, 0, Block.DIAMOND_BLOCK);
+        assertFalse(copiedPacket.isValid());
+        assertTrue(packet.isValid());
+        assertNotSame(body, copiedPacket.body(ConnectionState.PLAY));
+    }
+}
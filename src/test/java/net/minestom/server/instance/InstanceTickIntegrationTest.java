@@ -0,0 +1,39 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.event.instance.InstanceTickEvent;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+@EnvTest
+public class InstanceTickIntegrationTest {
+
+    @Test
+    public void sharedInstanceOrder(Env env) {
+        var instanceManager = env.process().instance();
+        var container = instanceManager.createInstanceContainer();
+        var shared = instanceManager.createSharedInstance(container);
+
+        List<Instance> ticked = new CopyOnWriteArrayList<>();
+        env.process().eventHandler().addListener(InstanceTickEvent.class, event -> {
+            final Instance instance = event.getInstance();
+            if (instance == container || instance == shared) ticked.add(instance);
+        });
+        env.tick();
+        assertEquals(List.of(container, shared), ticked);
+    }
+
+    @Test
+    public void tickDuration(Env env) {
+        var instance = env.createFlatInstance();
+        assertEquals(0, instance.getTickDuration());
+        env.tick();
+        assertTrue(instance.getTickDuration() > 0);
+    }
+}
@@ -0,0 +1,123 @@
+package net.minestom.server.instance;
+
+import net.minestom.server.event.instance.InstanceTickEvent;
+import net.minestom.server.world.DimensionType;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@EnvTest
+public class InstanceTickerIntegrationTest {
+
+    @Test
+    public void parallel(Env env) {
+        var instanceManager = env.process().instance();
+        List<Instance> instances = List.of(instanceManager.createInstanceContainer(), instanceManager.createInstanceContainer(),
+                instanceManager.createInstanceContainer(), instanceManager.createInstanceContainer());
+
+        // Every tick waits for the others, which only completes if they run at the same time
+        CountDownLatch latch = new CountDownLatch(instances.size());
+        AtomicBoolean concurrent = new AtomicBoolean(true);
+        Set<String> threads = ConcurrentHashMap.newKeySet();
+        env.process().eventHandler().addListener(InstanceTickEvent.class, event -> {
+            threads.add(Thread.currentThread().getName());
+            latch.countDown();
+            try {
+                if (!latch.await(5, TimeUnit.SECONDS)) concurrent.set(false);
+            } catch (InterruptedException e) {
+                concurrent.set(false);
+            }
+        });
+        var ticker = new InstanceTicker(instances.size());
+        try {
+            ticker.tick(instances, System.currentTimeMillis());
+        } finally {
+            ticker.shutdown();
+        }
+        assertTrue(concurrent.get());
+        assertEquals(instances.size(), threads.size());
+        for (String thread : threads) assertTrue(thread.startsWith("Ms-InstanceTick-"), thread);
+        for (Instance instance : instances) assertTrue(instance.getTickDuration() > 0);
+    }
+
+    @Test
+    public void groups(Env env) {
+        var instanceManager = env.process().instance();
+        var container = instanceManager.createInstanceContainer();
+        var shared1 = instanceManager.createSharedInstance(container);
+        var shared2 = instanceManager.createSharedInstance(container);
+        var other = instanceManager.createInstanceContainer();
+
+        // Shared instances first, the container must still lead its group
+        var groups = InstanceTicker.groups(List.of(shared1, other, shared2, container));
+        assertEquals(2, groups.size());
+        assertTrue(groups.contains(List.of(container, shared1, shared2)), groups::toString);
+        assertTrue(groups.contains(List.of(other)), groups::toString);
+
+        // A group is ticked on a single thread, in order
+        Map<Instance, String> threads = new ConcurrentHashMap<>();
+        List<Instance> ticked = new CopyOnWriteArrayList<>();
+        env.process().eventHandler().addListener(InstanceTickEvent.class, event -> {
+            threads.put(event.getInstance(), Thread.currentThread().getName());
+            if (event.getInstance() != other) ticked.add(event.getInstance());
+        });
+        var ticker = new InstanceTicker(4);
+        try {
+            ticker.tick(List.of(shared2, shared1, container, other), System.currentTimeMillis());
+        } finally {
+            ticker.shutdown();
+        }
+        assertEquals(List.of(container, shared2, shared1), ticked);
+        assertEquals(threads.get(container), threads.get(shared1));
+        assertEquals(threads.get(container), threads.get(shared2));
+    }
+
+    @Test
+    public void exceptions(Env env) {
+        List<Throwable> handled = new CopyOnWriteArrayList<>();
+        env.process().exception().setExceptionHandler(handled::add);
+        var failing = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD) {
+            @Override
+            public void tick(long time) {
+                throw new IllegalStateException("tick");
+            }
+        };
+        var erroring = new InstanceContainer(UUID.randomUUID(), DimensionType.OVERWORLD) {
+            @Override
+            public void tick(long time) {
+                throw new AssertionError("tick");
+            }
+        };
+        var instance = env.process().instance().createInstanceContainer();
+
+        for (int threads : new int[]{0, 2}) {
+            handled.clear();
+            var ticker = new InstanceTicker(threads);
+            try {
+                // Exceptions are handled, the other instances are still ticked
+                final long worldAge = instance.getWorldAge();
+                ticker.tick(List.of(failing, instance), System.currentTimeMillis());
+                assertEquals(1, handled.size());
+                assertInstanceOf(IllegalStateException.class, handled.getFirst());
+                assertEquals(worldAge + 1, instance.getWorldAge());
+
+                // Errors reach the caller
+                assertThrows(AssertionError.class, () -> ticker.tick(List.of(erroring), System.currentTimeMillis()));
+            } finally {
+                ticker.shutdown();
+            }
+        }
+    }
+}
@@ -0,0 +1,184 @@
+package net.minestom.server.instance.anvil;
+
+import net.jpountz.lz4.LZ4BlockOutputStream;
+import net.kyori.adventure.nbt.BinaryTagIO;
+import net.kyori.adventure.nbt.CompoundBinaryTag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+
+import static net.minestom.server.instance.anvil.RegionFile.CHUNK_HEADER_LENGTH;
+import static net.minestom.server.instance.anvil.RegionFile.HEADER_LENGTH;
+import static net.minestom.server.instance.anvil.RegionFile.SECTOR_SIZE;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegionFileTest {
+    private static final Path VANILLA_REGION = Path.of("src", "test", "resources", "net", "minestom", "server",
+            "instance", "anvil_vanilla_sample", "region", "r.0.1.mca");
+
+    @ParameterizedTest
+    @ValueSource(booleans = {false, true})
+    public void mappedReadWrite(boolean sync) throws IOException {
+        final Path path = Files.createTempFile("minestom-region", ".mca");
+        try (MappedRegionFile regionFile = new MappedRegionFile(path, RegionCompression.ZLIB, sync)) {
+            assertFalse(regionFile.hasChunkData(0, 0));
+            assertNull(regionFile.readChunkData(0, 0));
+
+            regionFile.writeChunkData(0, 0, CompoundBinaryTag.builder().putInt("value", 1).build());
+            regionFile.writeChunkData(31, 31, CompoundBinaryTag.builder().putInt("value", 2).build());
+            assertTrue(regionFile.hasChunkData(0, 0));
+            assertEquals(1, regionFile.readChunkData(0, 0).getInt("value"));
+            assertEquals(2, regionFile.readChunkData(31, 31).getInt("value"));
+
+            // Overwrite with data spanning multiple sectors
+            final CompoundBinaryTag large = randomTag(64 * 1024);
+            regionFile.writeChunkData(0, 0, large);
+            assertEquals(large, regionFile.readChunkData(0, 0));
+            assertEquals(2, regionFile.readChunkData(31, 31).getInt("value"));
+
+            regionFile.flush();
+            assertEquals(large, regionFile.readChunkData(0, 0));
+        }
+        // Readable by the default implementation once closed
+        try (RegionFile regionFile = new RandomAccessRegionFile(path, RegionCompression.ZLIB)) {
+            assertEquals(2, regionFile.readChunkData(31, 31).getInt("value"));
+        }
+        Files.delete(path);
+    }
+
+    @Test
+    public void mappedVanilla() throws IOException {
+        final Path path = Files.createTempFile("minestom-region", ".mca");
+        Files.copy(VANILLA_REGION, path, StandardCopyOption.REPLACE_EXISTING);
+        try (RegionFile expected = new RandomAccessRegionFile(path, RegionCompression.ZLIB);
+             RegionFile regionFile = new MappedRegionFile(path, RegionCompression.ZLIB)) {
+            for (int chunkX = 0; chunkX < 32; chunkX++) {
+                for (int chunkZ = 32; chunkZ < 64; chunkZ++) {
+                    assertEquals(expected.hasChunkData(chunkX, chunkZ), regionFile.hasChunkData(chunkX, chunkZ));
+                    assertEquals(expected.readChunkData(chunkX, chunkZ), regionFile.readChunkData(chunkX, chunkZ));
+                }
+            }
+        }
+        Files.delete(path);
+    }
+
+    @Test
+    public void mappedParallel() throws Exception {
+        final Path path = Files.createTempFile("minestom-region", ".mca");
+        try (RegionFile regionFile = new MappedRegionFile(path, RegionCompression.ZLIB)) {
+            List<Thread> threads = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                final int chunkX = i;
+                threads.add(Thread.startVirtualThread(() -> {
+                    try {
+                        for (int chunkZ = 0; chunkZ < 32; chunkZ++) {
+                            final CompoundBinaryTag tag = randomTag(8 * 1024);
+                            regionFile.writeChunkData(chunkX, chunkZ, tag);
+                            assertEquals(tag, regionFile.readChunkData(chunkX, chunkZ));
+                        }
+                    } catch (IOException e) {
+                        throw new RuntimeException(e);
+                    }
+                }));
+            }
+            for (Thread thread : threads) thread.join();
+            for (int chunkX = 0; chunkX < 8; chunkX++) {
+                for (int chunkZ = 0; chunkZ < 32; chunkZ++) {
+                    assertTrue(regionFile.hasChunkData(chunkX, chunkZ));
+                }
+            }
+        }
+        Files.delete(path);
+    }
+
+    @Test
+    public void mappedGrowth() throws IOException {
+        final Path path = Files.createTempFile("minestom-region", ".mca");
+        List<CompoundBinaryTag> tags = new ArrayList<>();
+        try (RegionFile regionFile = new MappedRegionFile(path, RegionCompression.NONE)) {
+            // Grows the mapping several times
+            for (int i = 0; i < 64; i++) {
+                final CompoundBinaryTag tag = randomTag(20 * 1024);
+                tags.add(tag);
+                regionFile.writeChunkData(i, 0, tag);
+            }
+            for (int i = 0; i < 64; i++) assertEquals(tags.get(i), regionFile.readChunkData(i, 0));
+        }
+        // The headroom is removed, 6 sectors per chunk after the header
+        assertEquals((long) (HEADER_LENGTH / SECTOR_SIZE + 64 * 6) * SECTOR_SIZE, Files.size(path));
+        try (RegionFile regionFile = new RandomAccessRegionFile(path, RegionCompression.NONE)) {
+            for (int i = 0; i < 64; i++) assertEquals(tags.get(i), regionFile.readChunkData(i, 0));
+        }
+
+        RegionFile regionFile = new MappedRegionFile(path, RegionCompression.NONE);
+        regionFile.close();
+        assertThrows(IOException.class, () -> regionFile.writeChunkData(0, 0, tags.getFirst()));
+        Files.delete(path);
+    }
+
+    @ParameterizedTest
+    @EnumSource(RegionCompression.class)
+    public void compression(RegionCompression compression) throws IOException {
+        final Path path = Files.createTempFile("minestom-region", ".mca");
+        final CompoundBinaryTag large = randomTag(200 * 1024);
+        try (RegionFile regionFile = new RandomAccessRegionFile(path, compression)) {
+            regionFile.writeChunkData(0, 0, CompoundBinaryTag.builder().putInt("value", 1).build());
+            regionFile.writeChunkData(1, 0, large);
+        }
+        // Read with another default compression
+        try (RegionFile regionFile = new MappedRegionFile(path, RegionCompression.ZLIB)) {
+            assertEquals(1, regionFile.readChunkData(0, 0).getInt("value"));
+            assertEquals(large, regionFile.readChunkData(1, 0));
+        }
+        Files.delete(path);
+    }
+
+    @Test
+    public void lz4Vanilla() throws IOException {
+        // Region file written the way the vanilla server does, with the stream of the library it ships
+        final CompoundBinaryTag tag = CompoundBinaryTag.builder()
+                .putInt("DataVersion", 4556)
+                .putString("Status", "minecraft:full")
+                .putByteArray("data", new byte[100_000])
+                .build();
+        ByteArrayOutputStream chunk = new ByteArrayOutputStream();
+        try (OutputStream lz4 = new LZ4BlockOutputStream(chunk)) {
+            BinaryTagIO.writer().writeNamed(Map.entry("", tag), lz4, BinaryTagIO.Compression.NONE);
+        }
+        final byte[] data = chunk.toByteArray();
+        final int sectorCount = (CHUNK_HEADER_LENGTH + data.length + SECTOR_SIZE - 1) / SECTOR_SIZE;
+        ByteBuffer file = ByteBuffer.allocate(HEADER_LENGTH + sectorCount * SECTOR_SIZE);
+        file.putInt(RegionFile.chunkIndex(1, 2) * 4, (HEADER_LENGTH / SECTOR_SIZE) << 8 | sectorCount);
+        file.position(HEADER_LENGTH);
+        file.putInt(data.length + 1).put((byte) RegionCompression.LZ4.id()).put(data);
+
+        final Path path = Files.createTempFile("minestom-region", ".mca");
+        Files.write(path, file.array());
+        try (RegionFile regionFile = new RandomAccessRegionFile(path, RegionCompression.ZLIB)) {
+            assertEquals(tag, regionFile.readChunkData(1, 2));
+        }
+        try (RegionFile regionFile = new MappedRegionFile(path, RegionCompression.ZLIB)) {
+            assertEquals(tag, regionFile.readChunkData(1, 2));
+        }
+        Files.delete(path);
+    }
+
+    private static CompoundBinaryTag randomTag(int size) {
+        byte[] bytes = new byte[size];
+        ThreadLocalRandom.current().nextBytes(bytes);
+        return CompoundBinaryTag.builder().putByteArray("data", bytes).build();
+    }
+}
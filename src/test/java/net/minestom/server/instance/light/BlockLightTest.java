@@ -8,8 +8,10 @@ import org.junit.jupiter.api.Test;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Map;
+import java.util.Random;
 
 import static java.util.Map.entry;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.fail;
 
@@ -203,6 +205,46 @@ public class BlockLightTest {
                 entry(new Vec(3, 0, 3), 12)));
     }
 
+    @Test
+    public void incrementalUpdate() {
+        final Block[] blocks = {Block.AIR, Block.AIR, Block.AIR, Block.STONE, Block.GLOWSTONE, Block.TORCH,
+                Block.OAK_SLAB.withProperty("type", "bottom")};
+        final Random random = new Random(42);
+        var palette = Palette.blocks();
+        for (int i = 0; i < 400; i++) {
+            palette.set(random.nextInt(16), random.nextInt(16), random.nextInt(16), blocks[random.nextInt(blocks.length)].stateId());
+        }
+        byte[] light = LightCompute.compute(palette, BlockLight.buildInternalQueue(palette));
+        for (int step = 0; step < 50; step++) {
+            final short[] changes = new short[1 + random.nextInt(8)];
+            for (int i = 0; i < changes.length; i++) {
+                final int x = random.nextInt(16), y = random.nextInt(16), z = random.nextInt(16);
+                palette.set(x, y, z, blocks[random.nextInt(blocks.length)].stateId());
+                changes[i] = (short) (x | (z << 4) | (y << 8));
+            }
+            light = LightCompute.update(palette, light, changes);
+            final byte[] expected = LightCompute.compute(palette, BlockLight.buildInternalQueue(palette));
+            assertArrayEquals(expected, light, "Step " + step);
+        }
+    }
+
+    @Test
+    public void incrementalRemoval() {
+        var palette = Palette.blocks();
+        palette.set(4, 4, 4, Block.GLOWSTONE.stateId());
+        palette.set(12, 4, 4, Block.TORCH.stateId());
+        final byte[] light = LightCompute.compute(palette, BlockLight.buildInternalQueue(palette));
+
+        palette.set(4, 4, 4, Block.AIR.stateId());
+        final byte[] updated = LightCompute.update(palette, light, new short[]{(short) (4 | (4 << 4) | (4 << 8))});
+        assertEquals(6, LightCompute.getLight(updated, 4, 4, 4));
+        assertEquals(14, LightCompute.getLight(updated, 12, 4, 4));
+        assertEquals(13, LightCompute.getLight(updated, 11, 4, 4));
+        // Only lit by the torch now
+        assertEquals(5, LightCompute.getLight(updated, 4, 4, 5));
+        assertArrayEquals(LightCompute.compute(palette, BlockLight.buildInternalQueue(palette)), updated);
+    }
+
     void assertLight(Palette palette, Map<Vec, Integer> expectedLights) {
         byte[] result = LightCompute.compute(palette, BlockLight.buildInternalQueue(palette));
         List<String> errors = new ArrayList<>();
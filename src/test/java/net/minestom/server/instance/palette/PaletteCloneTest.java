@@ -368,6 +368,36 @@ public class PaletteCloneTest {
         }
     }
 
+    @Test
+    public void cloneCopyOnWrite() {
+        var palettes = testPalettes();
+        for (Palette original : palettes) {
+            original.setAll((x, y, z) -> x + y + z + 1);
+
+            // Palette entry replacement
+            Palette cloned = original.clone();
+            original.replace(1, 500);
+            assertEquals(1, cloned.get(0, 0, 0));
+            assertEquals(500, original.get(0, 0, 0));
+
+            // Partial copy
+            cloned = original.clone();
+            Palette source = Palette.sized(original.dimension(), 1, 5, 15, 3);
+            source.fill(7);
+            original.copyFrom(source, 1, 1, 1);
+            assertEquals(3 + 1, cloned.get(1, 1, 1));
+            assertEquals(7, original.get(1, 1, 1));
+
+            // Clone written to first, then the source
+            cloned = original.clone();
+            cloned.set(0, 0, 0, 42);
+            original.set(0, 0, 0, 43);
+            assertEquals(42, cloned.get(0, 0, 0));
+            assertEquals(43, original.get(0, 0, 0));
+            assertEquals(original.count(), cloned.count());
+        }
+    }
+
     private static List<Palette> testPalettes() {
         return List.of(
                 Palette.sized(2, 1, 5, 15, 3),
@@ -0,0 +1,54 @@
+package net.minestom.server.network;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Pipe;
+
+import static net.minestom.server.network.NetworkBuffer.INT;
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GatheringWriterTest {
+
+    @Test
+    public void merge() {
+        var buffer = NetworkBuffer.staticBuffer(16);
+        var writer = new GatheringWriter();
+        writer.append(buffer, 0, 4);
+        writer.append(buffer, 4, 4);
+        assertEquals(1, writer.ranges());
+        writer.append(buffer, 12, 4);
+        assertEquals(2, writer.ranges());
+        writer.append(buffer, 0, 0);
+        assertEquals(2, writer.ranges());
+    }
+
+    @Test
+    public void write() throws IOException {
+        var buffer1 = NetworkBuffer.staticBuffer(8);
+        buffer1.write(INT, 1);
+        buffer1.write(INT, 2);
+        var buffer2 = NetworkBuffer.staticBuffer(4);
+        buffer2.write(INT, 3);
+
+        var writer = new GatheringWriter();
+        writer.append(buffer1, 4, 4);
+        writer.append(buffer2, 0, 4);
+        writer.append(buffer1, 0, 4);
+
+        Pipe pipe = Pipe.open();
+        assertTrue(writer.writeChannel(pipe.sink()));
+        assertTrue(writer.isEmpty());
+
+        ByteBuffer result = ByteBuffer.allocate(12);
+        while (result.hasRemaining()) pipe.source().read(result);
+        result.flip();
+        assertEquals(2, result.getInt());
+        assertEquals(3, result.getInt());
+        assertEquals(1, result.getInt());
+        // Sources are left untouched
+        assertEquals(1, buffer1.read(INT));
+        assertEquals(0, buffer2.readIndex());
+    }
+}
@@ -0,0 +1,116 @@
+package net.minestom.server.network;
+
+import net.minestom.server.utils.ObjectPool;
+import org.junit.jupiter.api.Test;
+
+import java.util.zip.DataFormatException;
+
+import static net.minestom.server.network.NetworkBuffer.*;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Runs the memory operations of {@link NetworkBuffer} with the backend of the JVM,
+ * the {@code testForeignNetworkBuffer} task runs it again with the foreign backend.
+ */
+public class NetworkBufferBackendTest {
+
+    private static NetworkBufferImpl allocate(long capacity) {
+        return NetworkBufferImpl.allocate(capacity, 0, 0, AutoResize.DOUBLE, null);
+    }
+
+    @Test
+    public void readWrite() {
+        var buffer = allocate(64);
+        buffer.write(BYTE, (byte) 1);
+        buffer.write(SHORT, (short) 0x1234);
+        buffer.write(INT, 0x12345678);
+        buffer.write(LONG, 0x123456789ABCDEF0L);
+        buffer.write(DOUBLE, 1.5);
+        buffer.write(STRING, "Hello");
+
+        assertEquals((byte) 1, buffer.read(BYTE));
+        assertEquals((short) 0x1234, buffer.read(SHORT));
+        assertEquals(0x12345678, buffer.read(INT));
+        assertEquals(0x123456789ABCDEF0L, buffer.read(LONG));
+        assertEquals(1.5, buffer.read(DOUBLE));
+        assertEquals("Hello", buffer.read(STRING));
+
+        // Big endian, whatever the backend
+        byte[] bytes = new byte[4];
+        buffer.copyTo(3, bytes, 0, 4);
+        assertArrayEquals(new byte[]{0x12, 0x34, 0x56, 0x78}, bytes);
+    }
+
+    @Test
+    public void resize() {
+        var buffer = allocate(4);
+        for (int i = 0; i < 1024; i++) buffer.write(INT, i);
+        assertTrue(buffer.capacity() >= 4096);
+        for (int i = 0; i < 1024; i++) assertEquals(i, buffer.read(INT));
+    }
+
+    @Test
+    public void slice() throws DataFormatException {
+        var buffer = allocate(16);
+        buffer.write(INT, 1);
+        buffer.write(INT, 2);
+        buffer.read(INT);
+        // Views over the memory are recreated after a resize
+        buffer.compact();
+        buffer.resize(4096);
+        assertEquals(0, buffer.readIndex());
+        assertEquals(2, buffer.read(INT));
+
+        buffer.clear();
+        for (int i = 0; i < 256; i++) buffer.write(INT, i % 4);
+        var compressed = allocate(4096);
+        final long compressedLength = buffer.compress(0, buffer.writeIndex(), compressed);
+        var decompressed = allocate(4096);
+        compressed.decompress(0, compressedLength, decompressed);
+        assertEquals(buffer.writeIndex(), decompressed.writeIndex());
+        for (int i = 0; i < 256; i++) assertEquals(i % 4, decompressed.read(INT));
+    }
+
+    @Test
+    public void copy() {
+        var buffer = allocate(16);
+        buffer.write(LONG, 5L);
+        buffer.write(LONG, 6L);
+
+        var copy = buffer.copy(0, 16);
+        assertTrue(NetworkBuffer.equals(buffer, copy));
+
+        var other = allocate(16);
+        NetworkBuffer.copy(buffer, 8, other, 0, 8);
+        NetworkBuffer.copy(buffer, 0, other, 8, 8);
+        other.writeIndex(16);
+        assertEquals(6L, other.read(LONG));
+        assertEquals(5L, other.read(LONG));
+    }
+
+    @Test
+    public void release() {
+        var buffer = allocate(16);
+        buffer.write(INT, 5);
+        buffer.resize(64);
+        NetworkBuffer.release(buffer);
+        NetworkBuffer.release(buffer);
+        assertEquals(0, buffer.capacity());
+        assertThrows(IndexOutOfBoundsException.class, () -> buffer.read(INT));
+
+        // Memory is still released once unreachable
+        for (int i = 0; i < 1024; i++) allocate(4096).write(INT, i);
+    }
+
+    @Test
+    public void poolRelease() {
+        ObjectPool<NetworkBuffer> pool = ObjectPool.pool(() -> allocate(16), NetworkBuffer::clear, NetworkBuffer::release);
+        var buffer = pool.get();
+        pool.add(buffer);
+        assertEquals(16, buffer.capacity());
+        // Pooled buffers are freed when removed from the pool
+        // May fail in the very unlikely case where soft references are cleared
+        pool.clear();
+        assertEquals(0, buffer.capacity());
+    }
+}
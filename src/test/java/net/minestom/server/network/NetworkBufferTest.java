@@ -10,6 +10,9 @@ import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnknownNullability;
 import org.junit.jupiter.api.Test;
 
+import javax.crypto.Cipher;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 import java.io.IOException;
 import java.nio.charset.StandardCharsets;
 import java.util.*;
@@ -130,6 +133,33 @@ public class NetworkBufferTest {
         assertEquals(3.5f, buffer2.read(FLOAT));
     }
 
+    @Test
+    public void cipherDirect() throws Exception {
+        var key = new SecretKeySpec(new byte[16], "AES");
+        var source = NetworkBuffer.staticBuffer(8);
+        source.write(INT, 6);
+        source.write(INT, 7);
+
+        // In-place reference
+        var expected = source.copy(0, 8);
+        var expectedCipher = Cipher.getInstance("AES/CFB8/NoPadding");
+        expectedCipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(key.getEncoded()));
+        expected.cipher(expectedCipher, 0, 8);
+
+        var destination = NetworkBuffer.staticBuffer(12);
+        destination.write(INT, 5);
+        var cipher = Cipher.getInstance("AES/CFB8/NoPadding");
+        cipher.init(Cipher.ENCRYPT_MODE, key, new IvParameterSpec(key.getEncoded()));
+        NetworkBuffer.cipher(cipher, source, 0, destination, 4, 8);
+
+        // Source must be left untouched
+        assertEquals(6, source.read(INT));
+        assertEquals(7, source.read(INT));
+
+        assertEquals(5, destination.readAt(0, INT));
+        assertEquals(expected.readAt(0, LONG), destination.readAt(4, LONG));
+    }
+
     @Test
     public void compact() {
         var buffer = NetworkBuffer.staticBuffer(256);
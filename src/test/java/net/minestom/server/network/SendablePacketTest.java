@@ -7,6 +7,7 @@ import net.minestom.server.network.packet.PacketReading;
 import net.minestom.server.network.packet.PacketWriting;
 import net.minestom.server.network.packet.client.ClientPacket;
 import net.minestom.server.network.packet.client.play.ClientAnimationPacket;
+import net.minestom.server.network.packet.server.BroadcastPacket;
 import net.minestom.server.network.packet.server.CachedPacket;
 import net.minestom.server.network.packet.server.LazyPacket;
 import net.minestom.server.network.packet.server.play.SystemChatPacket;
@@ -49,6 +50,38 @@ public class SendablePacketTest {
         assertSame(packet, cached.packet(ConnectionState.PLAY));
     }
 
+    @Test
+    public void broadcast() {
+        var buffer = NetworkBuffer.staticBuffer(10);
+        AtomicBoolean recycled = new AtomicBoolean(false);
+        var segment = new BroadcastPacket.Segment(buffer, 10, b -> {
+            assertSame(buffer, b);
+            assertFalse(recycled.getAndSet(true));
+        });
+        var whole = new BroadcastPacket(segment.retain(), null);
+        var excluded = new BroadcastPacket(segment.retain(), new long[]{2L << 32 | 4, 6L << 32 | 10});
+        segment.release();
+        assertEquals(10, whole.length());
+        assertEquals(4, excluded.length());
+
+        assertEquals(2, segment.references());
+        whole.segment().release();
+        assertFalse(recycled.get());
+        excluded.segment().release();
+        assertTrue(recycled.get());
+    }
+
+    @Test
+    public void broadcastRelease() {
+        var buffer = NetworkBuffer.staticBuffer(10);
+        var segment = new BroadcastPacket.Segment(buffer, 10, null);
+        segment.retain().release();
+        assertEquals(10, buffer.capacity());
+        // Freed without a recycler
+        segment.release();
+        assertEquals(0, buffer.capacity());
+    }
+
     @Test
     public void trimmed() throws DataFormatException {
         var packet = new ClientAnimationPacket(PlayerHand.MAIN);
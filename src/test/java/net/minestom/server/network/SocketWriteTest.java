@@ -11,6 +11,8 @@ import static net.minestom.server.network.NetworkBuffer.INT;
 import static net.minestom.server.network.NetworkBuffer.STRING;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 
 public class SocketWriteTest {
 
@@ -67,6 +69,39 @@ public class SocketWriteTest {
         assertNotEquals(3 + 3 + 1 + lengthLength + stringLength, buffer.writeIndex(), "Buffer position does not account for compression");
     }
 
+    @Test
+    public void writeCompressedContext() {
+        var packet = new CompressiblePacket("Hello world!".repeat(200));
+        var context = new PacketWriting.CompressionContext();
+
+        var expected = NetworkBuffer.resizableBuffer();
+        PacketWriting.writeFramedPacket(expected, CompressiblePacket.SERIALIZER, 1, packet, 256);
+        PacketWriting.writeFramedPacket(expected, IntPacket.SERIALIZER, 1, new IntPacket(5), 256);
+
+        var buffer = NetworkBuffer.resizableBuffer();
+        PacketWriting.writeFramedPacket(buffer, CompressiblePacket.SERIALIZER, 1, packet, 256, context);
+        PacketWriting.writeFramedPacket(buffer, IntPacket.SERIALIZER, 1, new IntPacket(5), 256, context);
+
+        // The deflater is reset between packets, output must be identical to the pooled path
+        assertEquals(expected.writeIndex(), buffer.writeIndex());
+        assertTrue(NetworkBuffer.equals(expected.copy(0, expected.writeIndex()), buffer.copy(0, buffer.writeIndex())));
+    }
+
+    @Test
+    public void closeCompressedContext() {
+        var packet = new CompressiblePacket("Hello world!".repeat(200));
+        var context = new PacketWriting.CompressionContext();
+        var buffer = NetworkBuffer.resizableBuffer();
+        PacketWriting.writeFramedPacket(buffer, CompressiblePacket.SERIALIZER, 1, packet, 256, context);
+
+        context.close();
+        context.close(); // Idempotent
+        assertThrows(IllegalStateException.class, () ->
+                PacketWriting.writeFramedPacket(buffer, CompressiblePacket.SERIALIZER, 1, packet, 256, context));
+        // Packets under the threshold are never compressed
+        PacketWriting.writeFramedPacket(buffer, IntPacket.SERIALIZER, 1, new IntPacket(5), 256, context);
+    }
+
     @Test
     public void writeSingleCompressedSmall() {
         var packet = new IntPacket(5);
@@ -0,0 +1,115 @@
+package net.minestom.server.network.player;
+
+import net.kyori.adventure.text.Component;
+import net.kyori.adventure.text.TextComponent;
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.PacketReading;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.SystemChatPacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@EnvTest
+public class PlayerSocketConnectionIntegrationTest {
+
+    @Test
+    public void tickAlignedWrites(Env env) throws Exception {
+        // These like to fail on github actions
+        assumeTrue(System.getenv("GITHUB_ACTIONS") == null);
+
+        try (ServerSocketChannel server = ServerSocketChannel.open();
+             SocketChannel client = SocketChannel.open()) {
+            server.bind(new InetSocketAddress("localhost", 0));
+            client.connect(server.getLocalAddress());
+            SocketChannel channel = server.accept();
+
+            // Same loop as the virtual thread transport
+            AtomicReference<PlayerSocketConnection> reference = new AtomicReference<>();
+            Thread writeThread = Thread.ofVirtual().unstarted(() -> {
+                final PlayerSocketConnection connection = reference.get();
+                try {
+                    while (connection.isOnline()) connection.flushSync();
+                    while (!connection.flush()) Thread.onSpinWait();
+                    connection.getChannel().close();
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+            var connection = new PlayerSocketConnection(channel, channel.getRemoteAddress(),
+                    Thread.currentThread(), writeThread, true);
+            connection.setServerState(ConnectionState.PLAY);
+            reference.set(connection);
+            writeThread.start();
+
+            ByteArrayOutputStream received = new ByteArrayOutputStream();
+            client.configureBlocking(false);
+            for (int i = 0; i < 3; i++) connection.sendPacket(message(i));
+            Thread.sleep(100);
+            assertEquals(0, read(client, received), "Play packets must wait for the tick flush");
+
+            // End of the tick
+            connection.signalWrite();
+            final long deadline = System.nanoTime() + 5_000_000_000L;
+            while (received.size() == 0 && System.nanoTime() < deadline) read(client, received);
+            assertTrue(received.size() > 0, "Tick flush did not write the queued packets");
+
+            // Larger than a single write, all of it must be written before the channel is closed
+            for (int i = 3; i < 1000; i++) connection.sendPacket(message(i));
+            connection.disconnect();
+            client.configureBlocking(true);
+            while (read(client, received) != -1) ;
+            writeThread.join();
+
+            final List<ServerPacket> packets = parse(received.toByteArray());
+            assertEquals(1000, packets.size());
+            for (int i = 0; i < packets.size(); i++) {
+                var packet = assertInstanceOf(SystemChatPacket.class, packets.get(i));
+                assertEquals(content(i), ((TextComponent) packet.message()).content());
+            }
+        }
+    }
+
+    private static SystemChatPacket message(int index) {
+        return new SystemChatPacket(Component.text(content(index)), false);
+    }
+
+    private static String content(int index) {
+        return index + "x".repeat(4096);
+    }
+
+    private static int read(SocketChannel client, ByteArrayOutputStream output) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(8192);
+        final int length = client.read(buffer);
+        if (length > 0) output.write(buffer.array(), 0, length);
+        return length;
+    }
+
+    private static List<ServerPacket> parse(byte[] bytes) {
+        var buffer = NetworkBuffer.wrap(bytes, 0, bytes.length);
+        var result = PacketReading.readServers(buffer, ConnectionState.PLAY, MinecraftServer.getCompressionThreshold() > 0);
+        assertInstanceOf(PacketReading.Result.Success.class, result);
+        assertEquals(0, buffer.readableBytes());
+        List<ServerPacket> packets = new ArrayList<>();
+        for (var parsed : ((PacketReading.Result.Success<ServerPacket>) result).packets()) {
+            packets.add(parsed.packet());
+        }
+        return packets;
+    }
+}
@@ -0,0 +1,72 @@
+package net.minestom.server.network.socket;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.PacketReading;
+import net.minestom.server.network.packet.PacketVanilla;
+import net.minestom.server.network.packet.PacketWriting;
+import net.minestom.server.network.packet.client.common.ClientPingRequestPacket;
+import net.minestom.server.network.packet.client.handshake.ClientHandshakePacket;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.common.PingResponsePacket;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@EnvTest
+public class SelectorTransportIntegrationTest {
+
+    @Test
+    public void statusRoundTrip(Env env) throws IOException {
+        // These like to fail on github actions
+        assumeTrue(System.getenv("GITHUB_ACTIONS") == null);
+
+        var transport = ServerTransport.selector(1);
+        transport.start(PacketVanilla.CLIENT_PACKET_PARSER);
+        try (ServerSocketChannel server = ServerSocketChannel.open();
+             SocketChannel client = SocketChannel.open()) {
+            server.bind(new InetSocketAddress("localhost", 0));
+            client.connect(server.getLocalAddress());
+            transport.accept(server.accept());
+
+            var request = NetworkBuffer.resizableBuffer();
+            PacketWriting.writeFramedPacket(request, ConnectionState.HANDSHAKE, new ClientHandshakePacket(
+                    MinecraftServer.PROTOCOL_VERSION, "localhost", 25565, ClientHandshakePacket.Intent.STATUS), -1);
+            PacketWriting.writeFramedPacket(request, ConnectionState.STATUS, new ClientPingRequestPacket(1234), -1);
+            final byte[] requestBytes = request.read(NetworkBuffer.RAW_BYTES);
+            client.write(ByteBuffer.wrap(requestBytes));
+
+            // The server disconnects after answering the ping
+            ByteArrayOutputStream response = new ByteArrayOutputStream();
+            ByteBuffer readBuffer = ByteBuffer.allocate(1024);
+            while (client.read(readBuffer) != -1) {
+                response.write(readBuffer.array(), 0, readBuffer.position());
+                readBuffer.clear();
+            }
+
+            final byte[] responseBytes = response.toByteArray();
+            var buffer = NetworkBuffer.wrap(responseBytes, 0, responseBytes.length);
+            var result = PacketReading.readServers(buffer, ConnectionState.STATUS, false);
+            assertInstanceOf(PacketReading.Result.Success.class, result);
+            List<PacketReading.ParsedPacket<ServerPacket>> packets = ((PacketReading.Result.Success<ServerPacket>) result).packets();
+            assertEquals(1, packets.size());
+            assertEquals(new PingResponsePacket(1234), packets.getFirst().packet());
+            assertEquals(0, buffer.readableBytes());
+        } finally {
+            transport.stop();
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package net.minestom.server.network.socket;
 
+import net.minestom.server.network.packet.PacketVanilla;
 import org.junit.jupiter.api.Test;
 
 import java.io.IOException;
@@ -62,6 +63,20 @@ public class ServerAddressTest {
         assertFalse(Files.exists(address.getPath()), "The socket file should be deleted");
     }
 
+    @Test
+    public void selectorTransportTest() throws IOException {
+        // These like to fail on github actions
+        assumeTrue(System.getenv("GITHUB_ACTIONS") == null);
+
+        InetSocketAddress address = new InetSocketAddress("localhost", 0);
+        var server = new Server(PacketVanilla.CLIENT_PACKET_PARSER, ServerTransport.selector(2));
+        server.init(address);
+        assertNotEquals(0, server.getPort());
+
+        assertDoesNotThrow(server::start);
+        assertDoesNotThrow(server::stop);
+    }
+
     @Test
     public void noAddressTest() {
         var server = new Server();
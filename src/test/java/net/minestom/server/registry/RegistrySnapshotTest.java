@@ -0,0 +1,118 @@
+package net.minestom.server.registry;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RegistrySnapshotTest {
+
+    @Test
+    public void roundTrip() throws IOException {
+        var properties = RegistryData.Properties.fromMap(Map.of(
+                "minecraft:stone", Map.of("id", 1L, "hardness", 1.5, "solid", true, "air", false,
+                        "name", "Stone", "shape", List.of(List.of(0.0, 1.0), List.of(-5L, Long.MAX_VALUE, Long.MIN_VALUE))),
+                "minecraft:air", Map.of("id", 0L, "name", "Stone", "states", Map.of())));
+        var result = RegistrySnapshot.read(new ByteArrayInputStream(write(properties, 42)), 42);
+        assertNotNull(result);
+        assertEquals(properties.asMap(), result.asMap());
+        // Types must be preserved, numbers are read back as the JSON reader would
+        assertInstanceOf(Long.class, result.section("minecraft:stone").asMap().get("id"));
+        assertInstanceOf(Double.class, result.section("minecraft:stone").asMap().get("hardness"));
+    }
+
+    @Test
+    public void registryFile() throws IOException {
+        final byte[] source;
+        try (var input = RegistryData.loadRegistryFile("block.json")) {
+            assertNotNull(input);
+            source = input.readAllBytes();
+        }
+        var json = RegistryData.readJson(new ByteArrayInputStream(source));
+        final long crc = RegistrySnapshot.crc(new ByteArrayInputStream(source));
+        var result = RegistrySnapshot.read(new ByteArrayInputStream(write(json, crc)), crc);
+        assertNotNull(result);
+        assertEquals(json.asMap(), result.asMap());
+    }
+
+    @Test
+    public void outdated() throws IOException {
+        var properties = RegistryData.Properties.fromMap(Map.of("key", "value"));
+        final byte[] image = write(properties, 42);
+        assertNull(RegistrySnapshot.read(new ByteArrayInputStream(image), 43), "Source CRC mismatch");
+        image[7]++; // Format version
+        assertNull(RegistrySnapshot.read(new ByteArrayInputStream(image), 42), "Format version mismatch");
+    }
+
+    @Test
+    public void loadDirectory(@TempDir Path directory) throws IOException {
+        final byte[] source = "{\"minecraft:stone\":{\"id\":1}}".getBytes(StandardCharsets.UTF_8);
+        Files.write(directory.resolve("test.json"), source);
+        Files.createDirectories(directory.resolve("registry-snapshot"));
+        Files.write(directory.resolve(RegistrySnapshot.fileName("test.json")), image(source));
+
+        try (var classLoader = new URLClassLoader(new URL[]{directory.toUri().toURL()}, null)) {
+            var result = RegistrySnapshot.load(classLoader, "test.json");
+            assertNotNull(result);
+            assertEquals(1L, result.section("minecraft:stone").asMap().get("id"));
+
+            // Same length, different content
+            Files.writeString(directory.resolve("test.json"), "{\"minecraft:stone\":{\"id\":2}}");
+            assertNull(RegistrySnapshot.load(classLoader, "test.json"), "Stale image");
+
+            Files.delete(directory.resolve("test.json"));
+            assertNull(RegistrySnapshot.load(classLoader, "test.json"), "Missing source");
+            assertNull(RegistrySnapshot.load(classLoader, "other.json"), "Missing image");
+        }
+    }
+
+    @Test
+    public void loadJar(@TempDir Path directory) throws IOException {
+        final byte[] source = "{\"minecraft:stone\":{\"id\":1}}".getBytes(StandardCharsets.UTF_8);
+        final byte[] stale = "{\"minecraft:stone\":{\"id\":2}}".getBytes(StandardCharsets.UTF_8);
+        final Path jar = directory.resolve("registry.jar");
+        try (var output = new JarOutputStream(Files.newOutputStream(jar))) {
+            putEntry(output, "test.json", source);
+            putEntry(output, RegistrySnapshot.fileName("test.json"), image(source));
+            putEntry(output, "stale.json", stale);
+            putEntry(output, RegistrySnapshot.fileName("stale.json"), image(source));
+        }
+
+        try (var classLoader = new URLClassLoader(new URL[]{jar.toUri().toURL()}, null)) {
+            var result = RegistrySnapshot.load(classLoader, "test.json");
+            assertNotNull(result);
+            assertEquals(1L, result.section("minecraft:stone").asMap().get("id"));
+            assertNull(RegistrySnapshot.load(classLoader, "stale.json"), "Stale image");
+        }
+    }
+
+    private static byte[] image(byte[] source) throws IOException {
+        var properties = RegistryData.readJson(new ByteArrayInputStream(source));
+        return write(properties, RegistrySnapshot.crc(new ByteArrayInputStream(source)));
+    }
+
+    private static void putEntry(JarOutputStream output, String name, byte[] content) throws IOException {
+        output.putNextEntry(new JarEntry(name));
+        output.write(content);
+        output.closeEntry();
+    }
+
+    private static byte[] write(RegistryData.Properties properties, long sourceCrc) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        RegistrySnapshot.write(out, properties, sourceCrc);
+        return out.toByteArray();
+    }
+}
@@ -6,6 +6,8 @@ import net.minestom.server.instance.block.Block;
 import org.junit.jupiter.api.Test;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
 
 @EnvTest
 public class ChunkSnapshotIntegrationTest {
@@ -23,4 +25,39 @@ public class ChunkSnapshotIntegrationTest {
         var chunk = inst.chunks().iterator().next();
         assertEquals(Block.STONE, chunk.getBlock(0, 0, 0));
     }
+
+    @Test
+    public void sharedSections(Env env) {
+        var instance = env.createFlatInstance();
+        instance.loadChunk(0, 0).join();
+        var first = (SnapshotImpl.Chunk) ServerSnapshot.update().instances().iterator().next().chunk(0, 0);
+        var second = (SnapshotImpl.Chunk) ServerSnapshot.update().instances().iterator().next().chunk(0, 0);
+        // Nothing changed, the copies are shared
+        assertSame(first.sections(), second.sections());
+        assertSame(first.blockEntries(), second.blockEntries());
+
+        instance.setBlock(0, 100, 0, Block.STONE);
+        var third = (SnapshotImpl.Chunk) ServerSnapshot.update().instances().iterator().next().chunk(0, 0);
+        final int changed = 100 / 16 - first.minSection();
+        for (int i = 0; i < first.sections().length; i++) {
+            if (i == changed) assertNotSame(first.sections()[i], third.sections()[i]);
+            else assertSame(first.sections()[i], third.sections()[i]);
+        }
+        assertEquals(Block.AIR, first.getBlock(0, 100, 0));
+        assertEquals(Block.STONE, third.getBlock(0, 100, 0));
+    }
+
+    @Test
+    public void directPaletteWrite(Env env) {
+        var instance = env.createFlatInstance();
+        var chunk = instance.loadChunk(0, 0).join();
+        var first = ServerSnapshot.update().instances().iterator().next().chunk(0, 0);
+        assertEquals(Block.AIR, first.getBlock(0, 100, 0));
+
+        // Written without going through the chunk
+        chunk.getSectionAt(100).blockPalette().set(0, 100 & 15, 0, Block.STONE.stateId());
+        var second = ServerSnapshot.update().instances().iterator().next().chunk(0, 0);
+        assertEquals(Block.AIR, first.getBlock(0, 100, 0));
+        assertEquals(Block.STONE, second.getBlock(0, 100, 0));
+    }
 }
@@ -279,4 +279,57 @@ public class ThreadDispatcherTest {
 
         dispatcher.shutdown();
     }
+
+    @Test
+    public void balancedMigration() {
+        // Ensure that partitions are moved away from the most loaded thread
+        // and that their elements follow them
+        final class Heavy extends Element {
+            volatile Thread tickThread;
+
+            @Override
+            public void tick(long time) {
+                this.tickThread = Thread.currentThread();
+                try {
+                    Thread.sleep(2);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+        }
+        ThreadDispatcher<Tickable, Element> dispatcher = ThreadDispatcher.dispatcher(ThreadProvider.balanced(), 2);
+        dispatcher.start();
+
+        // Round-robin placement, both heavy partitions end up on the first thread
+        Heavy heavy1 = new Heavy(), heavy2 = new Heavy();
+        for (int i = 0; i < 4; i++) {
+            Tickable partition = time -> {
+            };
+            dispatcher.createPartition(partition);
+            if (i == 0) dispatcher.updateElement(heavy1, partition);
+            if (i == 2) dispatcher.updateElement(heavy2, partition);
+        }
+        for (int i = 0; i < 20; i++) dispatcher.updateAndAwait(System.nanoTime());
+
+        final TickThread busy = dispatcher.threads().get(0);
+        final TickThread idle = dispatcher.threads().get(1);
+        assertSame(busy, heavy1.tickThread);
+        assertSame(busy, heavy2.tickThread);
+        assertTrue(busy.loadNanos() > idle.loadNanos());
+
+        dispatcher.refreshThreads();
+        assertEquals(0, busy.migrationCount());
+        assertEquals(1, idle.migrationCount());
+
+        dispatcher.updateAndAwait(System.nanoTime());
+        assertNotSame(heavy1.tickThread, heavy2.tickThread);
+        assertSame(heavy1.tickThread, heavy1.acquirable().assignedThread());
+        assertSame(heavy2.tickThread, heavy2.acquirable().assignedThread());
+
+        // Balanced, nothing left to move
+        dispatcher.refreshThreads();
+        assertEquals(1, idle.migrationCount());
+
+        dispatcher.shutdown();
+    }
 }
@@ -3,6 +3,8 @@ package net.minestom.server.timer;
 import net.minestom.server.MinecraftServer;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicInteger;
@@ -72,6 +74,79 @@ public class TestScheduler {
         assertFalse(result.get(), "Task should be cancelled");
     }
 
+    @Test
+    public void cancelDelayedTask() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        AtomicBoolean result = new AtomicBoolean(false);
+        var task = scheduler.buildTask(() -> result.set(true))
+                .delay(TaskSchedule.tick(5))
+                .schedule();
+        scheduler.processTick();
+        task.cancel();
+        for (int i = 0; i < 10; i++) scheduler.processTick();
+        assertFalse(result.get(), "Task should be cancelled");
+    }
+
+    @Test
+    public void cancelAll() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        AtomicInteger result = new AtomicInteger(0);
+        var tickTask = scheduler.scheduleNextTick(result::incrementAndGet);
+        var durationTask = scheduler.buildTask(result::incrementAndGet)
+                .delay(TaskSchedule.millis(1))
+                .schedule();
+        scheduler.cancelAll();
+        assertFalse(tickTask.isAlive());
+        assertFalse(durationTask.isAlive());
+
+        var newTask = scheduler.scheduleNextTick(result::incrementAndGet);
+        assertTrue(newTask.isAlive(), "Tasks submitted after cancelAll should not be cancelled");
+        scheduler.processTick();
+        assertEquals(1, result.get());
+    }
+
+    @Test
+    public void longTickDelay() {
+        Scheduler scheduler = Scheduler.newScheduler();
+        // Deadlines spread over the first three levels of the wheel
+        int[] delays = {1, 63, 64, 65, 4095, 4096, 4097, 262_143, 262_144, 262_145};
+        int[] executedAt = new int[delays.length];
+        AtomicInteger tick = new AtomicInteger();
+        for (int i = 0; i < delays.length; i++) {
+            final int index = i;
+            scheduler.buildTask(() -> executedAt[index] = tick.get())
+                    .delay(TaskSchedule.tick(delays[i]))
+                    .schedule();
+        }
+        while (tick.get() < delays[delays.length - 1]) {
+            tick.incrementAndGet();
+            scheduler.processTick();
+        }
+        assertArrayEquals(delays, executedAt);
+    }
+
+    @Test
+    public void wheelOverflow() {
+        var owner = (SchedulerImpl) Scheduler.newScheduler();
+        List<TaskImpl> expired = new ArrayList<>();
+        TimingWheel wheel = new TimingWheel(expired::add);
+        long[] deadlines = {16_777_215, 16_777_216, 16_777_217, 100_000_000, 5_000_000_000L};
+        for (long deadline : deadlines) {
+            var task = new TaskImpl(0, TaskSchedule::stop, ExecutionType.TICK_START, owner);
+            task.deadline = deadline;
+            wheel.add(task);
+        }
+        for (long deadline : deadlines) {
+            wheel.advance(deadline - 1);
+            assertTrue(expired.isEmpty() || expired.getLast().deadline < deadline);
+            final int count = expired.size();
+            wheel.advance(deadline);
+            assertEquals(count + 1, expired.size());
+            assertEquals(deadline, expired.getLast().deadline);
+        }
+        assertEquals(0, wheel.size());
+    }
+
     @Test
     public void parkTask() {
         Scheduler scheduler = Scheduler.newScheduler();
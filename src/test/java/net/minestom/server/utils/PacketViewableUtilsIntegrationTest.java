@@ -0,0 +1,121 @@
+package net.minestom.server.utils;
+
+import net.minestom.server.MinecraftServer;
+import net.minestom.server.coordinate.Pos;
+import net.minestom.server.coordinate.Vec;
+import net.minestom.server.entity.Entity;
+import net.minestom.server.entity.EntityType;
+import net.minestom.server.entity.Player;
+import net.minestom.server.instance.Chunk;
+import net.minestom.server.network.ConnectionState;
+import net.minestom.server.network.NetworkBuffer;
+import net.minestom.server.network.packet.PacketReading;
+import net.minestom.server.network.packet.server.ServerPacket;
+import net.minestom.server.network.packet.server.play.EntityPositionAndRotationPacket;
+import net.minestom.server.network.packet.server.play.EntityPositionSyncPacket;
+import net.minestom.server.network.player.GameProfile;
+import net.minestom.server.network.player.PlayerSocketConnection;
+import net.minestom.testing.Env;
+import net.minestom.testing.EnvTest;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.InetSocketAddress;
+import java.nio.ByteBuffer;
+import java.nio.channels.ServerSocketChannel;
+import java.nio.channels.SocketChannel;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertInstanceOf;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+@EnvTest
+public class PacketViewableUtilsIntegrationTest {
+
+    @Test
+    public void movementBandsSyncOrder(Env env) throws IOException {
+        // These like to fail on github actions
+        assumeTrue(System.getenv("GITHUB_ACTIONS") == null);
+
+        var instance = env.createFlatInstance();
+        final Chunk chunk = instance.loadChunk(0, 0).join();
+        var entity = new Entity(EntityType.ZOMBIE);
+        final Pos lastSynced = new Pos(0, 40, 0);
+        final Pos position = new Pos(1, 40, 0);
+
+        try (ServerSocketChannel server = ServerSocketChannel.open();
+             SocketChannel nearClient = SocketChannel.open();
+             SocketChannel farClient = SocketChannel.open()) {
+            server.bind(new InetSocketAddress("localhost", 0));
+            var near = connect(server, nearClient, "near");
+            var far = connect(server, farClient, "far");
+
+            // Sync tick, the entity moves before being synchronized
+            PacketViewableUtils.prepareBandPacket(chunk, 0,
+                    EntityPositionAndRotationPacket.getPacket(entity.getEntityId(), position, lastSynced, true), entity);
+            PacketViewableUtils.prepareBandsPacket(chunk,
+                    new EntityPositionSyncPacket(entity.getEntityId(), position, Vec.ZERO, 0, 0, true), entity);
+            PacketViewableUtils.flushBands(chunk, List.of(near, far), player -> player == near ? 0 : 2);
+
+            var nearPackets = receive(near, nearClient);
+            assertEquals(2, nearPackets.size());
+            assertInstanceOf(EntityPositionAndRotationPacket.class, nearPackets.get(0));
+            assertInstanceOf(EntityPositionSyncPacket.class, nearPackets.get(1));
+            assertEquals(position, clientPosition(lastSynced, nearPackets));
+
+            var farPackets = receive(far, farClient);
+            assertEquals(1, farPackets.size());
+            assertInstanceOf(EntityPositionSyncPacket.class, farPackets.getFirst());
+            assertEquals(position, clientPosition(lastSynced, farPackets));
+        }
+    }
+
+    private static Player connect(ServerSocketChannel server, SocketChannel client, String name) throws IOException {
+        client.connect(server.getLocalAddress());
+        SocketChannel channel = server.accept();
+        var connection = new PlayerSocketConnection(channel, channel.getRemoteAddress(),
+                Thread.currentThread(), Thread.currentThread());
+        return new Player(connection, new GameProfile(UUID.randomUUID(), name));
+    }
+
+    private static List<ServerPacket> receive(Player player, SocketChannel client) throws IOException {
+        var connection = (PlayerSocketConnection) player.getPlayerConnection();
+        while (!connection.flush()) Thread.onSpinWait();
+        connection.getChannel().shutdownOutput();
+
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+        ByteBuffer readBuffer = ByteBuffer.allocate(1024);
+        while (client.read(readBuffer) != -1) {
+            output.write(readBuffer.array(), 0, readBuffer.position());
+            readBuffer.clear();
+        }
+        final byte[] bytes = output.toByteArray();
+        var buffer = NetworkBuffer.wrap(bytes, 0, bytes.length);
+        var result = PacketReading.readServers(buffer, ConnectionState.PLAY, MinecraftServer.getCompressionThreshold() > 0);
+        assertInstanceOf(PacketReading.Result.Success.class, result);
+        List<ServerPacket> packets = new ArrayList<>();
+        for (var parsed : ((PacketReading.Result.Success<ServerPacket>) result).packets()) {
+            packets.add(parsed.packet());
+        }
+        return packets;
+    }
+
+    /**
+     * Applies the movement packets the way the client does.
+     */
+    private static Pos clientPosition(Pos position, List<ServerPacket> packets) {
+        for (ServerPacket packet : packets) {
+            position = switch (packet) {
+                case EntityPositionAndRotationPacket relative -> position.add(
+                        relative.deltaX() / 4096d, relative.deltaY() / 4096d, relative.deltaZ() / 4096d);
+                case EntityPositionSyncPacket sync -> Pos.fromPoint(sync.position());
+                default -> position;
+            };
+        }
+        return position;
+    }
+}